@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.benchmark;
+
+import com.dooapp.fxform.validation.DefaultFXFormValidator;
+import com.dooapp.fxform.validation.FXFormValidator;
+import com.dooapp.fxform.validation.ValidationExecutors;
+import com.dooapp.fxform.validation.bulk.BulkValidationResult;
+import com.dooapp.fxform.validation.bulk.BulkValidator;
+import javafx.util.Callback;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk validation of 10000 {@link LargeBean}, a tenth of them invalid, with an increasing number of threads.
+ * The time per operation should decrease with the number of threads up to the number of available cores.
+ * <br>
+ * Created at 19/10/26 00:01.<br>
+ *
+ * @author agent <agent@local>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkValidationBenchmark {
+
+    private final static int BEANS = 10000;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    private ExecutorService executor;
+
+    private BulkValidator bulkValidator;
+
+    private List<LargeBean> beans;
+
+    @Setup
+    public void setup() {
+        executor = ValidationExecutors.newFixedThreadPool(threads);
+        bulkValidator = new BulkValidator(new Callback<Void, FXFormValidator>() {
+            @Override
+            public FXFormValidator call(Void aVoid) {
+                return new DefaultFXFormValidator();
+            }
+        }, executor);
+        beans = new ArrayList<LargeBean>(BEANS);
+        for (int i = 0; i < BEANS; i++) {
+            LargeBean bean = new LargeBean();
+            if (i % 10 == 0) {
+                bean.property0Property().set(null);
+            }
+            beans.add(bean);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public BulkValidationResult validate() throws InterruptedException {
+        return bulkValidator.validate(beans);
+    }
+
+}
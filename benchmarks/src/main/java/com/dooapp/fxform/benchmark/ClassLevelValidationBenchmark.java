@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.benchmark;
+
+import com.dooapp.fxform.validation.DefaultFXFormValidator;
+import org.openjdk.jmh.annotations.*;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.metadata.ConstraintDescriptor;
+import java.lang.annotation.ElementType;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class level validation of a bean with 100 constrained properties. Compares the class-level-only path of
+ * {@link DefaultFXFormValidator#validateClassConstraint(Object)} with a full validation of the bean filtered on
+ * class level violations.
+ * <br>
+ * Created at 18/10/26 23:52.<br>
+ *
+ * @author agent <agent@local>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClassLevelValidationBenchmark {
+
+    private DefaultFXFormValidator fxFormValidator;
+
+    private Validator validator;
+
+    private Set<ConstraintDescriptor<?>> classLevelConstraints;
+
+    private LargeBean validBean;
+
+    private LargeBean invalidBean;
+
+    @Setup
+    public void setup() {
+        fxFormValidator = new DefaultFXFormValidator();
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+        classLevelConstraints = validator.getConstraintsForClass(LargeBean.class).findConstraints().declaredOn(ElementType.TYPE).getConstraintDescriptors();
+        validBean = new LargeBean();
+        invalidBean = new LargeBean();
+        invalidBean.property0Property().set("");
+    }
+
+    @Benchmark
+    public List<ConstraintViolation> classLevelOnly() {
+        return fxFormValidator.validateClassConstraint(validBean);
+    }
+
+    @Benchmark
+    public List<ConstraintViolation> classLevelOnlyViolated() {
+        return fxFormValidator.validateClassConstraint(invalidBean);
+    }
+
+    @Benchmark
+    public List<ConstraintViolation> fullValidationFiltered() {
+        return filter(validator.validate(validBean));
+    }
+
+    @Benchmark
+    public List<ConstraintViolation> fullValidationFilteredViolated() {
+        return filter(validator.validate(invalidBean));
+    }
+
+    private List<ConstraintViolation> filter(Set<ConstraintViolation<LargeBean>> constraintViolations) {
+        List<ConstraintViolation> list = new LinkedList<ConstraintViolation>();
+        for (ConstraintViolation constraintViolation : constraintViolations) {
+            if (classLevelConstraints.contains(constraintViolation.getConstraintDescriptor())) {
+                list.add(constraintViolation);
+            }
+        }
+        return list;
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.dooapp.fxform.benchmark;
+
+import com.dooapp.fxform.FXForm;
+import com.dooapp.fxform.view.skin.FXMLSkin;
+import com.dooapp.fxform.view.skin.FXMLTemplateCache;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.URL;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creation of a form displayed with an FXMLSkin, the FXML template being read from its URL by each skin or from the
+ * template cache. Forms are created on the JavaFX application thread, {@value #OPERATIONS} per invocation.
+ * <br>
+ * Created at 19/10/26 00:14.<br>
+ *
+ * @author agent <agent@local>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dglass.platform=Monocle", "-Dmonocle.platform=Headless", "-Dprism.order=sw"})
+@State(Scope.Benchmark)
+public class FXMLSkinBenchmark {
+
+    private final static int OPERATIONS = 10;
+
+    @Param({"false", "true"})
+    public boolean cached;
+
+    private URL url;
+
+    private Fields10Bean source;
+
+    @Setup
+    public void setup() {
+        HeadlessToolkit.start();
+        url = FXMLSkinBenchmark.class.getResource("Fields10Bean_form.fxml");
+        source = new Fields10Bean();
+        FXMLTemplateCache.getDefault().clear();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public FXForm[] construct() {
+        return HeadlessToolkit.call(new Callable<FXForm[]>() {
+            @Override
+            public FXForm[] call() {
+                FXForm[] forms = new FXForm[OPERATIONS];
+                for (int i = 0; i < OPERATIONS; i++) {
+                    FXForm<Fields10Bean> form = new FXForm<Fields10Bean>();
+                    FXMLSkin skin = new FXMLSkin(form, url);
+                    if (cached) {
+                        skin.setTemplateCache(FXMLTemplateCache.getDefault());
+                    }
+                    form.setSkin(skin);
+                    form.setSource(source);
+                    forms[i] = form;
+                }
+                return forms;
+            }
+        });
+    }
+
+}
@@ -0,0 +1,510 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.benchmark;
+
+import javafx.beans.property.*;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+/**
+ * A bean with 100 properties of mixed types, used to measure the cost of a form by number of fields.
+ * The constraints are declared on the getters.
+ * <br>
+ * Created at 19/10/26 00:02.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class Fields100Bean {
+
+    private final StringProperty string0 = new SimpleStringProperty("value0");
+
+    private final IntegerProperty integer1 = new SimpleIntegerProperty(1);
+
+    private final BooleanProperty boolean2 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double3 = new SimpleDoubleProperty(3.5);
+
+    private final StringProperty string4 = new SimpleStringProperty("value4");
+
+    private final IntegerProperty integer5 = new SimpleIntegerProperty(5);
+
+    private final BooleanProperty boolean6 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double7 = new SimpleDoubleProperty(7.5);
+
+    private final StringProperty string8 = new SimpleStringProperty("value8");
+
+    private final IntegerProperty integer9 = new SimpleIntegerProperty(9);
+
+    private final BooleanProperty boolean10 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double11 = new SimpleDoubleProperty(11.5);
+
+    private final StringProperty string12 = new SimpleStringProperty("value12");
+
+    private final IntegerProperty integer13 = new SimpleIntegerProperty(13);
+
+    private final BooleanProperty boolean14 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double15 = new SimpleDoubleProperty(15.5);
+
+    private final StringProperty string16 = new SimpleStringProperty("value16");
+
+    private final IntegerProperty integer17 = new SimpleIntegerProperty(17);
+
+    private final BooleanProperty boolean18 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double19 = new SimpleDoubleProperty(19.5);
+
+    private final StringProperty string20 = new SimpleStringProperty("value20");
+
+    private final IntegerProperty integer21 = new SimpleIntegerProperty(21);
+
+    private final BooleanProperty boolean22 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double23 = new SimpleDoubleProperty(23.5);
+
+    private final StringProperty string24 = new SimpleStringProperty("value24");
+
+    private final IntegerProperty integer25 = new SimpleIntegerProperty(25);
+
+    private final BooleanProperty boolean26 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double27 = new SimpleDoubleProperty(27.5);
+
+    private final StringProperty string28 = new SimpleStringProperty("value28");
+
+    private final IntegerProperty integer29 = new SimpleIntegerProperty(29);
+
+    private final BooleanProperty boolean30 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double31 = new SimpleDoubleProperty(31.5);
+
+    private final StringProperty string32 = new SimpleStringProperty("value32");
+
+    private final IntegerProperty integer33 = new SimpleIntegerProperty(33);
+
+    private final BooleanProperty boolean34 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double35 = new SimpleDoubleProperty(35.5);
+
+    private final StringProperty string36 = new SimpleStringProperty("value36");
+
+    private final IntegerProperty integer37 = new SimpleIntegerProperty(37);
+
+    private final BooleanProperty boolean38 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double39 = new SimpleDoubleProperty(39.5);
+
+    private final StringProperty string40 = new SimpleStringProperty("value40");
+
+    private final IntegerProperty integer41 = new SimpleIntegerProperty(41);
+
+    private final BooleanProperty boolean42 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double43 = new SimpleDoubleProperty(43.5);
+
+    private final StringProperty string44 = new SimpleStringProperty("value44");
+
+    private final IntegerProperty integer45 = new SimpleIntegerProperty(45);
+
+    private final BooleanProperty boolean46 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double47 = new SimpleDoubleProperty(47.5);
+
+    private final StringProperty string48 = new SimpleStringProperty("value48");
+
+    private final IntegerProperty integer49 = new SimpleIntegerProperty(49);
+
+    private final BooleanProperty boolean50 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double51 = new SimpleDoubleProperty(51.5);
+
+    private final StringProperty string52 = new SimpleStringProperty("value52");
+
+    private final IntegerProperty integer53 = new SimpleIntegerProperty(53);
+
+    private final BooleanProperty boolean54 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double55 = new SimpleDoubleProperty(55.5);
+
+    private final StringProperty string56 = new SimpleStringProperty("value56");
+
+    private final IntegerProperty integer57 = new SimpleIntegerProperty(57);
+
+    private final BooleanProperty boolean58 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double59 = new SimpleDoubleProperty(59.5);
+
+    private final StringProperty string60 = new SimpleStringProperty("value60");
+
+    private final IntegerProperty integer61 = new SimpleIntegerProperty(61);
+
+    private final BooleanProperty boolean62 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double63 = new SimpleDoubleProperty(63.5);
+
+    private final StringProperty string64 = new SimpleStringProperty("value64");
+
+    private final IntegerProperty integer65 = new SimpleIntegerProperty(65);
+
+    private final BooleanProperty boolean66 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double67 = new SimpleDoubleProperty(67.5);
+
+    private final StringProperty string68 = new SimpleStringProperty("value68");
+
+    private final IntegerProperty integer69 = new SimpleIntegerProperty(69);
+
+    private final BooleanProperty boolean70 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double71 = new SimpleDoubleProperty(71.5);
+
+    private final StringProperty string72 = new SimpleStringProperty("value72");
+
+    private final IntegerProperty integer73 = new SimpleIntegerProperty(73);
+
+    private final BooleanProperty boolean74 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double75 = new SimpleDoubleProperty(75.5);
+
+    private final StringProperty string76 = new SimpleStringProperty("value76");
+
+    private final IntegerProperty integer77 = new SimpleIntegerProperty(77);
+
+    private final BooleanProperty boolean78 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double79 = new SimpleDoubleProperty(79.5);
+
+    private final StringProperty string80 = new SimpleStringProperty("value80");
+
+    private final IntegerProperty integer81 = new SimpleIntegerProperty(81);
+
+    private final BooleanProperty boolean82 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double83 = new SimpleDoubleProperty(83.5);
+
+    private final StringProperty string84 = new SimpleStringProperty("value84");
+
+    private final IntegerProperty integer85 = new SimpleIntegerProperty(85);
+
+    private final BooleanProperty boolean86 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double87 = new SimpleDoubleProperty(87.5);
+
+    private final StringProperty string88 = new SimpleStringProperty("value88");
+
+    private final IntegerProperty integer89 = new SimpleIntegerProperty(89);
+
+    private final BooleanProperty boolean90 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double91 = new SimpleDoubleProperty(91.5);
+
+    private final StringProperty string92 = new SimpleStringProperty("value92");
+
+    private final IntegerProperty integer93 = new SimpleIntegerProperty(93);
+
+    private final BooleanProperty boolean94 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double95 = new SimpleDoubleProperty(95.5);
+
+    private final StringProperty string96 = new SimpleStringProperty("value96");
+
+    private final IntegerProperty integer97 = new SimpleIntegerProperty(97);
+
+    private final BooleanProperty boolean98 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double99 = new SimpleDoubleProperty(99.5);
+
+    public StringProperty string0Property() {
+        return string0;
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString0() {
+        return string0.get();
+    }
+
+    @Min(0)
+    public int getInteger1() {
+        return integer1.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString4() {
+        return string4.get();
+    }
+
+    @Min(0)
+    public int getInteger5() {
+        return integer5.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString8() {
+        return string8.get();
+    }
+
+    @Min(0)
+    public int getInteger9() {
+        return integer9.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString12() {
+        return string12.get();
+    }
+
+    @Min(0)
+    public int getInteger13() {
+        return integer13.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString16() {
+        return string16.get();
+    }
+
+    @Min(0)
+    public int getInteger17() {
+        return integer17.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString20() {
+        return string20.get();
+    }
+
+    @Min(0)
+    public int getInteger21() {
+        return integer21.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString24() {
+        return string24.get();
+    }
+
+    @Min(0)
+    public int getInteger25() {
+        return integer25.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString28() {
+        return string28.get();
+    }
+
+    @Min(0)
+    public int getInteger29() {
+        return integer29.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString32() {
+        return string32.get();
+    }
+
+    @Min(0)
+    public int getInteger33() {
+        return integer33.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString36() {
+        return string36.get();
+    }
+
+    @Min(0)
+    public int getInteger37() {
+        return integer37.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString40() {
+        return string40.get();
+    }
+
+    @Min(0)
+    public int getInteger41() {
+        return integer41.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString44() {
+        return string44.get();
+    }
+
+    @Min(0)
+    public int getInteger45() {
+        return integer45.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString48() {
+        return string48.get();
+    }
+
+    @Min(0)
+    public int getInteger49() {
+        return integer49.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString52() {
+        return string52.get();
+    }
+
+    @Min(0)
+    public int getInteger53() {
+        return integer53.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString56() {
+        return string56.get();
+    }
+
+    @Min(0)
+    public int getInteger57() {
+        return integer57.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString60() {
+        return string60.get();
+    }
+
+    @Min(0)
+    public int getInteger61() {
+        return integer61.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString64() {
+        return string64.get();
+    }
+
+    @Min(0)
+    public int getInteger65() {
+        return integer65.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString68() {
+        return string68.get();
+    }
+
+    @Min(0)
+    public int getInteger69() {
+        return integer69.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString72() {
+        return string72.get();
+    }
+
+    @Min(0)
+    public int getInteger73() {
+        return integer73.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString76() {
+        return string76.get();
+    }
+
+    @Min(0)
+    public int getInteger77() {
+        return integer77.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString80() {
+        return string80.get();
+    }
+
+    @Min(0)
+    public int getInteger81() {
+        return integer81.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString84() {
+        return string84.get();
+    }
+
+    @Min(0)
+    public int getInteger85() {
+        return integer85.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString88() {
+        return string88.get();
+    }
+
+    @Min(0)
+    public int getInteger89() {
+        return integer89.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString92() {
+        return string92.get();
+    }
+
+    @Min(0)
+    public int getInteger93() {
+        return integer93.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString96() {
+        return string96.get();
+    }
+
+    @Min(0)
+    public int getInteger97() {
+        return integer97.get();
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.benchmark;
+
+import javafx.beans.property.*;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+/**
+ * A bean with 10 properties of mixed types, used to measure the cost of a form by number of fields.
+ * The constraints are declared on the getters.
+ * <br>
+ * Created at 19/10/26 00:02.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class Fields10Bean {
+
+    private final StringProperty string0 = new SimpleStringProperty("value0");
+
+    private final IntegerProperty integer1 = new SimpleIntegerProperty(1);
+
+    private final BooleanProperty boolean2 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double3 = new SimpleDoubleProperty(3.5);
+
+    private final StringProperty string4 = new SimpleStringProperty("value4");
+
+    private final IntegerProperty integer5 = new SimpleIntegerProperty(5);
+
+    private final BooleanProperty boolean6 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double7 = new SimpleDoubleProperty(7.5);
+
+    private final StringProperty string8 = new SimpleStringProperty("value8");
+
+    private final IntegerProperty integer9 = new SimpleIntegerProperty(9);
+
+    public StringProperty string0Property() {
+        return string0;
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString0() {
+        return string0.get();
+    }
+
+    @Min(0)
+    public int getInteger1() {
+        return integer1.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString4() {
+        return string4.get();
+    }
+
+    @Min(0)
+    public int getInteger5() {
+        return integer5.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString8() {
+        return string8.get();
+    }
+
+    @Min(0)
+    public int getInteger9() {
+        return integer9.get();
+    }
+
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.benchmark;
+
+import javafx.beans.property.*;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+/**
+ * A bean with 50 properties of mixed types, used to measure the cost of a form by number of fields.
+ * The constraints are declared on the getters.
+ * <br>
+ * Created at 19/10/26 00:02.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class Fields50Bean {
+
+    private final StringProperty string0 = new SimpleStringProperty("value0");
+
+    private final IntegerProperty integer1 = new SimpleIntegerProperty(1);
+
+    private final BooleanProperty boolean2 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double3 = new SimpleDoubleProperty(3.5);
+
+    private final StringProperty string4 = new SimpleStringProperty("value4");
+
+    private final IntegerProperty integer5 = new SimpleIntegerProperty(5);
+
+    private final BooleanProperty boolean6 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double7 = new SimpleDoubleProperty(7.5);
+
+    private final StringProperty string8 = new SimpleStringProperty("value8");
+
+    private final IntegerProperty integer9 = new SimpleIntegerProperty(9);
+
+    private final BooleanProperty boolean10 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double11 = new SimpleDoubleProperty(11.5);
+
+    private final StringProperty string12 = new SimpleStringProperty("value12");
+
+    private final IntegerProperty integer13 = new SimpleIntegerProperty(13);
+
+    private final BooleanProperty boolean14 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double15 = new SimpleDoubleProperty(15.5);
+
+    private final StringProperty string16 = new SimpleStringProperty("value16");
+
+    private final IntegerProperty integer17 = new SimpleIntegerProperty(17);
+
+    private final BooleanProperty boolean18 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double19 = new SimpleDoubleProperty(19.5);
+
+    private final StringProperty string20 = new SimpleStringProperty("value20");
+
+    private final IntegerProperty integer21 = new SimpleIntegerProperty(21);
+
+    private final BooleanProperty boolean22 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double23 = new SimpleDoubleProperty(23.5);
+
+    private final StringProperty string24 = new SimpleStringProperty("value24");
+
+    private final IntegerProperty integer25 = new SimpleIntegerProperty(25);
+
+    private final BooleanProperty boolean26 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double27 = new SimpleDoubleProperty(27.5);
+
+    private final StringProperty string28 = new SimpleStringProperty("value28");
+
+    private final IntegerProperty integer29 = new SimpleIntegerProperty(29);
+
+    private final BooleanProperty boolean30 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double31 = new SimpleDoubleProperty(31.5);
+
+    private final StringProperty string32 = new SimpleStringProperty("value32");
+
+    private final IntegerProperty integer33 = new SimpleIntegerProperty(33);
+
+    private final BooleanProperty boolean34 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double35 = new SimpleDoubleProperty(35.5);
+
+    private final StringProperty string36 = new SimpleStringProperty("value36");
+
+    private final IntegerProperty integer37 = new SimpleIntegerProperty(37);
+
+    private final BooleanProperty boolean38 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double39 = new SimpleDoubleProperty(39.5);
+
+    private final StringProperty string40 = new SimpleStringProperty("value40");
+
+    private final IntegerProperty integer41 = new SimpleIntegerProperty(41);
+
+    private final BooleanProperty boolean42 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double43 = new SimpleDoubleProperty(43.5);
+
+    private final StringProperty string44 = new SimpleStringProperty("value44");
+
+    private final IntegerProperty integer45 = new SimpleIntegerProperty(45);
+
+    private final BooleanProperty boolean46 = new SimpleBooleanProperty();
+
+    private final DoubleProperty double47 = new SimpleDoubleProperty(47.5);
+
+    private final StringProperty string48 = new SimpleStringProperty("value48");
+
+    private final IntegerProperty integer49 = new SimpleIntegerProperty(49);
+
+    public StringProperty string0Property() {
+        return string0;
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString0() {
+        return string0.get();
+    }
+
+    @Min(0)
+    public int getInteger1() {
+        return integer1.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString4() {
+        return string4.get();
+    }
+
+    @Min(0)
+    public int getInteger5() {
+        return integer5.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString8() {
+        return string8.get();
+    }
+
+    @Min(0)
+    public int getInteger9() {
+        return integer9.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString12() {
+        return string12.get();
+    }
+
+    @Min(0)
+    public int getInteger13() {
+        return integer13.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString16() {
+        return string16.get();
+    }
+
+    @Min(0)
+    public int getInteger17() {
+        return integer17.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString20() {
+        return string20.get();
+    }
+
+    @Min(0)
+    public int getInteger21() {
+        return integer21.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString24() {
+        return string24.get();
+    }
+
+    @Min(0)
+    public int getInteger25() {
+        return integer25.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString28() {
+        return string28.get();
+    }
+
+    @Min(0)
+    public int getInteger29() {
+        return integer29.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString32() {
+        return string32.get();
+    }
+
+    @Min(0)
+    public int getInteger33() {
+        return integer33.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString36() {
+        return string36.get();
+    }
+
+    @Min(0)
+    public int getInteger37() {
+        return integer37.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString40() {
+        return string40.get();
+    }
+
+    @Min(0)
+    public int getInteger41() {
+        return integer41.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString44() {
+        return string44.get();
+    }
+
+    @Min(0)
+    public int getInteger45() {
+        return integer45.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getString48() {
+        return string48.get();
+    }
+
+    @Min(0)
+    public int getInteger49() {
+        return integer49.get();
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.benchmark;
+
+import com.dooapp.fxform.HeadlessForm;
+import com.dooapp.fxform.validation.DefaultFXFormValidator;
+import com.dooapp.fxform.validation.FXFormValidator;
+import com.dooapp.fxform.validation.ValidationResult;
+import com.dooapp.fxform.validation.lightweight.LightweightFXFormValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the headless conversion and validation pipeline, as used to import beans without any user
+ * interface: each operation converts text inputs into a new {@link LargeBean} and validates the whole bean.
+ * <br>
+ * Created at 18/10/26 23:59.<br>
+ *
+ * @author agent <agent@local>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HeadlessFormBenchmark {
+
+    private final static int INPUTS = 10;
+
+    @Param({"default", "lightweight"})
+    public String validator;
+
+    private FXFormValidator fxFormValidator;
+
+    private HeadlessForm<LargeBean> form;
+
+    private String[] names;
+
+    @Setup
+    public void setup() {
+        fxFormValidator = "lightweight".equals(validator) ? new LightweightFXFormValidator() : new DefaultFXFormValidator();
+        form = new HeadlessForm<LargeBean>(new LargeBean(), fxFormValidator);
+        names = new String[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            names[i] = "property" + i;
+        }
+    }
+
+    /**
+     * Import a bean reusing the same form, elements are only created once.
+     */
+    @Benchmark
+    public ValidationResult importWithReusedForm() {
+        form.setSource(new LargeBean());
+        return importInputs(form);
+    }
+
+    /**
+     * Import a bean with a new form.
+     */
+    @Benchmark
+    public ValidationResult importWithNewForm() {
+        return importInputs(new HeadlessForm<LargeBean>(new LargeBean(), fxFormValidator));
+    }
+
+    private ValidationResult importInputs(HeadlessForm<LargeBean> headlessForm) {
+        for (String name : names) {
+            headlessForm.setText(name, "value of " + name);
+        }
+        return headlessForm.validate();
+    }
+
+}
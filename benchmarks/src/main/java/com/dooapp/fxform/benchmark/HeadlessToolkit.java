@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.benchmark;
+
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.stage.Stage;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Starts the JavaFX toolkit once per benchmark JVM. Forks are run with the Monocle headless platform, see the
+ * {@code @Fork} annotation of each benchmark, so that no display is needed. Monocle 8u76 only supports JavaFX 8, so
+ * the benchmarks module is only built by the jdk8 profile of the parent pom, on a JDK 8 bundling JavaFX.
+ * <p/>
+ * Forms and controls are created and updated on the JavaFX application thread through {@link #call(Callable)}.
+ * Benchmarks run their operations in batches, so that the cost of the hand-off to the JavaFX thread is spread over
+ * several operations.
+ * <br>
+ * Created at 19/10/26 00:02.<br>
+ *
+ * @author agent <agent@local>
+ */
+public final class HeadlessToolkit {
+
+    private final static CountDownLatch STARTED = new CountDownLatch(1);
+
+    private static boolean launched;
+
+    private HeadlessToolkit() {
+    }
+
+    /**
+     * Start the JavaFX toolkit if needed and wait until it is running.
+     */
+    public static void start() {
+        synchronized (HeadlessToolkit.class) {
+            if (!launched) {
+                launched = true;
+                Thread thread = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        Application.launch(ToolkitApplication.class);
+                    }
+                }, "fxform-benchmark-toolkit");
+                thread.setDaemon(true);
+                thread.start();
+            }
+        }
+        try {
+            STARTED.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while starting the JavaFX toolkit", e);
+        }
+    }
+
+    /**
+     * Run the given code on the JavaFX application thread and wait for its result.
+     *
+     * @param callable the code to run
+     * @return the result of the callable
+     */
+    public static <T> T call(Callable<T> callable) {
+        FutureTask<T> task = new FutureTask<T>(callable);
+        Platform.runLater(task);
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the JavaFX application thread", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to run on the JavaFX application thread", e.getCause());
+        }
+    }
+
+    public static class ToolkitApplication extends Application {
+
+        @Override
+        public void start(Stage stage) {
+            Platform.setImplicitExit(false);
+            STARTED.countDown();
+        }
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.benchmark;
+
+import com.dooapp.fxform.FXForm;
+import com.dooapp.fxform.view.FXFormSkin;
+import javafx.beans.property.Property;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A keystroke in a text editor: the new text goes through PropertyEditorController, which adapts it, validates it,
+ * updates the model and reflects the model value back to the view. Keystrokes are sent on the JavaFX application
+ * thread, {@value #OPERATIONS} per invocation.
+ * <br>
+ * Created at 19/10/26 00:02.<br>
+ *
+ * @author agent <agent@local>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dglass.platform=Monocle", "-Dmonocle.platform=Headless", "-Dprism.order=sw"})
+@State(Scope.Benchmark)
+public class KeystrokeBenchmark {
+
+    private final static int OPERATIONS = 100;
+
+    private final static String[] TEXTS = {"John", "Johnn"};
+
+    private Fields10Bean bean;
+
+    private Property textProperty;
+
+    private Property integerTextProperty;
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        HeadlessToolkit.start();
+        bean = new Fields10Bean();
+        HeadlessToolkit.call(new Callable<Void>() {
+            @Override
+            public Void call() {
+                FXForm<Fields10Bean> form = new FXForm<Fields10Bean>(bean);
+                FXFormSkin skin = (FXFormSkin) form.getSkin();
+                textProperty = skin.getEditor(form.getModel().getElement("string0")).getProperty();
+                integerTextProperty = skin.getEditor(form.getModel().getElement("integer1")).getProperty();
+                return null;
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public String typeText() {
+        return HeadlessToolkit.call(new Callable<String>() {
+            @Override
+            public String call() {
+                for (int i = 0; i < OPERATIONS; i++) {
+                    textProperty.setValue(TEXTS[index++ & 1]);
+                }
+                return bean.string0Property().get();
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public Object typeNumber() {
+        return HeadlessToolkit.call(new Callable<Object>() {
+            @Override
+            public Object call() {
+                for (int i = 0; i < OPERATIONS; i++) {
+                    integerTextProperty.setValue(Integer.toString(index++ & 0xFF));
+                }
+                return integerTextProperty.getValue();
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public Object typeInvalidNumber() {
+        return HeadlessToolkit.call(new Callable<Object>() {
+            @Override
+            public Object call() {
+                for (int i = 0; i < OPERATIONS; i++) {
+                    integerTextProperty.setValue((index++ & 1) == 0 ? "12a" : "12b");
+                }
+                return integerTextProperty.getValue();
+            }
+        });
+    }
+
+}
@@ -0,0 +1,836 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.benchmark;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+/**
+ * A bean with 100 constrained properties and a class level constraint. The property constraints are declared on
+ * the getters, since Bean Validation can not validate the property objects themselves.
+ * <br>
+ * Created at 18/10/26 23:52.<br>
+ *
+ * @author agent <agent@local>
+ */
+@FirstPropertyNotEmpty
+public class LargeBean {
+
+    private final StringProperty property0 = new SimpleStringProperty("value0");
+
+    private final StringProperty property1 = new SimpleStringProperty("value1");
+
+    private final StringProperty property2 = new SimpleStringProperty("value2");
+
+    private final StringProperty property3 = new SimpleStringProperty("value3");
+
+    private final StringProperty property4 = new SimpleStringProperty("value4");
+
+    private final StringProperty property5 = new SimpleStringProperty("value5");
+
+    private final StringProperty property6 = new SimpleStringProperty("value6");
+
+    private final StringProperty property7 = new SimpleStringProperty("value7");
+
+    private final StringProperty property8 = new SimpleStringProperty("value8");
+
+    private final StringProperty property9 = new SimpleStringProperty("value9");
+
+    private final StringProperty property10 = new SimpleStringProperty("value10");
+
+    private final StringProperty property11 = new SimpleStringProperty("value11");
+
+    private final StringProperty property12 = new SimpleStringProperty("value12");
+
+    private final StringProperty property13 = new SimpleStringProperty("value13");
+
+    private final StringProperty property14 = new SimpleStringProperty("value14");
+
+    private final StringProperty property15 = new SimpleStringProperty("value15");
+
+    private final StringProperty property16 = new SimpleStringProperty("value16");
+
+    private final StringProperty property17 = new SimpleStringProperty("value17");
+
+    private final StringProperty property18 = new SimpleStringProperty("value18");
+
+    private final StringProperty property19 = new SimpleStringProperty("value19");
+
+    private final StringProperty property20 = new SimpleStringProperty("value20");
+
+    private final StringProperty property21 = new SimpleStringProperty("value21");
+
+    private final StringProperty property22 = new SimpleStringProperty("value22");
+
+    private final StringProperty property23 = new SimpleStringProperty("value23");
+
+    private final StringProperty property24 = new SimpleStringProperty("value24");
+
+    private final StringProperty property25 = new SimpleStringProperty("value25");
+
+    private final StringProperty property26 = new SimpleStringProperty("value26");
+
+    private final StringProperty property27 = new SimpleStringProperty("value27");
+
+    private final StringProperty property28 = new SimpleStringProperty("value28");
+
+    private final StringProperty property29 = new SimpleStringProperty("value29");
+
+    private final StringProperty property30 = new SimpleStringProperty("value30");
+
+    private final StringProperty property31 = new SimpleStringProperty("value31");
+
+    private final StringProperty property32 = new SimpleStringProperty("value32");
+
+    private final StringProperty property33 = new SimpleStringProperty("value33");
+
+    private final StringProperty property34 = new SimpleStringProperty("value34");
+
+    private final StringProperty property35 = new SimpleStringProperty("value35");
+
+    private final StringProperty property36 = new SimpleStringProperty("value36");
+
+    private final StringProperty property37 = new SimpleStringProperty("value37");
+
+    private final StringProperty property38 = new SimpleStringProperty("value38");
+
+    private final StringProperty property39 = new SimpleStringProperty("value39");
+
+    private final StringProperty property40 = new SimpleStringProperty("value40");
+
+    private final StringProperty property41 = new SimpleStringProperty("value41");
+
+    private final StringProperty property42 = new SimpleStringProperty("value42");
+
+    private final StringProperty property43 = new SimpleStringProperty("value43");
+
+    private final StringProperty property44 = new SimpleStringProperty("value44");
+
+    private final StringProperty property45 = new SimpleStringProperty("value45");
+
+    private final StringProperty property46 = new SimpleStringProperty("value46");
+
+    private final StringProperty property47 = new SimpleStringProperty("value47");
+
+    private final StringProperty property48 = new SimpleStringProperty("value48");
+
+    private final StringProperty property49 = new SimpleStringProperty("value49");
+
+    private final StringProperty property50 = new SimpleStringProperty("value50");
+
+    private final StringProperty property51 = new SimpleStringProperty("value51");
+
+    private final StringProperty property52 = new SimpleStringProperty("value52");
+
+    private final StringProperty property53 = new SimpleStringProperty("value53");
+
+    private final StringProperty property54 = new SimpleStringProperty("value54");
+
+    private final StringProperty property55 = new SimpleStringProperty("value55");
+
+    private final StringProperty property56 = new SimpleStringProperty("value56");
+
+    private final StringProperty property57 = new SimpleStringProperty("value57");
+
+    private final StringProperty property58 = new SimpleStringProperty("value58");
+
+    private final StringProperty property59 = new SimpleStringProperty("value59");
+
+    private final StringProperty property60 = new SimpleStringProperty("value60");
+
+    private final StringProperty property61 = new SimpleStringProperty("value61");
+
+    private final StringProperty property62 = new SimpleStringProperty("value62");
+
+    private final StringProperty property63 = new SimpleStringProperty("value63");
+
+    private final StringProperty property64 = new SimpleStringProperty("value64");
+
+    private final StringProperty property65 = new SimpleStringProperty("value65");
+
+    private final StringProperty property66 = new SimpleStringProperty("value66");
+
+    private final StringProperty property67 = new SimpleStringProperty("value67");
+
+    private final StringProperty property68 = new SimpleStringProperty("value68");
+
+    private final StringProperty property69 = new SimpleStringProperty("value69");
+
+    private final StringProperty property70 = new SimpleStringProperty("value70");
+
+    private final StringProperty property71 = new SimpleStringProperty("value71");
+
+    private final StringProperty property72 = new SimpleStringProperty("value72");
+
+    private final StringProperty property73 = new SimpleStringProperty("value73");
+
+    private final StringProperty property74 = new SimpleStringProperty("value74");
+
+    private final StringProperty property75 = new SimpleStringProperty("value75");
+
+    private final StringProperty property76 = new SimpleStringProperty("value76");
+
+    private final StringProperty property77 = new SimpleStringProperty("value77");
+
+    private final StringProperty property78 = new SimpleStringProperty("value78");
+
+    private final StringProperty property79 = new SimpleStringProperty("value79");
+
+    private final StringProperty property80 = new SimpleStringProperty("value80");
+
+    private final StringProperty property81 = new SimpleStringProperty("value81");
+
+    private final StringProperty property82 = new SimpleStringProperty("value82");
+
+    private final StringProperty property83 = new SimpleStringProperty("value83");
+
+    private final StringProperty property84 = new SimpleStringProperty("value84");
+
+    private final StringProperty property85 = new SimpleStringProperty("value85");
+
+    private final StringProperty property86 = new SimpleStringProperty("value86");
+
+    private final StringProperty property87 = new SimpleStringProperty("value87");
+
+    private final StringProperty property88 = new SimpleStringProperty("value88");
+
+    private final StringProperty property89 = new SimpleStringProperty("value89");
+
+    private final StringProperty property90 = new SimpleStringProperty("value90");
+
+    private final StringProperty property91 = new SimpleStringProperty("value91");
+
+    private final StringProperty property92 = new SimpleStringProperty("value92");
+
+    private final StringProperty property93 = new SimpleStringProperty("value93");
+
+    private final StringProperty property94 = new SimpleStringProperty("value94");
+
+    private final StringProperty property95 = new SimpleStringProperty("value95");
+
+    private final StringProperty property96 = new SimpleStringProperty("value96");
+
+    private final StringProperty property97 = new SimpleStringProperty("value97");
+
+    private final StringProperty property98 = new SimpleStringProperty("value98");
+
+    private final StringProperty property99 = new SimpleStringProperty("value99");
+
+    public StringProperty property0Property() {
+        return property0;
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty0() {
+        return property0.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty1() {
+        return property1.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty2() {
+        return property2.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty3() {
+        return property3.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty4() {
+        return property4.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty5() {
+        return property5.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty6() {
+        return property6.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty7() {
+        return property7.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty8() {
+        return property8.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty9() {
+        return property9.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty10() {
+        return property10.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty11() {
+        return property11.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty12() {
+        return property12.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty13() {
+        return property13.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty14() {
+        return property14.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty15() {
+        return property15.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty16() {
+        return property16.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty17() {
+        return property17.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty18() {
+        return property18.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty19() {
+        return property19.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty20() {
+        return property20.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty21() {
+        return property21.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty22() {
+        return property22.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty23() {
+        return property23.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty24() {
+        return property24.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty25() {
+        return property25.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty26() {
+        return property26.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty27() {
+        return property27.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty28() {
+        return property28.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty29() {
+        return property29.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty30() {
+        return property30.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty31() {
+        return property31.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty32() {
+        return property32.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty33() {
+        return property33.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty34() {
+        return property34.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty35() {
+        return property35.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty36() {
+        return property36.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty37() {
+        return property37.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty38() {
+        return property38.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty39() {
+        return property39.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty40() {
+        return property40.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty41() {
+        return property41.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty42() {
+        return property42.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty43() {
+        return property43.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty44() {
+        return property44.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty45() {
+        return property45.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty46() {
+        return property46.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty47() {
+        return property47.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty48() {
+        return property48.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty49() {
+        return property49.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty50() {
+        return property50.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty51() {
+        return property51.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty52() {
+        return property52.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty53() {
+        return property53.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty54() {
+        return property54.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty55() {
+        return property55.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty56() {
+        return property56.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty57() {
+        return property57.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty58() {
+        return property58.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty59() {
+        return property59.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty60() {
+        return property60.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty61() {
+        return property61.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty62() {
+        return property62.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty63() {
+        return property63.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty64() {
+        return property64.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty65() {
+        return property65.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty66() {
+        return property66.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty67() {
+        return property67.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty68() {
+        return property68.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty69() {
+        return property69.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty70() {
+        return property70.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty71() {
+        return property71.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty72() {
+        return property72.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty73() {
+        return property73.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty74() {
+        return property74.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty75() {
+        return property75.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty76() {
+        return property76.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty77() {
+        return property77.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty78() {
+        return property78.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty79() {
+        return property79.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty80() {
+        return property80.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty81() {
+        return property81.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty82() {
+        return property82.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty83() {
+        return property83.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty84() {
+        return property84.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty85() {
+        return property85.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty86() {
+        return property86.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty87() {
+        return property87.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty88() {
+        return property88.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty89() {
+        return property89.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty90() {
+        return property90.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty91() {
+        return property91.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty92() {
+        return property92.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty93() {
+        return property93.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty94() {
+        return property94.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty95() {
+        return property95.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty96() {
+        return property96.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty97() {
+        return property97.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty98() {
+        return property98.get();
+    }
+
+    @NotNull
+    @Size(max = 64)
+    public String getProperty99() {
+        return property99.get();
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.benchmark;
+
+import com.dooapp.fxform.HeadlessForm;
+import com.dooapp.fxform.adapter.Adapter;
+import com.dooapp.fxform.adapter.DefaultAdapterProvider;
+import com.dooapp.fxform.model.Element;
+import com.dooapp.fxform.view.FXFormNode;
+import com.dooapp.fxform.view.factory.DefaultFactoryProvider;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.StringProperty;
+import javafx.util.Callback;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolution of adapters and node factories, done for each element of a form and, for adapters, on each view
+ * or model change.
+ * <br>
+ * Created at 19/10/26 00:02.<br>
+ *
+ * @author agent <agent@local>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResolutionBenchmark {
+
+    private DefaultAdapterProvider adapterProvider;
+
+    private DefaultFactoryProvider factoryProvider;
+
+    private Element stringElement;
+
+    private Element integerElement;
+
+    private Element doubleElement;
+
+    @Setup
+    public void setup() {
+        adapterProvider = new DefaultAdapterProvider();
+        factoryProvider = new DefaultFactoryProvider();
+        HeadlessForm<Fields10Bean> form = new HeadlessForm<Fields10Bean>(new Fields10Bean());
+        stringElement = form.getElement("string0");
+        integerElement = form.getElement("integer1");
+        doubleElement = form.getElement("double3");
+    }
+
+    @Benchmark
+    public Adapter resolveStringAdapter() {
+        return adapterProvider.getAdapter(stringElement.getType(), StringProperty.class, stringElement, null);
+    }
+
+    @Benchmark
+    public Adapter resolveIntegerAdapter() {
+        return adapterProvider.getAdapter(integerElement.getType(), StringProperty.class, integerElement, null);
+    }
+
+    @Benchmark
+    public Adapter resolveDoubleAdapter() {
+        return adapterProvider.getAdapter(doubleElement.getType(), DoubleProperty.class, doubleElement, null);
+    }
+
+    @Benchmark
+    public Callback<Void, FXFormNode> resolveStringFactory() {
+        return factoryProvider.getFactory(stringElement);
+    }
+
+    @Benchmark
+    public Callback<Void, FXFormNode> resolveDoubleFactory() {
+        return factoryProvider.getFactory(doubleElement);
+    }
+
+}
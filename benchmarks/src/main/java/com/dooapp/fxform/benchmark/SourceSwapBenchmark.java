@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.benchmark;
+
+import com.dooapp.fxform.FXForm;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Swapping the source of a displayed form. A source of the same class only rebinds the existing elements,
+ * a source of another class rebuilds the elements, controllers and nodes. Sources are swapped on the JavaFX
+ * application thread, {@value #OPERATIONS} times per invocation.
+ * <br>
+ * Created at 19/10/26 00:02.<br>
+ *
+ * @author agent <agent@local>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dglass.platform=Monocle", "-Dmonocle.platform=Headless", "-Dprism.order=sw"})
+@State(Scope.Benchmark)
+public class SourceSwapBenchmark {
+
+    private final static int OPERATIONS = 20;
+
+    private FXForm<Object> form;
+
+    private Object[] sameClassSources;
+
+    private Object[] differentClassSources;
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        HeadlessToolkit.start();
+        form = HeadlessToolkit.call(new Callable<FXForm<Object>>() {
+            @Override
+            public FXForm<Object> call() {
+                return new FXForm<Object>(new Fields50Bean());
+            }
+        });
+        sameClassSources = new Object[]{new Fields50Bean(), new Fields50Bean()};
+        differentClassSources = new Object[]{new Fields10Bean(), new Fields50Bean()};
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public Object swapSameClass() {
+        return swap(sameClassSources);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public Object swapDifferentClass() {
+        return swap(differentClassSources);
+    }
+
+    private Object swap(final Object[] sources) {
+        return HeadlessToolkit.call(new Callable<Object>() {
+            @Override
+            public Object call() {
+                for (int i = 0; i < OPERATIONS; i++) {
+                    form.setSource(sources[index++ & 1]);
+                }
+                return form.getSource();
+            }
+        });
+    }
+
+}
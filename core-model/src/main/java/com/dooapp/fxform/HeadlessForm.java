@@ -0,0 +1,334 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform;
+
+import com.dooapp.fxform.adapter.Adapter;
+import com.dooapp.fxform.adapter.AdapterProvider;
+import com.dooapp.fxform.adapter.AnnotationAdapterProvider;
+import com.dooapp.fxform.adapter.DefaultAdapterProvider;
+import com.dooapp.fxform.filter.FieldFilter;
+import com.dooapp.fxform.filter.FilterException;
+import com.dooapp.fxform.filter.NonVisualFilter;
+import com.dooapp.fxform.metrics.FormMetrics;
+import com.dooapp.fxform.metrics.FormMetricsRegistry;
+import com.dooapp.fxform.model.*;
+import com.dooapp.fxform.reflection.MultipleBeanSource;
+import com.dooapp.fxform.reflection.impl.ReflectionFieldProvider;
+import com.dooapp.fxform.validation.DefaultFXFormValidator;
+import com.dooapp.fxform.validation.FXFormValidator;
+import com.dooapp.fxform.validation.FXFormValidators;
+import com.dooapp.fxform.validation.NotAdaptableInputValue;
+import com.dooapp.fxform.validation.ValidationResult;
+import javafx.beans.binding.ObjectBinding;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.StringProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+import javax.validation.ConstraintViolation;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The model of a form: the elements of a source bean together with the adapters and the validator used to update
+ * them. A HeadlessForm does not need any scene graph nor a started JavaFX toolkit, so it can be used to convert
+ * and validate beans outside of a user interface. {@link FXForm} displays a HeadlessForm.
+ * <br>
+ * Created at 18/10/26 23:59.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class HeadlessForm<T> {
+
+    private final static Logger logger = Logger.getLogger(HeadlessForm.class.getName());
+
+    private final ObjectProperty<T> source = new SimpleObjectProperty<T>();
+
+    private final ObservableList<FieldFilter> filters = FXCollections.observableList(new LinkedList<FieldFilter>());
+
+    private final ObservableList<Element> elements = FXCollections.observableArrayList();
+
+    private final ObservableList<Element> unmodifiableElements = FXCollections.unmodifiableObservableList(elements);
+
+    private final ObjectProperty<FXFormValidator> validator = new SimpleObjectProperty<FXFormValidator>();
+
+    private final ObjectProperty<AdapterProvider> adapterProvider = new SimpleObjectProperty<AdapterProvider>(new DefaultAdapterProvider());
+
+    private final AnnotationAdapterProvider annotationAdapterProvider = new AnnotationAdapterProvider();
+
+    private final ElementFactory elementFactory = new DefaultElementFactory();
+
+    public HeadlessForm() {
+        this(null, new DefaultFXFormValidator());
+    }
+
+    public HeadlessForm(T source) {
+        this(source, new DefaultFXFormValidator());
+    }
+
+    public HeadlessForm(T source, FXFormValidator validator) {
+        this.validator.set(validator);
+        this.source.addListener(new ChangeListener<T>() {
+            public void changed(ObservableValue<? extends T> observableValue, T t, T t1) {
+                if (t1 == null) {
+                    clearElements();
+                } else if (elements.isEmpty() || (t1.getClass() != t.getClass())) {
+                    updateElements();
+                }
+            }
+        });
+        filters.add(new NonVisualFilter());
+        filters.addListener(new ListChangeListener<FieldFilter>() {
+            public void onChanged(Change<? extends FieldFilter> change) {
+                updateElements();
+            }
+        });
+        setSource(source);
+    }
+
+    private void clearElements() {
+        if (elements.isEmpty()) {
+            return;
+        }
+        List<Element> disposed = new ArrayList<Element>(elements);
+        elements.clear();
+        for (Element element : disposed) {
+            element.dispose();
+        }
+    }
+
+    private void updateElements() {
+        List<Element> created = Collections.emptyList();
+        if (source.get() != null) {
+            try {
+                created = createElements();
+            } catch (FormException e) {
+                logger.log(Level.SEVERE, e.getMessage(), e);
+            }
+        }
+        List<Element> disposed = new ArrayList<Element>(elements);
+        elements.setAll(created);
+        for (Element element : disposed) {
+            element.dispose();
+        }
+    }
+
+    /**
+     * Create the elements of the current source, bound to the source of this form and filtered by the filters of
+     * this form.
+     *
+     * @return the created elements
+     * @throws FormException if a filter can not be applied
+     */
+    protected List<Element> createElements() throws FormException {
+        List<Field> fields = new ReflectionFieldProvider().getProperties(source.get());
+        List<Element> elements = new LinkedList<Element>();
+        for (final Field field : fields) {
+            final Element element = elementFactory.create(field);
+            if (element != null) {
+                element.sourceProperty().bind(new ObjectBinding() {
+                    {
+                        bind(source);
+                    }
+
+                    @Override
+                    protected Object computeValue() {
+                        Object value = source.get();
+                        if (value != null && value instanceof MultipleBeanSource) {
+                            value = ((MultipleBeanSource) value).getSource(element);
+                        }
+                        if (value != null && !field.getDeclaringClass().isInstance(value)) {
+                            // the source class changed, this element is about to be replaced
+                            return null;
+                        }
+                        return value;
+                    }
+                });
+                // if something went wrong and we are not able to get element type, ignore it
+                if (element.getType() != null) {
+                    elements.add(element);
+                }
+            }
+        }
+        for (FieldFilter filter : filters) {
+            try {
+                elements = filter.filter(elements);
+            } catch (FilterException e) {
+                throw new FormException("Something went wrong happened while applying " + filter + ":\n" + e.getMessage(), e);
+            }
+        }
+        return elements;
+    }
+
+    /**
+     * Get the element with the given name.
+     *
+     * @param name the name of the element
+     * @return the element or null if the form has no element with this name
+     */
+    public Element getElement(String name) {
+        for (Element element : elements) {
+            if (name.equals(element.getName())) {
+                return element;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adapt the given input to the type of an element, validate it and update the model if it does not violate
+     * any strict constraint.
+     *
+     * @param element   the element to update
+     * @param input     the input value
+     * @param inputType the property type holding the input, e.g. StringProperty for a text input
+     * @return the violations of the input value
+     */
+    public ValidationResult setInput(Element element, Object input, Class<?> inputType) {
+        Adapter adapter = annotationAdapterProvider.getAdapter(element.getType(), inputType, element, null);
+        if (adapter == null) {
+            adapter = adapterProvider.get().getAdapter(element.getType(), inputType, element, null);
+        }
+        Object newValue;
+        try {
+            newValue = adapter.adaptFrom(input);
+        } catch (Exception e) {
+            ConstraintViolation violation = new NotAdaptableInputValue(element, input, validator.get().getMessageInterpolator());
+            return new ValidationResult(Collections.singletonList(violation), Collections.<ConstraintViolation>emptyList());
+        }
+        ValidationResult result = validate(element, newValue);
+        if (result.getErrors().isEmpty() && element instanceof PropertyElement) {
+            ((PropertyElement) element).setValue(newValue);
+        }
+        return result;
+    }
+
+    /**
+     * Convert the given text to the type of the named element, validate it and update the model if it does not
+     * violate any strict constraint.
+     *
+     * @param name the name of the element
+     * @param text the text input
+     * @return the violations of the input value
+     */
+    public ValidationResult setText(String name, String text) {
+        Element element = getElement(name);
+        if (element == null) {
+            throw new IllegalArgumentException("No element named " + name + " in " + this);
+        }
+        return setInput(element, text, StringProperty.class);
+    }
+
+    /**
+     * Validate a value of an element without updating the model.
+     *
+     * @param element  the element
+     * @param newValue the value to check
+     * @return the violations of the value
+     */
+    public ValidationResult validate(Element element, Object newValue) {
+        if (!FXFormValidators.isConstrained(validator.get(), element)) {
+            return ValidationResult.EMPTY;
+        }
+        FormMetrics metrics = FormMetricsRegistry.getMetrics();
+        if (!metrics.isEnabled()) {
+            return FXFormValidators.validateGroups(validator.get(), element, newValue);
+        }
+        long start = System.nanoTime();
+        ValidationResult result = FXFormValidators.validateGroups(validator.get(), element, newValue);
+        metrics.elementValidated(element, result.getErrors().size() + result.getWarnings().size(), System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Validate the current values of all elements and the class level constraints of the source.
+     *
+     * @return all violations, class level violations are reported as errors
+     */
+    public ValidationResult validate() {
+        List<ConstraintViolation> errors = new ArrayList<ConstraintViolation>();
+        List<ConstraintViolation> warnings = new ArrayList<ConstraintViolation>();
+        for (Element element : elements) {
+            ValidationResult result = validate(element, element.getValue());
+            errors.addAll(result.getErrors());
+            warnings.addAll(result.getWarnings());
+        }
+        if (source.get() != null && FXFormValidators.hasClassConstraints(validator.get(), source.get())) {
+            errors.addAll(validator.get().validateClassConstraint(source.get()));
+        }
+        if (errors.isEmpty() && warnings.isEmpty()) {
+            return ValidationResult.EMPTY;
+        }
+        return new ValidationResult(errors, warnings);
+    }
+
+    /**
+     * Get the elements of the current source. This list is updated each time the class of the source or the filters
+     * change.
+     *
+     * @return
+     */
+    public ObservableList<Element> getElements() {
+        return unmodifiableElements;
+    }
+
+    public T getSource() {
+        return source.get();
+    }
+
+    public void setSource(T source) {
+        this.source.set(source);
+    }
+
+    public ObjectProperty<T> sourceProperty() {
+        return source;
+    }
+
+    public ObservableList<FieldFilter> getFilters() {
+        return filters;
+    }
+
+    public FXFormValidator getValidator() {
+        return validator.get();
+    }
+
+    public void setValidator(FXFormValidator validator) {
+        this.validator.set(validator);
+    }
+
+    public ObjectProperty<FXFormValidator> validatorProperty() {
+        return validator;
+    }
+
+    public AdapterProvider getAdapterProvider() {
+        return adapterProvider.get();
+    }
+
+    public void setAdapterProvider(AdapterProvider adapterProvider) {
+        this.adapterProvider.set(adapterProvider);
+    }
+
+    public ObjectProperty<AdapterProvider> adapterProviderProperty() {
+        return adapterProvider;
+    }
+
+}
@@ -37,7 +37,9 @@ public class DefaultAdapterProvider implements AdapterProvider {
 
     private final Map<AdapterMatcher, Adapter> USER_MAP = new LinkedHashMap();
 
-    public DefaultAdapterProvider() {
+    static {
+        // the defaults are registered once: matchers rely on identity equality, so registering them for each
+        // provider instance would make the shared map grow with every form created
         DEFAULT_MAP.put(new AdapterMatcher() {
             @Override
             public boolean matches(Class fromClass, Class toClass, Element element, FXFormNode fxFormNode) {
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.metrics;
+
+import com.dooapp.fxform.model.Element;
+
+/**
+ * Receives timings and counts of the form lifecycle. Durations are in nanoseconds.<br>
+ * <br>
+ * Implementations are called on the JavaFX application thread, except {@link #elementValidated} that is also called
+ * from the threads running asynchronous or bulk validations, so they must be thread safe.
+ * Callers check {@link #isEnabled()} before measuring anything, so that disabled metrics cost nothing.
+ * <p/>
+ * @see FormMetricsRegistry
+ * <br>
+ * Created at 19/10/26 00:04.<br>
+ *
+ * @author agent <agent@local>
+ */
+public interface FormMetrics {
+
+    /**
+     * @return false if this implementation ignores all measures
+     */
+    public boolean isEnabled();
+
+    /**
+     * The controllers of a form were created.
+     *
+     * @param beanClass    the class of the form source
+     * @param elementCount the number of elements of the form
+     * @param duration     the duration of the creation
+     */
+    public void formBuilt(Class<?> beanClass, int elementCount, long duration);
+
+    /**
+     * The controllers of a form were disposed.
+     *
+     * @param beanClass    the class of the form source, might be null if the source was cleared
+     * @param elementCount the number of disposed elements
+     * @param duration     the duration of the disposal
+     */
+    public void formDisposed(Class<?> beanClass, int elementCount, long duration);
+
+    /**
+     * The controller of an element was created, i.e. the nodes of the element were created and bound to the model.
+     *
+     * @param element  the element
+     * @param duration the duration of the creation of the controller
+     */
+    public void elementBound(Element element, long duration);
+
+    /**
+     * The nodes of an element were created by the skin.
+     *
+     * @param element  the element
+     * @param duration the duration of the creation of all nodes of the element
+     */
+    public void nodesCreated(Element element, long duration);
+
+    /**
+     * A node factory was resolved for an element.
+     *
+     * @param element  the element
+     * @param duration the duration of the resolution
+     */
+    public void factoryResolved(Element element, long duration);
+
+    /**
+     * An adapter was resolved for an element.
+     *
+     * @param element  the element
+     * @param cacheHit true if the adapter was found in the cache of the controller
+     * @param duration the duration of the resolution
+     */
+    public void adapterResolved(Element element, boolean cacheHit, long duration);
+
+    /**
+     * A value of an element was validated.
+     *
+     * @param element        the element
+     * @param violationCount the number of violations, errors and warnings
+     * @param duration       the duration of the validation
+     */
+    public void elementValidated(Element element, int violationCount, long duration);
+
+    /**
+     * The class level constraints of a bean were validated.
+     *
+     * @param beanClass      the class of the bean
+     * @param violationCount the number of violations
+     * @param duration       the duration of the validation
+     */
+    public void classValidated(Class<?> beanClass, int violationCount, long duration);
+
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.metrics;
+
+import com.dooapp.fxform.model.Element;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the form lifecycle timings in memory, in one {@link LatencyHistogram} per measure, so that percentiles can
+ * be exposed by the application.
+ * <pre>
+ * HistogramFormMetrics metrics = new HistogramFormMetrics();
+ * FormMetricsRegistry.setMetrics(metrics);
+ * ...
+ * long p99 = metrics.getHistogram(HistogramFormMetrics.ELEMENT_VALIDATION).getPercentile(99);
+ * </pre>
+ * <br>
+ * Created at 19/10/26 00:04.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class HistogramFormMetrics implements FormMetrics {
+
+    public final static String FORM_BUILD = "form.build";
+
+    public final static String FORM_DISPOSE = "form.dispose";
+
+    public final static String ELEMENT_BIND = "element.bind";
+
+    public final static String NODES_CREATION = "element.nodes";
+
+    public final static String FACTORY_RESOLUTION = "factory.resolution";
+
+    public final static String ADAPTER_RESOLUTION = "adapter.resolution";
+
+    public final static String ELEMENT_VALIDATION = "element.validation";
+
+    public final static String CLASS_VALIDATION = "class.validation";
+
+    private final Map<String, LatencyHistogram> histograms;
+
+    private final LatencyHistogram formBuild = new LatencyHistogram();
+
+    private final LatencyHistogram formDispose = new LatencyHistogram();
+
+    private final LatencyHistogram elementBind = new LatencyHistogram();
+
+    private final LatencyHistogram nodesCreation = new LatencyHistogram();
+
+    private final LatencyHistogram factoryResolution = new LatencyHistogram();
+
+    private final LatencyHistogram adapterResolution = new LatencyHistogram();
+
+    private final LatencyHistogram elementValidation = new LatencyHistogram();
+
+    private final LatencyHistogram classValidation = new LatencyHistogram();
+
+    private final AtomicLong adapterCacheHits = new AtomicLong();
+
+    private final AtomicLong adapterCacheMisses = new AtomicLong();
+
+    private final AtomicLong violations = new AtomicLong();
+
+    public HistogramFormMetrics() {
+        Map<String, LatencyHistogram> map = new LinkedHashMap<String, LatencyHistogram>();
+        map.put(FORM_BUILD, formBuild);
+        map.put(FORM_DISPOSE, formDispose);
+        map.put(ELEMENT_BIND, elementBind);
+        map.put(NODES_CREATION, nodesCreation);
+        map.put(FACTORY_RESOLUTION, factoryResolution);
+        map.put(ADAPTER_RESOLUTION, adapterResolution);
+        map.put(ELEMENT_VALIDATION, elementValidation);
+        map.put(CLASS_VALIDATION, classValidation);
+        histograms = Collections.unmodifiableMap(map);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void formBuilt(Class<?> beanClass, int elementCount, long duration) {
+        formBuild.record(duration);
+    }
+
+    @Override
+    public void formDisposed(Class<?> beanClass, int elementCount, long duration) {
+        formDispose.record(duration);
+    }
+
+    @Override
+    public void elementBound(Element element, long duration) {
+        elementBind.record(duration);
+    }
+
+    @Override
+    public void nodesCreated(Element element, long duration) {
+        nodesCreation.record(duration);
+    }
+
+    @Override
+    public void factoryResolved(Element element, long duration) {
+        factoryResolution.record(duration);
+    }
+
+    @Override
+    public void adapterResolved(Element element, boolean cacheHit, long duration) {
+        adapterResolution.record(duration);
+        if (cacheHit) {
+            adapterCacheHits.incrementAndGet();
+        } else {
+            adapterCacheMisses.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void elementValidated(Element element, int violationCount, long duration) {
+        elementValidation.record(duration);
+        violations.addAndGet(violationCount);
+    }
+
+    @Override
+    public void classValidated(Class<?> beanClass, int violationCount, long duration) {
+        classValidation.record(duration);
+        violations.addAndGet(violationCount);
+    }
+
+    /**
+     * Get the histogram of a measure.
+     *
+     * @param name one of the measure names defined by this class, e.g. {@link #FORM_BUILD}
+     * @return the histogram or null if the name is unknown
+     */
+    public LatencyHistogram getHistogram(String name) {
+        return histograms.get(name);
+    }
+
+    public Map<String, LatencyHistogram> getHistograms() {
+        return histograms;
+    }
+
+    public long getAdapterCacheHits() {
+        return adapterCacheHits.get();
+    }
+
+    public long getAdapterCacheMisses() {
+        return adapterCacheMisses.get();
+    }
+
+    /**
+     * @return the number of constraint violations reported by element and class level validations
+     */
+    public long getViolationCount() {
+        return violations.get();
+    }
+
+    public void reset() {
+        for (LatencyHistogram histogram : histograms.values()) {
+            histogram.reset();
+        }
+        adapterCacheHits.set(0);
+        adapterCacheMisses.set(0);
+        violations.set(0);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+            builder.append(entry.getKey()).append(": ").append(entry.getValue()).append('\n');
+        }
+        builder.append("adapter cache hits=").append(getAdapterCacheHits())
+                .append(" misses=").append(getAdapterCacheMisses())
+                .append("\nviolations=").append(getViolationCount());
+        return builder.toString();
+    }
+
+}
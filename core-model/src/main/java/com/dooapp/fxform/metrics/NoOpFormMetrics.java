@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.metrics;
+
+import com.dooapp.fxform.model.Element;
+
+/**
+ * The default metrics, ignoring all measures. Can be extended to only implement some of the measures: subclasses
+ * are enabled, so that the form reports the measures to them.
+ * <br>
+ * Created at 19/10/26 00:04.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class NoOpFormMetrics implements FormMetrics {
+
+    public final static NoOpFormMetrics INSTANCE = new NoOpFormMetrics();
+
+    /**
+     * @return false for this class, which ignores all measures, true for its subclasses
+     */
+    @Override
+    public boolean isEnabled() {
+        return getClass() != NoOpFormMetrics.class;
+    }
+
+    @Override
+    public void formBuilt(Class<?> beanClass, int elementCount, long duration) {
+    }
+
+    @Override
+    public void formDisposed(Class<?> beanClass, int elementCount, long duration) {
+    }
+
+    @Override
+    public void elementBound(Element element, long duration) {
+    }
+
+    @Override
+    public void nodesCreated(Element element, long duration) {
+    }
+
+    @Override
+    public void factoryResolved(Element element, long duration) {
+    }
+
+    @Override
+    public void adapterResolved(Element element, boolean cacheHit, long duration) {
+    }
+
+    @Override
+    public void elementValidated(Element element, int violationCount, long duration) {
+    }
+
+    @Override
+    public void classValidated(Class<?> beanClass, int violationCount, long duration) {
+    }
+
+}
@@ -14,12 +14,14 @@ package com.dooapp.fxform.model.impl;
 
 import com.dooapp.fxform.model.Element;
 import javafx.beans.InvalidationListener;
+import javafx.beans.WeakListener;
 import javafx.beans.binding.ObjectBinding;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -41,6 +43,7 @@ public abstract class AbstractSourceElement<SourceType, WrappedType> implements
     protected AbstractSourceElement() {
         wrappedProperty().addListener(new ChangeListener<ObservableValue<WrappedType>>() {
             public void changed(ObservableValue<? extends ObservableValue<WrappedType>> observableValue, ObservableValue<WrappedType> wrappedTypeObservableValue, ObservableValue<WrappedType> wrappedTypeObservableValue1) {
+                purgeListeners(wrappedTypeObservableValue);
                 for (InvalidationListener invalidationListener : invalidationListeners) {
                     wrappedTypeObservableValue.removeListener(invalidationListener);
                     if (wrappedTypeObservableValue1 != null) {
@@ -72,6 +75,7 @@ public abstract class AbstractSourceElement<SourceType, WrappedType> implements
     }
 
     public void addListener(ChangeListener changeListener) {
+        purgeListeners(wrappedProperty().getValue());
         changeListeners.add(changeListener);
         wrappedProperty().getValue().addListener(changeListener);
     }
@@ -84,6 +88,7 @@ public abstract class AbstractSourceElement<SourceType, WrappedType> implements
     }
 
     public void addListener(InvalidationListener invalidationListener) {
+        purgeListeners(wrappedProperty().getValue());
         invalidationListeners.add(invalidationListener);
         wrappedProperty().addListener(invalidationListener);
     }
@@ -95,9 +100,47 @@ public abstract class AbstractSourceElement<SourceType, WrappedType> implements
         }
     }
 
+    /**
+     * Remove the weak listeners whose target was garbage collected.
+     *
+     * @param wrapped the observable value the change listeners are currently registered on
+     */
+    private void purgeListeners(ObservableValue<WrappedType> wrapped) {
+        for (Iterator<InvalidationListener> iterator = invalidationListeners.iterator(); iterator.hasNext(); ) {
+            InvalidationListener invalidationListener = iterator.next();
+            if (invalidationListener instanceof WeakListener && ((WeakListener) invalidationListener).wasGarbageCollected()) {
+                iterator.remove();
+                wrappedProperty().removeListener(invalidationListener);
+            }
+        }
+        for (Iterator<ChangeListener> iterator = changeListeners.iterator(); iterator.hasNext(); ) {
+            ChangeListener changeListener = iterator.next();
+            if (changeListener instanceof WeakListener && ((WeakListener) changeListener).wasGarbageCollected()) {
+                iterator.remove();
+                if (wrapped != null) {
+                    wrapped.removeListener(changeListener);
+                }
+            }
+        }
+    }
+
     public void dispose() {
+        // detach the listeners that are still registered so that the bean does not retain them
+        ObservableValue<WrappedType> wrapped = value == null ? null : value.getValue();
+        for (InvalidationListener invalidationListener : invalidationListeners) {
+            wrappedProperty().removeListener(invalidationListener);
+        }
+        if (wrapped != null) {
+            for (ChangeListener changeListener : changeListeners) {
+                wrapped.removeListener(changeListener);
+            }
+        }
+        invalidationListeners.clear();
+        changeListeners.clear();
         source.unbind();
-        value.dispose();
+        if (value != null) {
+            value.dispose();
+        }
     }
 
     public Object getBean() {
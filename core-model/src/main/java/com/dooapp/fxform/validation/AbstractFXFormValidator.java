@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.dooapp.fxform.validation;
+
+import com.dooapp.fxform.model.Element;
+
+/**
+ * Base class of the validators supporting the optimized validation paths of the form. Validators implementing
+ * {@link FXFormValidator} directly keep working: the form then falls back to the previous behaviour, see
+ * {@link FXFormValidators}.
+ * <br>
+ * Created at 19/10/26 00:42.<br>
+ *
+ * @author agent <agent@local>
+ */
+public abstract class AbstractFXFormValidator implements FXFormValidator {
+
+    /**
+     * Validate the new value of an element against the default and the {@link Warning} groups. This implementation
+     * validates each group in turn, subclasses can override it to validate both groups in a single pass.
+     *
+     * @param element  the element to check
+     * @param newValue the new value of the element
+     * @return the constraint violations partitioned by severity
+     */
+    public ValidationResult validateGroups(Element element, Object newValue) {
+        return FXFormValidators.validateEachGroup(this, element, newValue);
+    }
+
+    /**
+     * Check whether the given element declares constraints. Elements without constraints are not validated. This
+     * implementation returns true, so that all elements are validated.
+     *
+     * @param element the element to check
+     * @return true if the element declares at least one constraint
+     */
+    public boolean isConstrained(Element element) {
+        return true;
+    }
+
+    /**
+     * Check whether the class of the given bean declares class level constraints. The class level constraints of a
+     * bean are not validated when it does not. This implementation returns true.
+     *
+     * @param bean the bean to check
+     * @return true if the bean class declares at least one class level constraint
+     */
+    public boolean hasClassConstraints(Object bean) {
+        return true;
+    }
+
+}
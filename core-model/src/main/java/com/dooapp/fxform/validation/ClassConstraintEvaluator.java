@@ -0,0 +1,369 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.validation;
+
+import javax.validation.*;
+import javax.validation.groups.Default;
+import javax.validation.metadata.ConstraintDescriptor;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Evaluates a single class level constraint by invoking its ConstraintValidator directly, without going through
+ * {@link Validator#validate(Object, Class[])} and therefore without validating any property constraint.
+ * <br>
+ * Created at 18/10/26 23:52.<br>
+ *
+ * @author agent <agent@local>
+ */
+class ClassConstraintEvaluator {
+
+    private final ConstraintDescriptor<?> descriptor;
+
+    private final ConstraintValidator constraintValidator;
+
+    /**
+     * Set once the validator has reported a violation on a property node.
+     */
+    private volatile boolean requiresFullValidation;
+
+    private ClassConstraintEvaluator(ConstraintDescriptor<?> descriptor, ConstraintValidator constraintValidator) {
+        this.descriptor = descriptor;
+        this.constraintValidator = constraintValidator;
+    }
+
+    /**
+     * Create the evaluators of the given class level constraints.
+     *
+     * @param beanClass                  the validated bean class
+     * @param descriptors                the class level constraints
+     * @param constraintValidatorFactory the factory used to instantiate constraint validators
+     * @return the evaluators, or null if at least one constraint can not be evaluated directly (e.g. composed
+     *         constraints), in which case the full validation path must be used
+     */
+    static List<ClassConstraintEvaluator> create(Class beanClass, Iterable<ConstraintDescriptor<?>> descriptors, ConstraintValidatorFactory constraintValidatorFactory) {
+        List<ClassConstraintEvaluator> evaluators = new ArrayList<ClassConstraintEvaluator>();
+        for (ConstraintDescriptor<?> descriptor : descriptors) {
+            if (!descriptor.getGroups().contains(Default.class)) {
+                // only the default group is validated at the class level
+                continue;
+            }
+            if (!descriptor.getComposingConstraints().isEmpty()) {
+                return null;
+            }
+            Class<? extends ConstraintValidator> validatorClass = findValidatorClass(beanClass, descriptor);
+            if (validatorClass == null) {
+                return null;
+            }
+            try {
+                ConstraintValidator constraintValidator = constraintValidatorFactory.getInstance(validatorClass);
+                constraintValidator.initialize(descriptor.getAnnotation());
+                evaluators.add(new ClassConstraintEvaluator(descriptor, constraintValidator));
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+        return evaluators;
+    }
+
+    private static Class<? extends ConstraintValidator> findValidatorClass(Class beanClass, ConstraintDescriptor<?> descriptor) {
+        for (Class<? extends ConstraintValidator> validatorClass : descriptor.getConstraintValidatorClasses()) {
+            Class validatedType = getValidatedType(validatorClass);
+            if (validatedType != null && validatedType.isAssignableFrom(beanClass)) {
+                return validatorClass;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the type T of a ConstraintValidator&lt;A, T&gt; implementation.
+     */
+    private static Class getValidatedType(Class clazz) {
+        while (clazz != null && clazz != Object.class) {
+            for (Type type : clazz.getGenericInterfaces()) {
+                if (type instanceof ParameterizedType && ((ParameterizedType) type).getRawType() == ConstraintValidator.class) {
+                    Type validatedType = ((ParameterizedType) type).getActualTypeArguments()[1];
+                    if (validatedType instanceof Class) {
+                        return (Class) validatedType;
+                    } else if (validatedType instanceof ParameterizedType) {
+                        return (Class) ((ParameterizedType) validatedType).getRawType();
+                    }
+                    return Object.class;
+                }
+            }
+            clazz = clazz.getSuperclass();
+        }
+        return null;
+    }
+
+    /**
+     * Evaluate the constraint on the given bean. Violations reported on property nodes through
+     * {@link ConstraintValidatorContext#buildConstraintViolationWithTemplate(String)} can not be rendered by this
+     * evaluator: in that case nothing is added to the list and the full validation path must be used.
+     *
+     * @param bean                the bean to validate
+     * @param messageInterpolator the interpolator used to render violation messages
+     * @param violations          the list the violations are added to
+     * @return false if the violations of this constraint must be computed through a full validation of the bean
+     */
+    boolean evaluate(Object bean, MessageInterpolator messageInterpolator, List<ConstraintViolation> violations) {
+        if (requiresFullValidation) {
+            return false;
+        }
+        String defaultTemplate = (String) descriptor.getAttributes().get("message");
+        Context context = new Context(defaultTemplate);
+        if (constraintValidator.isValid(bean, context)) {
+            return true;
+        }
+        if (context.hasPropertyNodes()) {
+            requiresFullValidation = true;
+            return false;
+        }
+        for (String template : context.getTemplates()) {
+            violations.add(new ClassConstraintViolation(bean, template, messageInterpolator, descriptor));
+        }
+        return true;
+    }
+
+    /**
+     * Minimal ConstraintValidatorContext collecting the message templates of the reported violations. Property
+     * nodes are only recorded so that the caller can fall back to the full validation path.
+     */
+    private static class Context implements ConstraintValidatorContext {
+
+        private final String defaultTemplate;
+
+        private final List<String> templates = new ArrayList<String>(1);
+
+        private boolean defaultViolationDisabled;
+
+        private boolean propertyNodes;
+
+        private Context(String defaultTemplate) {
+            this.defaultTemplate = defaultTemplate;
+        }
+
+        @Override
+        public void disableDefaultConstraintViolation() {
+            defaultViolationDisabled = true;
+        }
+
+        @Override
+        public String getDefaultConstraintMessageTemplate() {
+            return defaultTemplate;
+        }
+
+        @Override
+        public ConstraintViolationBuilder buildConstraintViolationWithTemplate(String messageTemplate) {
+            return new ViolationBuilder(messageTemplate);
+        }
+
+        boolean hasPropertyNodes() {
+            return propertyNodes;
+        }
+
+        List<String> getTemplates() {
+            if (defaultViolationDisabled) {
+                return templates;
+            }
+            List<String> all = new ArrayList<String>(templates.size() + 1);
+            all.add(defaultTemplate);
+            all.addAll(templates);
+            return all;
+        }
+
+        private class ViolationBuilder implements ConstraintViolationBuilder {
+
+            private final String template;
+
+            private ViolationBuilder(String template) {
+                this.template = template;
+            }
+
+            @Override
+            public NodeBuilderDefinedContext addNode(String name) {
+                propertyNodes = true;
+                return new DefinedContext();
+            }
+
+            @Override
+            public ConstraintValidatorContext addConstraintViolation() {
+                templates.add(template);
+                return Context.this;
+            }
+
+            private class DefinedContext implements NodeBuilderDefinedContext {
+
+                @Override
+                public NodeBuilderCustomizableContext addNode(String name) {
+                    return new CustomizableContext();
+                }
+
+                @Override
+                public ConstraintValidatorContext addConstraintViolation() {
+                    return ViolationBuilder.this.addConstraintViolation();
+                }
+            }
+
+            private class CustomizableContext implements NodeBuilderCustomizableContext {
+
+                @Override
+                public NodeContextBuilder inIterable() {
+                    return new IterableContext();
+                }
+
+                @Override
+                public NodeBuilderCustomizableContext addNode(String name) {
+                    return this;
+                }
+
+                @Override
+                public ConstraintValidatorContext addConstraintViolation() {
+                    return ViolationBuilder.this.addConstraintViolation();
+                }
+            }
+
+            private class IterableContext implements NodeContextBuilder {
+
+                @Override
+                public NodeBuilderDefinedContext atKey(Object key) {
+                    return new DefinedContext();
+                }
+
+                @Override
+                public NodeBuilderDefinedContext atIndex(Integer index) {
+                    return new DefinedContext();
+                }
+
+                @Override
+                public NodeBuilderCustomizableContext addNode(String name) {
+                    return new CustomizableContext();
+                }
+
+                @Override
+                public ConstraintValidatorContext addConstraintViolation() {
+                    return ViolationBuilder.this.addConstraintViolation();
+                }
+            }
+        }
+    }
+
+    /**
+     * A violation of a class level constraint, whose message is interpolated when first displayed. As for
+     * violations reported by the bean validation provider, its property path is made of a single node with a null
+     * name.
+     */
+    private static class ClassConstraintViolation extends LazyConstraintViolation<Object> {
+
+        private final static Path.Node ROOT_NODE = new Path.Node() {
+            @Override
+            public String getName() {
+                return null;
+            }
+
+            @Override
+            public boolean isInIterable() {
+                return false;
+            }
+
+            @Override
+            public Integer getIndex() {
+                return null;
+            }
+
+            @Override
+            public Object getKey() {
+                return null;
+            }
+
+            @Override
+            public String toString() {
+                return "";
+            }
+        };
+
+        private final static Path ROOT_PATH = new Path() {
+            @Override
+            public Iterator<Node> iterator() {
+                return Collections.singletonList(ROOT_NODE).iterator();
+            }
+
+            @Override
+            public String toString() {
+                return "";
+            }
+        };
+
+        private final Object bean;
+
+        private final String messageTemplate;
+
+        private final ConstraintDescriptor<?> descriptor;
+
+        private ClassConstraintViolation(Object bean, String messageTemplate, MessageInterpolator messageInterpolator, ConstraintDescriptor<?> descriptor) {
+            super(messageInterpolator, descriptor, messageTemplate);
+            this.bean = bean;
+            this.messageTemplate = messageTemplate;
+            this.descriptor = descriptor;
+        }
+
+        @Override
+        public String getMessageTemplate() {
+            return messageTemplate;
+        }
+
+        @Override
+        public Object getRootBean() {
+            return bean;
+        }
+
+        @Override
+        public Class<Object> getRootBeanClass() {
+            return (Class<Object>) bean.getClass();
+        }
+
+        @Override
+        public Object getLeafBean() {
+            return bean;
+        }
+
+        @Override
+        public Path getPropertyPath() {
+            return ROOT_PATH;
+        }
+
+        @Override
+        public Object getInvalidValue() {
+            return bean;
+        }
+
+        @Override
+        public ConstraintDescriptor<?> getConstraintDescriptor() {
+            return descriptor;
+        }
+
+        @Override
+        public String toString() {
+            return "ClassConstraintViolation{" +
+                    "messageTemplate='" + messageTemplate + '\'' +
+                    ", rootBeanClass=" + bean.getClass() +
+                    '}';
+        }
+    }
+
+}
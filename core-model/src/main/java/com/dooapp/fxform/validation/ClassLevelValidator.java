@@ -12,12 +12,15 @@
 
 package com.dooapp.fxform.validation;
 
+import com.dooapp.fxform.metrics.FormMetrics;
+import com.dooapp.fxform.metrics.FormMetricsRegistry;
 import javafx.beans.property.*;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.FXCollections;
 
 import javax.validation.ConstraintViolation;
+import java.util.List;
 
 /**
  * User: Antoine Mischler <antoine@dooapp.com>
@@ -49,7 +52,21 @@ public class ClassLevelValidator {
     }
 
     public void validate() {
-        constraintViolations.setAll(validator.get().validateClassConstraint(bean.getValue()));
+        if (!FXFormValidators.hasClassConstraints(validator.get(), bean.getValue())) {
+            if (!constraintViolations.isEmpty()) {
+                constraintViolations.clear();
+            }
+            return;
+        }
+        FormMetrics metrics = FormMetricsRegistry.getMetrics();
+        if (!metrics.isEnabled()) {
+            constraintViolations.setAll(validator.get().validateClassConstraint(bean.getValue()));
+            return;
+        }
+        long start = System.nanoTime();
+        List<ConstraintViolation> violations = validator.get().validateClassConstraint(bean.getValue());
+        metrics.classValidated(bean.getValue().getClass(), violations.size(), System.nanoTime() - start);
+        constraintViolations.setAll(violations);
     }
 
     public Object getBean() {
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.validation;
+
+import javax.validation.ConstraintValidatorFactory;
+import javax.validation.GroupSequence;
+import javax.validation.Validator;
+import javax.validation.groups.Default;
+import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.ConstraintDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
+import java.lang.annotation.ElementType;
+import java.lang.ref.SoftReference;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Index of the Bean Validation metadata of bean classes, built once per class from
+ * {@link Validator#getConstraintsForClass(Class)}. It is used to find out cheaply whether a property or a class
+ * declares constraints, so that validation can be skipped altogether when it does not.<br>
+ * Bean classes are held weakly and their metadata softly, so that the index does not prevent the class loader of a
+ * bean class from being collected.
+ * <br>
+ * Created at 18/10/26 23:50.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class ConstraintMetadataIndex {
+
+    private final static Class[] NO_GROUPS = new Class[0];
+
+    private final Validator validator;
+
+    private final ConstraintValidatorFactory constraintValidatorFactory;
+
+    /**
+     * The metadata of each bean class, guarded by itself
+     */
+    private final Map<Class, SoftReference<BeanMetadata>> index = new WeakHashMap<Class, SoftReference<BeanMetadata>>();
+
+    private final ValidationStatistics statistics = new ValidationStatistics();
+
+    /**
+     * Constraint metadata of a bean class.
+     */
+    public static class BeanMetadata {
+
+        private final BeanDescriptor beanDescriptor;
+
+        private final Map<String, Class[]> propertyGroups;
+
+        private final Set<ConstraintDescriptor<?>> classConstraints;
+
+        private final List<ClassConstraintEvaluator> classConstraintEvaluators;
+
+        private BeanMetadata(BeanDescriptor beanDescriptor, Map<String, Class[]> propertyGroups, Set<ConstraintDescriptor<?>> classConstraints, List<ClassConstraintEvaluator> classConstraintEvaluators) {
+            this.beanDescriptor = beanDescriptor;
+            this.propertyGroups = propertyGroups;
+            this.classConstraints = classConstraints;
+            this.classConstraintEvaluators = classConstraintEvaluators;
+        }
+
+        public BeanDescriptor getBeanDescriptor() {
+            return beanDescriptor;
+        }
+
+        /**
+         * Get the groups among the default and the {@link Warning} groups that declare constraints on the given
+         * property.
+         *
+         * @param propertyName
+         * @return the groups to validate, an empty array if the property is not constrained
+         */
+        public Class[] getPropertyGroups(String propertyName) {
+            Class[] groups = propertyGroups.get(propertyName);
+            return groups == null ? NO_GROUPS : groups;
+        }
+
+        /**
+         * Check whether the given property declares constraints, in any group.
+         *
+         * @param propertyName
+         * @return
+         */
+        public boolean isPropertyConstrained(String propertyName) {
+            return propertyGroups.containsKey(propertyName);
+        }
+
+        /**
+         * Get the constraints declared at the class level, i.e. on ElementType.TYPE.
+         *
+         * @return
+         */
+        public Set<ConstraintDescriptor<?>> getClassConstraints() {
+            return classConstraints;
+        }
+
+        public boolean hasClassConstraints() {
+            return !classConstraints.isEmpty();
+        }
+
+        /**
+         * Get the evaluators of the class level constraints.
+         *
+         * @return the evaluators, or null if some class level constraints can only be checked through a full
+         *         validation of the bean
+         */
+        List<ClassConstraintEvaluator> getClassConstraintEvaluators() {
+            return classConstraintEvaluators;
+        }
+    }
+
+    public ConstraintMetadataIndex(Validator validator, ConstraintValidatorFactory constraintValidatorFactory) {
+        this.validator = validator;
+        this.constraintValidatorFactory = constraintValidatorFactory;
+    }
+
+    /**
+     * Get the metadata of the given bean class, building it the first time this class is looked up.
+     *
+     * @param beanClass
+     * @return
+     */
+    public BeanMetadata getMetadata(Class beanClass) {
+        synchronized (index) {
+            SoftReference<BeanMetadata> reference = index.get(beanClass);
+            BeanMetadata metadata = reference == null ? null : reference.get();
+            if (metadata != null) {
+                return metadata;
+            }
+        }
+        BeanMetadata metadata = createMetadata(beanClass);
+        synchronized (index) {
+            index.put(beanClass, new SoftReference<BeanMetadata>(metadata));
+        }
+        return metadata;
+    }
+
+    private BeanMetadata createMetadata(Class beanClass) {
+        BeanDescriptor beanDescriptor = validator.getConstraintsForClass(beanClass);
+        Map<String, Class[]> propertyGroups = new HashMap<String, Class[]>();
+        for (PropertyDescriptor propertyDescriptor : beanDescriptor.getConstrainedProperties()) {
+            propertyGroups.put(propertyDescriptor.getPropertyName(), getGroups(propertyDescriptor));
+        }
+        Set<ConstraintDescriptor<?>> classConstraints = beanDescriptor.findConstraints().declaredOn(ElementType.TYPE).getConstraintDescriptors();
+        List<ClassConstraintEvaluator> evaluators = null;
+        if (!classConstraints.isEmpty() && constraintValidatorFactory != null && !redefinesDefaultGroup(beanClass)) {
+            evaluators = ClassConstraintEvaluator.create(beanClass, classConstraints, constraintValidatorFactory);
+        }
+        return new BeanMetadata(beanDescriptor, propertyGroups, Collections.unmodifiableSet(classConstraints), evaluators);
+    }
+
+    /**
+     * Check whether the default group of the given class is redefined by a {@link GroupSequence}, in which case the
+     * class level constraints are only validated once the previous groups of the sequence are valid and must go
+     * through the full validation path.
+     *
+     * @param beanClass
+     * @return
+     */
+    private boolean redefinesDefaultGroup(Class beanClass) {
+        for (Class clazz = beanClass; clazz != null; clazz = clazz.getSuperclass()) {
+            if (clazz.isAnnotationPresent(GroupSequence.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Class[] getGroups(PropertyDescriptor propertyDescriptor) {
+        boolean defaultGroup = propertyDescriptor.findConstraints().unorderedAndMatchingGroups(Default.class).hasConstraints();
+        boolean warningGroup = propertyDescriptor.findConstraints().unorderedAndMatchingGroups(Warning.class).hasConstraints();
+        if (defaultGroup && warningGroup) {
+            return new Class[]{Default.class, Warning.class};
+        } else if (defaultGroup) {
+            return new Class[]{Default.class};
+        } else if (warningGroup) {
+            return new Class[]{Warning.class};
+        }
+        return NO_GROUPS;
+    }
+
+    /**
+     * Get the counters of validations performed and skipped thanks to this index.
+     *
+     * @return
+     */
+    public ValidationStatistics getStatistics() {
+        return statistics;
+    }
+
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.validation;
+
+import com.dooapp.fxform.model.Element;
+
+import javax.validation.*;
+import javax.validation.groups.Default;
+import javax.validation.metadata.ConstraintDescriptor;
+import java.util.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * User: Antoine Mischler <antoine@dooapp.com>
+ * Date: 20/11/2013
+ * Time: 17:31
+ */
+public class DefaultFXFormValidator extends AbstractFXFormValidator {
+
+    private final Logger logger = Logger.getLogger(DefaultFXFormValidator.class.getName());
+
+    static ValidatorFactory factory;
+
+    Validator validator;
+
+    MessageInterpolator messageInterpolator;
+
+    ConstraintMetadataIndex constraintMetadataIndex;
+
+    /**
+     * Initialize the constraint validator. Might be null after that if no implementation has been provided. The
+     * validator does not interpolate messages: they are interpolated by the returned violations when first displayed.
+     */
+    protected void createValidator() {
+        try {
+            ValidatorFactory factory = getFactory();
+            validator = factory.usingContext()
+                    .messageInterpolator(new DeferredConstraintViolation.TemplateMessageInterpolator())
+                    .getValidator();
+            messageInterpolator = factory.getMessageInterpolator();
+            constraintMetadataIndex = new ConstraintMetadataIndex(validator, factory.getConstraintValidatorFactory());
+        } catch (ValidationException e) {
+            // validation is not activated, since no implementation has been provided
+            logger.log(Level.INFO, "Validation disabled", e);
+        }
+    }
+
+    /**
+     * Get the validator factory shared by all the validators, building it on first use. Validators might be created
+     * concurrently, e.g. by the threads of a {@link com.dooapp.fxform.validation.bulk.BulkValidator}.
+     *
+     * @return
+     * @throws ValidationException if no bean validation implementation is available
+     */
+    private static synchronized ValidatorFactory getFactory() {
+        if (factory == null) {
+            factory = Validation.buildDefaultValidatorFactory();
+        }
+        return factory;
+    }
+
+    public DefaultFXFormValidator() {
+        createValidator();
+    }
+
+    @Override
+    public List<ConstraintViolation> validate(Element element, Object newValue, Class... groups) {
+        final List<ConstraintViolation> list = new LinkedList<ConstraintViolation>();
+        if (validator != null && getMetadata(element.getBean()).isPropertyConstrained(element.getName())) {
+            for (ConstraintViolation<Object> violation : validator.validateValue((Class<Object>) (element.getBean().getClass()), element.getName(), newValue, groups)) {
+                list.add(defer(violation));
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Validate the default and the {@link Warning} groups in a single pass, only for the groups that actually declare
+     * constraints on the element.
+     */
+    @Override
+    public ValidationResult validateGroups(Element element, Object newValue) {
+        if (validator == null) {
+            return ValidationResult.EMPTY;
+        }
+        Class[] groups = getMetadata(element.getBean()).getPropertyGroups(element.getName());
+        if (groups.length == 0) {
+            return ValidationResult.EMPTY;
+        }
+        Set<ConstraintViolation<Object>> violations = validator.validateValue((Class<Object>) element.getBean().getClass(), element.getName(), newValue, groups);
+        if (violations.isEmpty()) {
+            return ValidationResult.EMPTY;
+        }
+        List<ConstraintViolation> errors = new ArrayList<ConstraintViolation>(violations.size());
+        List<ConstraintViolation> warnings = new ArrayList<ConstraintViolation>(violations.size());
+        for (ConstraintViolation<Object> violation : violations) {
+            if (isWarning(violation.getConstraintDescriptor())) {
+                warnings.add(defer(violation));
+            } else {
+                errors.add(defer(violation));
+            }
+        }
+        return new ValidationResult(errors, warnings);
+    }
+
+    /**
+     * Check whether a violated constraint is only validated as part of the {@link Warning} group. A constraint is
+     * validated for a group when it belongs to this group or to one of the groups it extends, and a constraint
+     * validated for the default group is an error.
+     *
+     * @param descriptor the descriptor of the violated constraint
+     * @return true if the constraint is a warning
+     */
+    private boolean isWarning(ConstraintDescriptor<?> descriptor) {
+        boolean warning = false;
+        for (Class<?> group : descriptor.getGroups()) {
+            if (group.isAssignableFrom(Default.class)) {
+                return false;
+            }
+            if (group.isAssignableFrom(Warning.class)) {
+                warning = true;
+            }
+        }
+        return warning;
+    }
+
+    @Override
+    public boolean isConstrained(Element element) {
+        if (validator == null || element.getBean() == null) {
+            return false;
+        }
+        boolean constrained = getMetadata(element.getBean()).isPropertyConstrained(element.getName());
+        if (constrained) {
+            constraintMetadataIndex.getStatistics().propertyHit();
+        } else {
+            constraintMetadataIndex.getStatistics().propertySkip();
+        }
+        return constrained;
+    }
+
+    @Override
+    public boolean hasClassConstraints(Object bean) {
+        if (validator == null || bean == null) {
+            return false;
+        }
+        boolean constrained = getMetadata(bean).hasClassConstraints();
+        if (constrained) {
+            constraintMetadataIndex.getStatistics().classHit();
+        } else {
+            constraintMetadataIndex.getStatistics().classSkip();
+        }
+        return constrained;
+    }
+
+    /**
+     * Validate class level constraints on a given bean. Class level constraint validators are invoked directly so
+     * that property constraints are not evaluated. The bean is fully validated only when a class level constraint
+     * can not be evaluated on its own, e.g. composed constraints, constraints reporting violations on property nodes or
+     * classes redefining their default group with a {@link javax.validation.GroupSequence}.
+     *
+     * @param bean
+     * @return
+     */
+    @Override
+    public List<ConstraintViolation> validateClassConstraint(Object bean) {
+        final List<ConstraintViolation> list = new LinkedList<ConstraintViolation>();
+        if (validator != null && bean != null) {
+            ConstraintMetadataIndex.BeanMetadata metadata = getMetadata(bean);
+            Set<ConstraintDescriptor<?>> classLevelConstraints = metadata.getClassConstraints();
+            if (classLevelConstraints.isEmpty()) {
+                return list;
+            }
+            List<ClassConstraintEvaluator> evaluators = metadata.getClassConstraintEvaluators();
+            if (evaluators != null && evaluate(evaluators, bean, list)) {
+                return list;
+            }
+            list.clear();
+            Set<ConstraintViolation<Object>> constraintViolations = validator.validate(bean);
+            for (ConstraintViolation<Object> constraintViolation : constraintViolations) {
+                if (classLevelConstraints.contains(constraintViolation.getConstraintDescriptor())) {
+                    list.add(defer(constraintViolation));
+                }
+            }
+        }
+        return list;
+    }
+
+    private boolean evaluate(List<ClassConstraintEvaluator> evaluators, Object bean, List<ConstraintViolation> list) {
+        for (ClassConstraintEvaluator evaluator : evaluators) {
+            if (!evaluator.evaluate(bean, messageInterpolator, list)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ConstraintViolation defer(ConstraintViolation<Object> violation) {
+        return new DeferredConstraintViolation(violation, messageInterpolator);
+    }
+
+    private ConstraintMetadataIndex.BeanMetadata getMetadata(Object bean) {
+        return constraintMetadataIndex.getMetadata(bean.getClass());
+    }
+
+    /**
+     * Get the counters of validations performed and skipped because the validated element or class does not
+     * declare any constraint.
+     *
+     * @return the statistics, or null if validation is disabled
+     */
+    public ValidationStatistics getStatistics() {
+        return constraintMetadataIndex == null ? null : constraintMetadataIndex.getStatistics();
+    }
+
+    @Override
+    public MessageInterpolator getMessageInterpolator() {
+        return messageInterpolator;
+    }
+
+}
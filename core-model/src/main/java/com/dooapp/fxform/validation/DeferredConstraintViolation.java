@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.dooapp.fxform.validation;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.MessageInterpolator;
+import javax.validation.Path;
+import javax.validation.metadata.ConstraintDescriptor;
+import java.util.Locale;
+
+/**
+ * Wraps a violation reported by the bean validation provider, which has been built with a
+ * {@link TemplateMessageInterpolator}, and interpolates its message with the actual interpolator when it is first
+ * displayed.
+ * <br>
+ * Created at 19/10/26 00:50.<br>
+ *
+ * @author agent <agent@local>
+ */
+class DeferredConstraintViolation extends LazyConstraintViolation<Object> {
+
+    /**
+     * A MessageInterpolator returning the templates unchanged, used by the provider so that no message is
+     * interpolated when violations are created.
+     */
+    static class TemplateMessageInterpolator implements MessageInterpolator {
+
+        @Override
+        public String interpolate(String messageTemplate, Context context) {
+            return messageTemplate;
+        }
+
+        @Override
+        public String interpolate(String messageTemplate, Context context, Locale locale) {
+            return messageTemplate;
+        }
+    }
+
+    private final ConstraintViolation<Object> violation;
+
+    DeferredConstraintViolation(ConstraintViolation<Object> violation, MessageInterpolator messageInterpolator) {
+        super(messageInterpolator, violation.getConstraintDescriptor(), violation.getMessageTemplate());
+        this.violation = violation;
+    }
+
+    @Override
+    public String getMessageTemplate() {
+        return violation.getMessageTemplate();
+    }
+
+    @Override
+    public Object getRootBean() {
+        return violation.getRootBean();
+    }
+
+    @Override
+    public Class<Object> getRootBeanClass() {
+        return violation.getRootBeanClass();
+    }
+
+    @Override
+    public Object getLeafBean() {
+        return violation.getLeafBean();
+    }
+
+    @Override
+    public Path getPropertyPath() {
+        return violation.getPropertyPath();
+    }
+
+    @Override
+    public Object getInvalidValue() {
+        return violation.getInvalidValue();
+    }
+
+    @Override
+    public ConstraintDescriptor<?> getConstraintDescriptor() {
+        return violation.getConstraintDescriptor();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return violation.equals(((DeferredConstraintViolation) o).violation);
+    }
+
+    @Override
+    public int hashCode() {
+        return violation.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "DeferredConstraintViolation{" +
+                "messageTemplate='" + getMessageTemplate() + '\'' +
+                ", propertyPath=" + getPropertyPath() +
+                ", rootBeanClass=" + getRootBeanClass() +
+                '}';
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.dooapp.fxform.validation;
+
+import com.dooapp.fxform.model.Element;
+
+import javax.validation.ConstraintViolation;
+import java.util.List;
+
+/**
+ * Entry points used by the form to call the optimized validation paths of an {@link FXFormValidator}. Validators
+ * extending {@link AbstractFXFormValidator} are called directly, any other validator is called through the methods of
+ * the {@link FXFormValidator} interface.
+ * <br>
+ * Created at 19/10/26 00:42.<br>
+ *
+ * @author agent <agent@local>
+ */
+public final class FXFormValidators {
+
+    private FXFormValidators() {
+    }
+
+    /**
+     * Validate the new value of an element against the default and the {@link Warning} groups.
+     *
+     * @param validator the validator
+     * @param element   the element to check
+     * @param newValue  the new value of the element
+     * @return the constraint violations partitioned by severity
+     */
+    public static ValidationResult validateGroups(FXFormValidator validator, Element element, Object newValue) {
+        if (validator instanceof AbstractFXFormValidator) {
+            return ((AbstractFXFormValidator) validator).validateGroups(element, newValue);
+        }
+        return validateEachGroup(validator, element, newValue);
+    }
+
+    /**
+     * Check whether the given element declares constraints. Validators that do not extend
+     * {@link AbstractFXFormValidator} are always asked to validate the element.
+     *
+     * @param validator the validator
+     * @param element   the element to check
+     * @return true if the element must be validated
+     */
+    public static boolean isConstrained(FXFormValidator validator, Element element) {
+        return !(validator instanceof AbstractFXFormValidator) || ((AbstractFXFormValidator) validator).isConstrained(element);
+    }
+
+    /**
+     * Check whether the class of the given bean declares class level constraints. Validators that do not extend
+     * {@link AbstractFXFormValidator} are always asked to validate the class level constraints.
+     *
+     * @param validator the validator
+     * @param bean      the bean to check
+     * @return true if the class level constraints of the bean must be validated
+     */
+    public static boolean hasClassConstraints(FXFormValidator validator, Object bean) {
+        return !(validator instanceof AbstractFXFormValidator) || ((AbstractFXFormValidator) validator).hasClassConstraints(bean);
+    }
+
+    /**
+     * Validate the default group, then the {@link Warning} group.
+     */
+    static ValidationResult validateEachGroup(FXFormValidator validator, Element element, Object newValue) {
+        // strict constraints that prevent the model value from being updated
+        List<ConstraintViolation> errors = validator.validate(element, newValue);
+        // warnings constraints
+        List<ConstraintViolation> warnings = validator.validate(element, newValue, Warning.class);
+        if (errors.isEmpty() && warnings.isEmpty()) {
+            return ValidationResult.EMPTY;
+        }
+        return new ValidationResult(errors, warnings);
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.validation;
+
+import javax.validation.MessageInterpolator;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Cache of interpolated constraint violation messages, keyed by interpolator, message template, locale and
+ * constraint attributes. Bean Validation 1.0 messages only depend on those, so the same message does not need
+ * to be interpolated more than once.
+ * <p/>
+ * Interpolators are weakly referenced, so that caching their messages does not retain them, and each interpolator
+ * keeps at most maxSize messages, the least recently used ones being evicted first.
+ * <br>
+ * Created at 18/10/26 23:55.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class InterpolationCache {
+
+    private final static InterpolationCache DEFAULT = new InterpolationCache(4096);
+
+    private final int maxSize;
+
+    private final Map<MessageInterpolator, Map<Key, String>> caches = new WeakHashMap<MessageInterpolator, Map<Key, String>>();
+
+    public InterpolationCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Get the cache shared by all forms.
+     *
+     * @return
+     */
+    public static InterpolationCache getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Interpolate the given template, or return the message previously interpolated for the same template, locale
+     * and constraint attributes.
+     *
+     * @param interpolator the interpolator to use on cache miss
+     * @param template     the message template
+     * @param context      the interpolation context
+     * @param locale       the locale of the message
+     * @return the interpolated message
+     */
+    public String interpolate(MessageInterpolator interpolator, String template, MessageInterpolator.Context context, Locale locale) {
+        Map<String, Object> attributes = context.getConstraintDescriptor() == null ?
+                Collections.<String, Object>emptyMap() : context.getConstraintDescriptor().getAttributes();
+        Key key = new Key(template, locale, attributes);
+        String message;
+        synchronized (caches) {
+            message = getCache(interpolator).get(key);
+        }
+        if (message == null) {
+            // interpolate outside of the lock, concurrent misses on the same key produce the same message
+            message = interpolator.interpolate(template, context, locale);
+            synchronized (caches) {
+                getCache(interpolator).put(key, message);
+            }
+        }
+        return message;
+    }
+
+    private Map<Key, String> getCache(MessageInterpolator interpolator) {
+        Map<Key, String> cache = caches.get(interpolator);
+        if (cache == null) {
+            cache = new LinkedHashMap<Key, String>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, String> eldest) {
+                    return size() > maxSize;
+                }
+            };
+            caches.put(interpolator, cache);
+        }
+        return cache;
+    }
+
+    /**
+     * Get the number of messages cached for the given interpolator.
+     *
+     * @param interpolator
+     * @return
+     */
+    public int size(MessageInterpolator interpolator) {
+        synchronized (caches) {
+            Map<Key, String> cache = caches.get(interpolator);
+            return cache == null ? 0 : cache.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (caches) {
+            caches.clear();
+        }
+    }
+
+    private static class Key {
+
+        private final String template;
+
+        private final Locale locale;
+
+        private final Map<String, Object> attributes;
+
+        private final int hashCode;
+
+        private Key(String template, Locale locale, Map<String, Object> attributes) {
+            this.template = template;
+            this.locale = locale;
+            this.attributes = attributes;
+            int result = template != null ? template.hashCode() : 0;
+            result = 31 * result + (locale != null ? locale.hashCode() : 0);
+            result = 31 * result + attributes.hashCode();
+            this.hashCode = result;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return (template != null ? template.equals(key.template) : key.template == null)
+                    && (locale != null ? locale.equals(key.locale) : key.locale == null)
+                    && attributes.equals(key.attributes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+}
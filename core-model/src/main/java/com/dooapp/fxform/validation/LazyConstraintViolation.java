@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.validation;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.MessageInterpolator;
+import javax.validation.metadata.ConstraintDescriptor;
+import java.util.Locale;
+
+/**
+ * A constraint violation whose message is only interpolated when {@link #getMessage()} is first called, e.g. when
+ * the violation is actually displayed. Interpolated messages are shared through the {@link InterpolationCache}.
+ * <br>
+ * Created at 18/10/26 23:55.<br>
+ *
+ * @author agent <agent@local>
+ */
+public abstract class LazyConstraintViolation<T> implements ConstraintViolation<T> {
+
+    private final MessageInterpolator messageInterpolator;
+
+    private final ConstraintDescriptor<?> interpolationDescriptor;
+
+    private final String defaultMessage;
+
+    private volatile String message;
+
+    /**
+     * @param messageInterpolator     the interpolator, might be null if no validation implementation is loaded
+     * @param interpolationDescriptor the descriptor providing the attributes used for interpolation
+     * @param defaultMessage          the message used when no interpolator is available
+     */
+    protected LazyConstraintViolation(MessageInterpolator messageInterpolator, ConstraintDescriptor<?> interpolationDescriptor, String defaultMessage) {
+        this.messageInterpolator = messageInterpolator;
+        this.interpolationDescriptor = interpolationDescriptor;
+        this.defaultMessage = defaultMessage;
+    }
+
+    @Override
+    public String getMessage() {
+        String result = message;
+        if (result == null) {
+            // concurrent first calls may both interpolate, they produce the same message
+            result = interpolate();
+            message = result;
+        }
+        return result;
+    }
+
+    private String interpolate() {
+        if (messageInterpolator == null) {
+            return defaultMessage;
+        }
+        MessageInterpolator.Context context = new MessageInterpolator.Context() {
+            @Override
+            public ConstraintDescriptor<?> getConstraintDescriptor() {
+                return interpolationDescriptor;
+            }
+
+            @Override
+            public Object getValidatedValue() {
+                return getInvalidValue();
+            }
+        };
+        return InterpolationCache.getDefault().interpolate(messageInterpolator, getMessageTemplate(), context, Locale.getDefault());
+    }
+
+}
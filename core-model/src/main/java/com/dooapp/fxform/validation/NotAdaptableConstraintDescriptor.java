@@ -28,6 +28,11 @@ import java.util.Set;
  */
 public class NotAdaptableConstraintDescriptor implements ConstraintDescriptor {
 
+    /**
+     * Shared instance, this descriptor is stateless.
+     */
+    public final static NotAdaptableConstraintDescriptor INSTANCE = new NotAdaptableConstraintDescriptor();
+
     @Override
     public Annotation getAnnotation() {
         return null;
@@ -14,7 +14,6 @@ package com.dooapp.fxform.validation;
 
 import com.dooapp.fxform.model.Element;
 
-import javax.validation.ConstraintViolation;
 import javax.validation.MessageInterpolator;
 import javax.validation.Path;
 import javax.validation.metadata.ConstraintDescriptor;
@@ -24,39 +23,17 @@ import javax.validation.metadata.ConstraintDescriptor;
  * Date: 21/11/2013
  * Time: 13:47
  */
-public class NotAdaptableInputValue implements ConstraintViolation {
+public class NotAdaptableInputValue extends LazyConstraintViolation {
 
     private final Element element;
 
     private final Object value;
 
-    private final String message;
-
     public NotAdaptableInputValue(Element element, final Object value, MessageInterpolator messageInterpolator) {
+        // the default message is used when no validation implementation is loaded
+        super(messageInterpolator, NotAdaptableConstraintDescriptor.INSTANCE, "Invalid input");
         this.element = element;
         this.value = value;
-        MessageInterpolator.Context context = new MessageInterpolator.Context() {
-            @Override
-            public ConstraintDescriptor<?> getConstraintDescriptor() {
-                return new NotAdaptableConstraintDescriptor();
-            }
-
-            @Override
-            public Object getValidatedValue() {
-                return value;
-            }
-        };
-        if (messageInterpolator != null) {
-            this.message = messageInterpolator.interpolate(getMessageTemplate(), context);
-        } else {
-            // No validation implementation loaded, use a default message
-            this.message = "Invalid input";
-        }
-    }
-
-    @Override
-    public String getMessage() {
-        return message;
     }
 
     @Override
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.validation;
+
+import com.dooapp.fxform.adapter.Adapter;
+import com.dooapp.fxform.adapter.AdapterException;
+import com.dooapp.fxform.metrics.FormMetrics;
+import com.dooapp.fxform.metrics.FormMetricsRegistry;
+import com.dooapp.fxform.model.PropertyElement;
+import javafx.application.Platform;
+import javafx.beans.property.*;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+
+import javax.validation.ConstraintViolation;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * User: Antoine Mischler <antoine@dooapp.com>
+ * Date: 21/11/2013
+ * Time: 10:39
+ */
+public class PropertyElementValidator {
+
+    private static final Logger logger = Logger.getLogger(PropertyElementValidator.class.getName());
+
+    private final PropertyElement element;
+
+    private final ObjectProperty<FXFormValidator> validator = new SimpleObjectProperty<FXFormValidator>();
+
+    private final ListProperty<ConstraintViolation> constraintViolations = new SimpleListProperty<ConstraintViolation>(FXCollections.<ConstraintViolation>observableArrayList());
+
+    private final BooleanProperty invalid = new SimpleBooleanProperty(false);
+
+    private final BooleanProperty warning = new SimpleBooleanProperty(false);
+
+    private final BooleanProperty validating = new SimpleBooleanProperty(false);
+
+    private final ObjectProperty<ExecutorService> executor = new SimpleObjectProperty<ExecutorService>();
+
+    private NotAdaptableInputValue notAdaptableInputValue;
+
+    /**
+     * The asynchronous validation in progress, if any
+     */
+    private Future<?> pendingValidation;
+
+    /**
+     * Incremented each time a validation is requested, so that results of stale asynchronous validations are dropped
+     */
+    private long generation;
+
+    public PropertyElementValidator(final PropertyElement element) {
+        this.element = element;
+        validator.addListener(new ChangeListener<FXFormValidator>() {
+            @Override
+            public void changed(ObservableValue<? extends FXFormValidator> observableValue, FXFormValidator validator, FXFormValidator validator2) {
+                validate(element.getValue());
+            }
+        });
+    }
+
+    public Object adapt(final Object newValue, Adapter adapter) throws AdapterException {
+        cancelPendingValidation();
+        if (notAdaptableInputValue != null) {
+            constraintViolations.remove(notAdaptableInputValue);
+            notAdaptableInputValue = null;
+        }
+        try {
+            return adapter.adaptFrom(newValue);
+        } catch (Exception e) {
+            notAdaptableInputValue = new NotAdaptableInputValue(element, newValue, validator.get().getMessageInterpolator());
+            constraintViolations.add(notAdaptableInputValue);
+            throw new AdapterException(e);
+        }
+    }
+
+    public void validate(Object newValue) {
+        cancelPendingValidation();
+        if (!FXFormValidators.isConstrained(validator.get(), element)) {
+            // no constraint declared on this element, nothing to validate
+            applyResult(ValidationResult.EMPTY);
+            return;
+        }
+        // Validate strict constraints that prevent the model value from being updated and warnings constraints at once
+        applyResult(validateGroups(validator.get(), newValue));
+    }
+
+    /**
+     * Validate the new value on the executor of this validator. The result is applied on the JavaFX application
+     * thread and the given callback is run if the value is valid. A validation still in progress when this method
+     * is called again is cancelled and its result is ignored.
+     * Falls back to a synchronous validation if no executor is set or if the executor rejects the validation, e.g.
+     * because it has been shut down.
+     *
+     * @param newValue the value to validate
+     * @param onValid  called on the JavaFX application thread once the value is known to be valid
+     */
+    public void validateAsync(final Object newValue, final Runnable onValid) {
+        final FXFormValidator fxFormValidator = validator.get();
+        if (executor.get() == null || !FXFormValidators.isConstrained(fxFormValidator, element)) {
+            validateSync(newValue, onValid);
+            return;
+        }
+        cancelPendingValidation();
+        final long requested = generation;
+        validating.set(true);
+        Runnable validation = new Runnable() {
+            @Override
+            public void run() {
+                ValidationResult result;
+                try {
+                    result = validateGroups(fxFormValidator, newValue);
+                } catch (RuntimeException e) {
+                    logger.log(Level.WARNING, "Asynchronous validation failed", e);
+                    result = null;
+                }
+                final ValidationResult validationResult = result;
+                Platform.runLater(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (requested != generation) {
+                            // the value changed in the meantime
+                            return;
+                        }
+                        pendingValidation = null;
+                        validating.set(false);
+                        if (validationResult != null) {
+                            applyResult(validationResult);
+                            if (!isInvalid()) {
+                                onValid.run();
+                            }
+                        }
+                    }
+                });
+            }
+        };
+        try {
+            pendingValidation = executor.get().submit(validation);
+        } catch (RejectedExecutionException e) {
+            logger.log(Level.FINE, "Asynchronous validation rejected, validating synchronously", e);
+            validating.set(false);
+            validateSync(newValue, onValid);
+        }
+    }
+
+    private void validateSync(Object newValue, Runnable onValid) {
+        validate(newValue);
+        if (!isInvalid()) {
+            onValid.run();
+        }
+    }
+
+    /**
+     * Cancel the asynchronous validation in progress, if any.
+     */
+    public void cancelPendingValidation() {
+        generation++;
+        if (pendingValidation != null) {
+            pendingValidation.cancel(true);
+            pendingValidation = null;
+        }
+        validating.set(false);
+    }
+
+    private ValidationResult validateGroups(FXFormValidator fxFormValidator, Object newValue) {
+        FormMetrics metrics = FormMetricsRegistry.getMetrics();
+        if (!metrics.isEnabled()) {
+            return FXFormValidators.validateGroups(fxFormValidator, element, newValue);
+        }
+        long start = System.nanoTime();
+        ValidationResult result = FXFormValidators.validateGroups(fxFormValidator, element, newValue);
+        metrics.elementValidated(element, result.getErrors().size() + result.getWarnings().size(), System.nanoTime() - start);
+        return result;
+    }
+
+    private void applyResult(ValidationResult result) {
+        invalid.set(!result.getErrors().isEmpty());
+        warning.set(!result.getWarnings().isEmpty());
+        constraintViolations.setAll(result.getAll());
+    }
+
+    public ReadOnlyListProperty<ConstraintViolation> constraintViolationsProperty() {
+        return constraintViolations;
+    }
+
+    public boolean isInvalid() {
+        return invalid.get();
+    }
+
+    public ReadOnlyBooleanProperty invalidProperty() {
+        return invalid;
+    }
+
+    public boolean isWarning() {
+        return warning.get();
+    }
+
+    public ReadOnlyBooleanProperty warningProperty() {
+        return warning;
+    }
+
+    public boolean isValidating() {
+        return validating.get();
+    }
+
+    /**
+     * True while an asynchronous validation of this element is in progress.
+     *
+     * @return
+     */
+    public ReadOnlyBooleanProperty validatingProperty() {
+        return validating;
+    }
+
+    public ObjectProperty<ExecutorService> executorProperty() {
+        return executor;
+    }
+
+    public Object getValidator() {
+        return validator.get();
+    }
+
+    public ObjectProperty<FXFormValidator> validatorProperty() {
+        return validator;
+    }
+
+    public void setValidator(FXFormValidator validator) {
+        this.validator.set(validator);
+    }
+
+}
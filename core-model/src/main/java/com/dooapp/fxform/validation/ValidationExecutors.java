@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.validation;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Provides the default executor used to run asynchronous validations.
+ * <br>
+ * Created at 18/10/26 23:56.<br>
+ *
+ * @author agent <agent@local>
+ */
+public final class ValidationExecutors {
+
+    private static final Logger logger = Logger.getLogger(ValidationExecutors.class.getName());
+
+    private static ExecutorService defaultExecutor;
+
+    private ValidationExecutors() {
+    }
+
+    /**
+     * Get the executor shared by all forms. Virtual threads are used when the running JVM supports them,
+     * a cached pool of daemon threads otherwise.
+     *
+     * @return the default asynchronous validation executor
+     */
+    public static synchronized ExecutorService getDefault() {
+        if (defaultExecutor == null) {
+            defaultExecutor = createVirtualThreadExecutor();
+            if (defaultExecutor == null) {
+                defaultExecutor = Executors.newCachedThreadPool(new DaemonThreadFactory());
+            }
+        }
+        return defaultExecutor;
+    }
+
+    /**
+     * Create a pool of daemon threads, e.g. to validate beans in bulk.
+     *
+     * @param threads the number of threads
+     * @return the created executor, to be shut down by the caller
+     */
+    public static ExecutorService newFixedThreadPool(int threads) {
+        return Executors.newFixedThreadPool(threads, new DaemonThreadFactory());
+    }
+
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (NoSuchMethodException e) {
+            // virtual threads are not available on this JVM
+            return null;
+        } catch (Exception e) {
+            logger.log(Level.FINE, "Unable to create a virtual thread executor", e);
+            return null;
+        }
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "fxform-validation-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+}
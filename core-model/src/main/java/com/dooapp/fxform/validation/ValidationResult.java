@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.validation;
+
+import javax.validation.ConstraintViolation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of the validation of an element value against the default and the {@link Warning} groups, with the
+ * constraint violations partitioned by severity.
+ * <br>
+ * Created at 18/10/26 23:49.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class ValidationResult {
+
+    public final static ValidationResult EMPTY = new ValidationResult(Collections.<ConstraintViolation>emptyList(), Collections.<ConstraintViolation>emptyList());
+
+    private final List<ConstraintViolation> errors;
+
+    private final List<ConstraintViolation> warnings;
+
+    public ValidationResult(List<ConstraintViolation> errors, List<ConstraintViolation> warnings) {
+        this.errors = errors;
+        this.warnings = warnings;
+    }
+
+    /**
+     * Get the violations of strict constraints, i.e. constraints that prevent the model value from being updated.
+     *
+     * @return
+     */
+    public List<ConstraintViolation> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Get the violations of constraints belonging to the {@link Warning} group.
+     *
+     * @return
+     */
+    public List<ConstraintViolation> getWarnings() {
+        return warnings;
+    }
+
+    /**
+     * Get all violations, errors first.
+     *
+     * @return
+     */
+    public List<ConstraintViolation> getAll() {
+        if (warnings.isEmpty()) {
+            return errors;
+        }
+        if (errors.isEmpty()) {
+            return warnings;
+        }
+        List<ConstraintViolation> all = new ArrayList<ConstraintViolation>(errors.size() + warnings.size());
+        all.addAll(errors);
+        all.addAll(warnings);
+        return all;
+    }
+
+    public boolean isEmpty() {
+        return errors.isEmpty() && warnings.isEmpty();
+    }
+
+}
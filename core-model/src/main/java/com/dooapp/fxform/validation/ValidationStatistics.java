@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.validation;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of the property and class level validations that were actually performed ("hits") and of those that
+ * were skipped because no constraint was declared.
+ * <br>
+ * Created at 18/10/26 23:50.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class ValidationStatistics {
+
+    private final AtomicLong propertyHits = new AtomicLong();
+
+    private final AtomicLong propertySkips = new AtomicLong();
+
+    private final AtomicLong classHits = new AtomicLong();
+
+    private final AtomicLong classSkips = new AtomicLong();
+
+    void propertyHit() {
+        propertyHits.incrementAndGet();
+    }
+
+    void propertySkip() {
+        propertySkips.incrementAndGet();
+    }
+
+    void classHit() {
+        classHits.incrementAndGet();
+    }
+
+    void classSkip() {
+        classSkips.incrementAndGet();
+    }
+
+    public long getPropertyHits() {
+        return propertyHits.get();
+    }
+
+    public long getPropertySkips() {
+        return propertySkips.get();
+    }
+
+    public long getClassHits() {
+        return classHits.get();
+    }
+
+    public long getClassSkips() {
+        return classSkips.get();
+    }
+
+    public void reset() {
+        propertyHits.set(0);
+        propertySkips.set(0);
+        classHits.set(0);
+        classSkips.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationStatistics{" +
+                "propertyHits=" + propertyHits +
+                ", propertySkips=" + propertySkips +
+                ", classHits=" + classHits +
+                ", classSkips=" + classSkips +
+                '}';
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.validation.bulk;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compact summary of the constraint violations of a bean validated by a {@link BulkValidator}. Only the property
+ * names and the messages of the violations are kept, so that summaries of large imports can be retained.
+ * <br>
+ * Created at 19/10/26 00:01.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class BeanValidationSummary {
+
+    private final int index;
+
+    private final Object bean;
+
+    private final String[] properties;
+
+    private final String[] messages;
+
+    private final int errorCount;
+
+    BeanValidationSummary(int index, Object bean, String[] properties, String[] messages, int errorCount) {
+        this.index = index;
+        this.bean = bean;
+        this.properties = properties;
+        this.messages = messages;
+        this.errorCount = errorCount;
+    }
+
+    /**
+     * Get the position of the bean in the validated beans.
+     *
+     * @return
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    public Object getBean() {
+        return bean;
+    }
+
+    /**
+     * Get the number of violations of strict constraints.
+     *
+     * @return
+     */
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * Get the number of violations of {@link com.dooapp.fxform.validation.Warning} constraints.
+     *
+     * @return
+     */
+    public int getWarningCount() {
+        return messages.length - errorCount;
+    }
+
+    public boolean isValid() {
+        return errorCount == 0;
+    }
+
+    /**
+     * Get the name of the property of each violation, errors first. Class level violations have a null property.
+     *
+     * @return
+     */
+    public List<String> getProperties() {
+        return Collections.unmodifiableList(Arrays.asList(properties));
+    }
+
+    /**
+     * Get the message of each violation, errors first.
+     *
+     * @return
+     */
+    public List<String> getMessages() {
+        return Collections.unmodifiableList(Arrays.asList(messages));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("#").append(index);
+        for (int i = 0; i < messages.length; i++) {
+            builder.append(i < errorCount ? "\n  error " : "\n  warning ");
+            if (properties[i] != null) {
+                builder.append(properties[i]).append(": ");
+            }
+            builder.append(messages[i]);
+        }
+        return builder.toString();
+    }
+
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.validation.bulk;
+
+import com.dooapp.fxform.HeadlessForm;
+import com.dooapp.fxform.utils.Disposable;
+import com.dooapp.fxform.validation.DefaultFXFormValidator;
+import com.dooapp.fxform.validation.FXFormValidator;
+import com.dooapp.fxform.validation.ValidationExecutors;
+import com.dooapp.fxform.validation.ValidationResult;
+import javafx.util.Callback;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Path;
+import javax.validation.ValidationException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
+
+/**
+ * Validates a large number of beans with the same rules as the forms displaying them. Beans are split in batches
+ * validated in parallel on an executor. The batches of a {@link #validate(Iterable)} call share a pool of
+ * {@link HeadlessForm}s, each with its own {@link FXFormValidator}, so the element and constraint metadata are only
+ * computed once per form and bean class. The forms are released when the call returns, so the executor threads do
+ * not retain any form or bean.
+ * <br>
+ * Created at 19/10/26 00:01.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class BulkValidator implements Disposable {
+
+    private final static int DEFAULT_BATCH_SIZE = 256;
+
+    private final static Callback<Void, FXFormValidator> DEFAULT_VALIDATOR_FACTORY = new Callback<Void, FXFormValidator>() {
+        @Override
+        public FXFormValidator call(Void aVoid) {
+            return new DefaultFXFormValidator();
+        }
+    };
+
+    private final ExecutorService executor;
+
+    private final boolean ownExecutor;
+
+    private final Callback<Void, FXFormValidator> validatorFactory;
+
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    /**
+     * Create a bulk validator using {@link DefaultFXFormValidator} and one thread per available processor.
+     */
+    public BulkValidator() {
+        this(DEFAULT_VALIDATOR_FACTORY);
+    }
+
+    /**
+     * Create a bulk validator using one thread per available processor.
+     *
+     * @param validatorFactory creates the validator used by each thread
+     */
+    public BulkValidator(Callback<Void, FXFormValidator> validatorFactory) {
+        this(validatorFactory, ValidationExecutors.newFixedThreadPool(Runtime.getRuntime().availableProcessors()), true);
+    }
+
+    /**
+     * Create a bulk validator running on the given executor. The executor is not shut down by {@link #dispose()}.
+     *
+     * @param validatorFactory creates the validator used by each thread
+     * @param executor         the executor validating the batches
+     */
+    public BulkValidator(Callback<Void, FXFormValidator> validatorFactory, ExecutorService executor) {
+        this(validatorFactory, executor, false);
+    }
+
+    private BulkValidator(Callback<Void, FXFormValidator> validatorFactory, ExecutorService executor, boolean ownExecutor) {
+        this.validatorFactory = validatorFactory;
+        this.executor = executor;
+        this.ownExecutor = ownExecutor;
+    }
+
+    /**
+     * Validate the given beans.
+     *
+     * @param beans the beans to validate
+     * @return the number of validated beans and the summaries of the beans having violations
+     * @throws InterruptedException if the current thread is interrupted while waiting for the validation
+     * @throws ValidationException  if the validation of a bean failed
+     */
+    public BulkValidationResult validate(Iterable<?> beans) throws InterruptedException {
+        List<Future<List<BeanValidationSummary>>> futures = new ArrayList<Future<List<BeanValidationSummary>>>();
+        // forms idle between two batches, dropped when this call returns
+        ConcurrentLinkedQueue<HeadlessForm<Object>> forms = new ConcurrentLinkedQueue<HeadlessForm<Object>>();
+        List<Object> batch = new ArrayList<Object>(batchSize);
+        int count = 0;
+        for (Object bean : beans) {
+            batch.add(bean);
+            count++;
+            if (batch.size() == batchSize) {
+                futures.add(executor.submit(new BatchTask(forms, count - batch.size(), batch)));
+                batch = new ArrayList<Object>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            futures.add(executor.submit(new BatchTask(forms, count - batch.size(), batch)));
+        }
+        List<BeanValidationSummary> summaries = new ArrayList<BeanValidationSummary>();
+        try {
+            for (Future<List<BeanValidationSummary>> future : futures) {
+                summaries.addAll(future.get());
+            }
+        } catch (ExecutionException e) {
+            cancel(futures);
+            throw new ValidationException("Bulk validation failed", e.getCause());
+        } catch (InterruptedException e) {
+            cancel(futures);
+            throw e;
+        }
+        return new BulkValidationResult(count, summaries);
+    }
+
+    private void cancel(List<Future<List<BeanValidationSummary>>> futures) {
+        for (Future<List<BeanValidationSummary>> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * Validate a bean with the given form.
+     *
+     * @return the summary of the violations or null if the bean has no violation
+     */
+    private BeanValidationSummary validate(HeadlessForm<Object> form, int index, Object bean) {
+        form.setSource(bean);
+        ValidationResult result = form.validate();
+        if (result.getErrors().isEmpty() && result.getWarnings().isEmpty()) {
+            return null;
+        }
+        List<ConstraintViolation> violations = result.getAll();
+        String[] properties = new String[violations.size()];
+        String[] messages = new String[violations.size()];
+        for (int i = 0; i < violations.size(); i++) {
+            properties[i] = getPropertyName(violations.get(i));
+            messages[i] = violations.get(i).getMessage();
+        }
+        return new BeanValidationSummary(index, bean, properties, messages, result.getErrors().size());
+    }
+
+    /**
+     * Get the name of the property a violation was reported on.
+     *
+     * @return the last node of the property path, null for class level violations
+     */
+    private String getPropertyName(ConstraintViolation violation) {
+        String name = null;
+        if (violation.getPropertyPath() != null) {
+            for (Path.Node node : violation.getPropertyPath()) {
+                name = node.getName();
+            }
+        }
+        return name;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Set the number of beans validated by a single task.
+     *
+     * @param batchSize
+     */
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Invalid batch size " + batchSize);
+        }
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Shut down the executor if it was created by this validator.
+     */
+    @Override
+    public void dispose() {
+        if (ownExecutor) {
+            executor.shutdown();
+        }
+    }
+
+    private class BatchTask implements Callable<List<BeanValidationSummary>> {
+
+        private final ConcurrentLinkedQueue<HeadlessForm<Object>> forms;
+
+        private final int firstIndex;
+
+        private final List<Object> beans;
+
+        private BatchTask(ConcurrentLinkedQueue<HeadlessForm<Object>> forms, int firstIndex, List<Object> beans) {
+            this.forms = forms;
+            this.firstIndex = firstIndex;
+            this.beans = beans;
+        }
+
+        @Override
+        public List<BeanValidationSummary> call() throws Exception {
+            HeadlessForm<Object> form = forms.poll();
+            if (form == null) {
+                form = new HeadlessForm<Object>(null, validatorFactory.call(null));
+            }
+            List<BeanValidationSummary> summaries = new ArrayList<BeanValidationSummary>();
+            try {
+                for (int i = 0; i < beans.size(); i++) {
+                    BeanValidationSummary summary = validate(form, firstIndex + i, beans.get(i));
+                    if (summary != null) {
+                        summaries.add(summary);
+                    }
+                }
+            } finally {
+                form.setSource(null);
+                forms.offer(form);
+            }
+            return summaries;
+        }
+    }
+
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.validation.lightweight;
+
+import com.dooapp.fxform.validation.Warning;
+
+import javax.validation.Payload;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import javax.validation.groups.Default;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * A precompiled check of one of the supported standard constraints: @NotNull, @Size, @Min, @Max and @Pattern.
+ * All annotation attributes are read and the regular expressions compiled once, when the check is created.
+ * <br>
+ * Created at 18/10/26 23:53.<br>
+ *
+ * @author agent <agent@local>
+ */
+abstract class ConstraintCheck {
+
+    private final SimpleConstraintDescriptor<?> descriptor;
+
+    private final String messageTemplate;
+
+    private final boolean warning;
+
+    private final boolean defaultGroup;
+
+    protected ConstraintCheck(SimpleConstraintDescriptor<?> descriptor) {
+        this.descriptor = descriptor;
+        this.messageTemplate = (String) descriptor.getAttributes().get("message");
+        // as in the DefaultFXFormValidator, a constraint is validated for a group when it belongs to this group or to
+        // one of the groups it extends, and a constraint validated for the default group is an error
+        boolean defaultGroup = false;
+        boolean warningGroup = false;
+        for (Class<?> group : descriptor.getGroups()) {
+            if (group.isAssignableFrom(Default.class)) {
+                defaultGroup = true;
+            }
+            if (group.isAssignableFrom(Warning.class)) {
+                warningGroup = true;
+            }
+        }
+        this.defaultGroup = defaultGroup;
+        this.warning = warningGroup && !defaultGroup;
+    }
+
+    /**
+     * Check the given value.
+     *
+     * @param value the value to check, might be null
+     * @return true if the value satisfies the constraint
+     */
+    abstract boolean isValid(Object value);
+
+    SimpleConstraintDescriptor<?> getDescriptor() {
+        return descriptor;
+    }
+
+    String getMessageTemplate() {
+        return messageTemplate;
+    }
+
+    /**
+     * @return true if this constraint is only validated for the {@link Warning} group
+     */
+    boolean isWarning() {
+        return warning;
+    }
+
+    boolean isDefaultGroup() {
+        return defaultGroup;
+    }
+
+    /**
+     * Check whether this constraint is validated for one of the given groups, that is whether it belongs to one of
+     * these groups or to one of the groups they extend.
+     *
+     * @param groups the validated groups, the default group if empty
+     * @return
+     */
+    boolean matches(Class... groups) {
+        if (groups.length == 0) {
+            return defaultGroup;
+        }
+        for (Class group : groups) {
+            for (Class<?> constraintGroup : descriptor.getGroups()) {
+                if (constraintGroup.isAssignableFrom(group)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Compile the given annotation into checks.
+     *
+     * @param annotation the annotation to compile
+     * @param checks     the list the created checks are added to
+     * @return false if the annotation is a constraint that is not supported
+     */
+    static boolean compile(Annotation annotation, List<ConstraintCheck> checks) {
+        Class<? extends Annotation> type = annotation.annotationType();
+        if (type == NotNull.class) {
+            checks.add(new NotNullCheck(describe(annotation)));
+        } else if (type == Size.class) {
+            Size size = (Size) annotation;
+            checks.add(new SizeCheck(describe(annotation), size.min(), size.max()));
+        } else if (type == Min.class) {
+            checks.add(new MinCheck(describe(annotation), ((Min) annotation).value()));
+        } else if (type == Max.class) {
+            checks.add(new MaxCheck(describe(annotation), ((Max) annotation).value()));
+        } else if (type == javax.validation.constraints.Pattern.class) {
+            javax.validation.constraints.Pattern pattern = (javax.validation.constraints.Pattern) annotation;
+            int flags = 0;
+            for (javax.validation.constraints.Pattern.Flag flag : pattern.flags()) {
+                flags |= flag.getValue();
+            }
+            checks.add(new PatternCheck(describe(annotation), Pattern.compile(pattern.regexp(), flags)));
+        } else if (type == NotNull.List.class || type == Size.List.class || type == Min.List.class
+                || type == Max.List.class || type == javax.validation.constraints.Pattern.List.class) {
+            // multi-valued constraints
+            Object values = attributes(annotation).get("value");
+            for (int i = 0; i < Array.getLength(values); i++) {
+                compile((Annotation) Array.get(values, i), checks);
+            }
+        } else if (type.isAnnotationPresent(javax.validation.Constraint.class)) {
+            return false;
+        }
+        return true;
+    }
+
+    private static SimpleConstraintDescriptor<?> describe(Annotation annotation) {
+        Map<String, Object> attributes = attributes(annotation);
+        Set<Class<?>> groups = new HashSet<Class<?>>(Arrays.asList((Class<?>[]) attributes.get("groups")));
+        if (groups.isEmpty()) {
+            groups.add(Default.class);
+        }
+        Set<Class<? extends Payload>> payload = new HashSet<Class<? extends Payload>>(Arrays.asList((Class<? extends Payload>[]) attributes.get("payload")));
+        return new SimpleConstraintDescriptor<Annotation>(annotation, groups, payload, attributes);
+    }
+
+    private static Map<String, Object> attributes(Annotation annotation) {
+        Map<String, Object> attributes = new HashMap<String, Object>();
+        for (Method method : annotation.annotationType().getDeclaredMethods()) {
+            try {
+                method.setAccessible(true);
+                attributes.put(method.getName(), method.invoke(annotation));
+            } catch (Exception e) {
+                throw new IllegalStateException("Unable to read attribute " + method.getName() + " of " + annotation, e);
+            }
+        }
+        return attributes;
+    }
+
+    private static class NotNullCheck extends ConstraintCheck {
+
+        private NotNullCheck(SimpleConstraintDescriptor<?> descriptor) {
+            super(descriptor);
+        }
+
+        @Override
+        boolean isValid(Object value) {
+            return value != null;
+        }
+    }
+
+    private static class SizeCheck extends ConstraintCheck {
+
+        private final int min;
+
+        private final int max;
+
+        private SizeCheck(SimpleConstraintDescriptor<?> descriptor, int min, int max) {
+            super(descriptor);
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        boolean isValid(Object value) {
+            if (value == null) {
+                return true;
+            }
+            int size;
+            if (value instanceof CharSequence) {
+                size = ((CharSequence) value).length();
+            } else if (value instanceof Collection) {
+                size = ((Collection) value).size();
+            } else if (value instanceof Map) {
+                size = ((Map) value).size();
+            } else if (value.getClass().isArray()) {
+                size = Array.getLength(value);
+            } else {
+                return true;
+            }
+            return size >= min && size <= max;
+        }
+    }
+
+    private static int compare(Object value, long limit) {
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).compareTo(BigDecimal.valueOf(limit));
+        } else if (value instanceof BigInteger) {
+            return ((BigInteger) value).compareTo(BigInteger.valueOf(limit));
+        } else if (value instanceof Double || value instanceof Float) {
+            return Double.compare(((Number) value).doubleValue(), limit);
+        } else {
+            long longValue = ((Number) value).longValue();
+            return longValue < limit ? -1 : (longValue == limit ? 0 : 1);
+        }
+    }
+
+    private static class MinCheck extends ConstraintCheck {
+
+        private final long min;
+
+        private MinCheck(SimpleConstraintDescriptor<?> descriptor, long min) {
+            super(descriptor);
+            this.min = min;
+        }
+
+        @Override
+        boolean isValid(Object value) {
+            return !(value instanceof Number) || compare(value, min) >= 0;
+        }
+    }
+
+    private static class MaxCheck extends ConstraintCheck {
+
+        private final long max;
+
+        private MaxCheck(SimpleConstraintDescriptor<?> descriptor, long max) {
+            super(descriptor);
+            this.max = max;
+        }
+
+        @Override
+        boolean isValid(Object value) {
+            return !(value instanceof Number) || compare(value, max) <= 0;
+        }
+    }
+
+    private static class PatternCheck extends ConstraintCheck {
+
+        private final Pattern pattern;
+
+        private PatternCheck(SimpleConstraintDescriptor<?> descriptor, Pattern pattern) {
+            super(descriptor);
+            this.pattern = pattern;
+        }
+
+        @Override
+        boolean isValid(Object value) {
+            return !(value instanceof CharSequence) || pattern.matcher((CharSequence) value).matches();
+        }
+    }
+
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.validation.lightweight;
+
+import com.dooapp.fxform.model.Element;
+import com.dooapp.fxform.validation.AbstractFXFormValidator;
+import com.dooapp.fxform.validation.ValidationResult;
+
+import javafx.beans.value.ObservableValue;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.MessageInterpolator;
+import java.beans.Introspector;
+import java.lang.ref.SoftReference;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A lightweight FXFormValidator that does not require any Bean Validation implementation. It supports the
+ * standard @NotNull, @Size, @Min, @Max and @Pattern constraints declared on getters and fields, including their
+ * List variants and the {@link com.dooapp.fxform.validation.Warning} group. Constraints are compiled once per bean
+ * class into checks, so that no reflection is involved when a value is validated.
+ * <p/>
+ * As with a Bean Validation implementation, constraints declared on fields holding JavaFX properties are not
+ * applied to the property values: such constraints must be declared on the getters. Class level constraints and
+ * other constraints are not supported. Every ignored constraint is logged when the bean class is compiled.
+ * <p/>
+ * It can be selected for a given form with:
+ * <pre>
+ * fxForm.setFxFormValidator(new LightweightFXFormValidator());
+ * </pre>
+ * <br>
+ * Created at 18/10/26 23:53.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class LightweightFXFormValidator extends AbstractFXFormValidator {
+
+    private final static Logger logger = Logger.getLogger(LightweightFXFormValidator.class.getName());
+
+    private final static ConstraintCheck[] NO_CHECKS = new ConstraintCheck[0];
+
+    /**
+     * The compiled checks of each bean class. As in the ConstraintMetadataIndex, the classes are weakly referenced
+     * and their checks softly referenced, so that validated classes and their class loaders can be unloaded.
+     */
+    private final Map<Class, SoftReference<Map<String, ConstraintCheck[]>>> compiledClasses = new WeakHashMap<Class, SoftReference<Map<String, ConstraintCheck[]>>>();
+
+    private final TemplateMessageInterpolator messageInterpolator = new TemplateMessageInterpolator();
+
+    @Override
+    public List<ConstraintViolation> validate(Element element, Object newValue, Class... groups) {
+        ConstraintCheck[] checks = getChecks(element);
+        if (checks.length == 0) {
+            return Collections.emptyList();
+        }
+        List<ConstraintViolation> violations = new ArrayList<ConstraintViolation>(1);
+        for (ConstraintCheck check : checks) {
+            if (check.matches(groups) && !check.isValid(newValue)) {
+                violations.add(createViolation(element, newValue, check));
+            }
+        }
+        return violations;
+    }
+
+    @Override
+    public ValidationResult validateGroups(Element element, Object newValue) {
+        ConstraintCheck[] checks = getChecks(element);
+        List<ConstraintViolation> errors = null;
+        List<ConstraintViolation> warnings = null;
+        for (ConstraintCheck check : checks) {
+            if (!check.isValid(newValue)) {
+                if (check.isWarning()) {
+                    if (warnings == null) {
+                        warnings = new ArrayList<ConstraintViolation>(1);
+                    }
+                    warnings.add(createViolation(element, newValue, check));
+                } else if (check.isDefaultGroup()) {
+                    if (errors == null) {
+                        errors = new ArrayList<ConstraintViolation>(1);
+                    }
+                    errors.add(createViolation(element, newValue, check));
+                }
+            }
+        }
+        if (errors == null && warnings == null) {
+            return ValidationResult.EMPTY;
+        }
+        return new ValidationResult(errors == null ? Collections.<ConstraintViolation>emptyList() : errors,
+                warnings == null ? Collections.<ConstraintViolation>emptyList() : warnings);
+    }
+
+    @Override
+    public boolean isConstrained(Element element) {
+        return getChecks(element).length > 0;
+    }
+
+    @Override
+    public boolean hasClassConstraints(Object bean) {
+        return false;
+    }
+
+    @Override
+    public List<ConstraintViolation> validateClassConstraint(Object bean) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public MessageInterpolator getMessageInterpolator() {
+        return messageInterpolator;
+    }
+
+    private ConstraintViolation createViolation(Element element, Object value, ConstraintCheck check) {
+        return new SimpleConstraintViolation(element.getBean(), element.getName(), value, check.getMessageTemplate(), messageInterpolator, check.getDescriptor());
+    }
+
+    private ConstraintCheck[] getChecks(Element element) {
+        Object bean = element.getBean();
+        if (bean == null) {
+            return NO_CHECKS;
+        }
+        ConstraintCheck[] checks = getCompiledClass(bean.getClass()).get(element.getName());
+        return checks == null ? NO_CHECKS : checks;
+    }
+
+    private Map<String, ConstraintCheck[]> getCompiledClass(Class beanClass) {
+        synchronized (compiledClasses) {
+            SoftReference<Map<String, ConstraintCheck[]>> reference = compiledClasses.get(beanClass);
+            Map<String, ConstraintCheck[]> compiled = reference == null ? null : reference.get();
+            if (compiled != null) {
+                return compiled;
+            }
+        }
+        Map<String, ConstraintCheck[]> compiled = compile(beanClass);
+        synchronized (compiledClasses) {
+            compiledClasses.put(beanClass, new SoftReference<Map<String, ConstraintCheck[]>>(compiled));
+        }
+        return compiled;
+    }
+
+    /**
+     * Compile the constraints declared on the getters and fields of the given class and its superclasses.
+     *
+     * @param beanClass
+     * @return the checks by property name, only constrained properties are included
+     */
+    private Map<String, ConstraintCheck[]> compile(Class beanClass) {
+        Map<String, List<ConstraintCheck>> checks = new HashMap<String, List<ConstraintCheck>>();
+        for (Class clazz = beanClass; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            for (Annotation annotation : clazz.getDeclaredAnnotations()) {
+                if (isConstraint(annotation)) {
+                    logger.log(Level.WARNING, "Class level constraint " + annotation + " on " + clazz + " is not " +
+                            "supported by LightweightFXFormValidator and will be ignored");
+                }
+            }
+            for (Field field : clazz.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    compile(field, field.getName(), field.getType(), field.getAnnotations(), checks);
+                }
+            }
+            for (Method method : clazz.getDeclaredMethods()) {
+                if (!Modifier.isStatic(method.getModifiers()) && !method.isSynthetic()) {
+                    compile(method, getPropertyName(method), method.getReturnType(), method.getAnnotations(), checks);
+                }
+            }
+        }
+        Map<String, ConstraintCheck[]> compiled = new HashMap<String, ConstraintCheck[]>();
+        for (Map.Entry<String, List<ConstraintCheck>> entry : checks.entrySet()) {
+            compiled.put(entry.getKey(), entry.getValue().toArray(new ConstraintCheck[entry.getValue().size()]));
+        }
+        return compiled;
+    }
+
+    /**
+     * Compile the constraints declared on a field or a method.
+     *
+     * @param member       the annotated field or method
+     * @param propertyName the name of the property, null if the method is not a getter
+     * @param type         the type of the field or the return type of the getter
+     * @param annotations  the annotations of the member
+     * @param checks       the checks by property name
+     */
+    private void compile(Object member, String propertyName, Class type, Annotation[] annotations, Map<String, List<ConstraintCheck>> checks) {
+        for (Annotation annotation : annotations) {
+            if (!isConstraint(annotation)) {
+                continue;
+            }
+            String reason = null;
+            if (propertyName == null) {
+                reason = "is not declared on a getter";
+            } else if (ObservableValue.class.isAssignableFrom(type)) {
+                reason = "applies to the property object and not to its value, it must be declared on the getter";
+            } else {
+                List<ConstraintCheck> propertyChecks = checks.get(propertyName);
+                if (propertyChecks == null) {
+                    propertyChecks = new ArrayList<ConstraintCheck>();
+                    checks.put(propertyName, propertyChecks);
+                }
+                if (!ConstraintCheck.compile(annotation, propertyChecks)) {
+                    reason = "is not supported by LightweightFXFormValidator";
+                }
+                if (propertyChecks.isEmpty()) {
+                    checks.remove(propertyName);
+                }
+            }
+            if (reason != null) {
+                logger.log(Level.WARNING, "Constraint " + annotation + " on " + member + " " + reason + " and will be ignored");
+            }
+        }
+    }
+
+    /**
+     * Check whether the given annotation is a constraint or a list of constraints.
+     */
+    private boolean isConstraint(Annotation annotation) {
+        Class<? extends Annotation> type = annotation.annotationType();
+        if (type.isAnnotationPresent(javax.validation.Constraint.class)) {
+            return true;
+        }
+        try {
+            Method value = type.getDeclaredMethod("value");
+            Class<?> valueType = value.getReturnType();
+            return valueType.isArray() && valueType.getComponentType().isAnnotationPresent(javax.validation.Constraint.class);
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Get the name of the property read by the given getter, following the JavaBeans naming conventions.
+     *
+     * @param method
+     * @return the property name, or null if the method is not a getter
+     */
+    private String getPropertyName(Method method) {
+        if (method.getParameterTypes().length > 0 || method.getReturnType() == void.class) {
+            return null;
+        }
+        String name = method.getName();
+        if (name.startsWith("get") && name.length() > 3) {
+            return Introspector.decapitalize(name.substring(3));
+        } else if (name.startsWith("is") && name.length() > 2 && method.getReturnType() == boolean.class) {
+            return Introspector.decapitalize(name.substring(2));
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.validation.lightweight;
+
+import com.dooapp.fxform.validation.LazyConstraintViolation;
+
+import javax.validation.MessageInterpolator;
+import javax.validation.Path;
+import javax.validation.metadata.ConstraintDescriptor;
+import java.util.Collections;
+import java.util.Iterator;
+
+/**
+ * A constraint violation reported by the {@link LightweightFXFormValidator}. Its message is interpolated when first
+ * displayed and shared through the {@link com.dooapp.fxform.validation.InterpolationCache}.
+ * <br>
+ * Created at 18/10/26 23:53.<br>
+ *
+ * @author agent <agent@local>
+ */
+class SimpleConstraintViolation extends LazyConstraintViolation<Object> {
+
+    private final Object bean;
+
+    private final String propertyName;
+
+    private final Object invalidValue;
+
+    private final String messageTemplate;
+
+    private final ConstraintDescriptor<?> descriptor;
+
+    SimpleConstraintViolation(Object bean, String propertyName, Object invalidValue, String messageTemplate, MessageInterpolator messageInterpolator, ConstraintDescriptor<?> descriptor) {
+        super(messageInterpolator, descriptor, messageTemplate);
+        this.bean = bean;
+        this.propertyName = propertyName;
+        this.invalidValue = invalidValue;
+        this.messageTemplate = messageTemplate;
+        this.descriptor = descriptor;
+    }
+
+    @Override
+    public String getMessageTemplate() {
+        return messageTemplate;
+    }
+
+    @Override
+    public Object getRootBean() {
+        return bean;
+    }
+
+    @Override
+    public Class<Object> getRootBeanClass() {
+        return bean == null ? null : (Class<Object>) bean.getClass();
+    }
+
+    @Override
+    public Object getLeafBean() {
+        return bean;
+    }
+
+    @Override
+    public Path getPropertyPath() {
+        return new PropertyPath(propertyName);
+    }
+
+    @Override
+    public Object getInvalidValue() {
+        return invalidValue;
+    }
+
+    @Override
+    public ConstraintDescriptor<?> getConstraintDescriptor() {
+        return descriptor;
+    }
+
+    @Override
+    public String toString() {
+        return "SimpleConstraintViolation{" +
+                "propertyName='" + propertyName + '\'' +
+                ", messageTemplate='" + messageTemplate + '\'' +
+                '}';
+    }
+
+    /**
+     * A path made of a single property node.
+     */
+    private static class PropertyPath implements Path {
+
+        private final Node node;
+
+        private PropertyPath(final String propertyName) {
+            node = new Node() {
+                @Override
+                public String getName() {
+                    return propertyName;
+                }
+
+                @Override
+                public boolean isInIterable() {
+                    return false;
+                }
+
+                @Override
+                public Integer getIndex() {
+                    return null;
+                }
+
+                @Override
+                public Object getKey() {
+                    return null;
+                }
+
+                @Override
+                public String toString() {
+                    return propertyName;
+                }
+            };
+        }
+
+        @Override
+        public Iterator<Node> iterator() {
+            return Collections.singletonList(node).iterator();
+        }
+
+        @Override
+        public String toString() {
+            return node.getName();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.validation.lightweight;
+
+import javax.validation.MessageInterpolator;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A MessageInterpolator based on a table of message templates. Message keys such as
+ * <code>{javax.validation.constraints.NotNull.message}</code> are first looked up in the user provided
+ * <code>ValidationMessages</code> resource bundle, then in the default table. Constraint attributes such as
+ * <code>{min}</code> are then replaced by their value.
+ * <br>
+ * Created at 18/10/26 23:53.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class TemplateMessageInterpolator implements MessageInterpolator {
+
+    private final static String USER_BUNDLE = "ValidationMessages";
+
+    private final static Pattern PARAMETER = Pattern.compile("\\{([^{}]+)\\}");
+
+    private final static Map<String, String> DEFAULT_TEMPLATES = new HashMap<String, String>();
+
+    static {
+        DEFAULT_TEMPLATES.put("javax.validation.constraints.NotNull.message", "may not be null");
+        DEFAULT_TEMPLATES.put("javax.validation.constraints.Size.message", "size must be between {min} and {max}");
+        DEFAULT_TEMPLATES.put("javax.validation.constraints.Min.message", "must be greater than or equal to {value}");
+        DEFAULT_TEMPLATES.put("javax.validation.constraints.Max.message", "must be less than or equal to {value}");
+        DEFAULT_TEMPLATES.put("javax.validation.constraints.Pattern.message", "must match \"{regexp}\"");
+        DEFAULT_TEMPLATES.put("com.dooapp.fxform.constraint.Adaptable.message", "Invalid input");
+    }
+
+    private final ConcurrentMap<Locale, ResourceBundle> userBundles = new ConcurrentHashMap<Locale, ResourceBundle>();
+
+    /**
+     * Marker for a missing user bundle, since ConcurrentHashMap does not accept null values.
+     */
+    private final static ResourceBundle NO_BUNDLE = new ListResourceBundle() {
+        @Override
+        protected Object[][] getContents() {
+            return new Object[0][];
+        }
+    };
+
+    @Override
+    public String interpolate(String messageTemplate, Context context) {
+        return interpolate(messageTemplate, context, Locale.getDefault());
+    }
+
+    @Override
+    public String interpolate(String messageTemplate, Context context, Locale locale) {
+        Map<String, Object> attributes = context.getConstraintDescriptor() == null ?
+                Collections.<String, Object>emptyMap() : context.getConstraintDescriptor().getAttributes();
+        return interpolate(messageTemplate, attributes, locale);
+    }
+
+    /**
+     * Interpolate a message template with the given constraint attributes.
+     *
+     * @param messageTemplate the template to interpolate
+     * @param attributes      the constraint attributes
+     * @param locale          the locale of the message
+     * @return the interpolated message
+     */
+    public String interpolate(String messageTemplate, Map<String, Object> attributes, Locale locale) {
+        return replace(replace(messageTemplate, null, locale), attributes, locale);
+    }
+
+    /**
+     * Replace the {parameters} of the given template by either constraint attributes or message keys.
+     */
+    private String replace(String template, Map<String, Object> attributes, Locale locale) {
+        if (template == null || template.indexOf('{') < 0) {
+            return template;
+        }
+        Matcher matcher = PARAMETER.matcher(template);
+        StringBuffer sb = new StringBuffer();
+        while (matcher.find()) {
+            String parameter = matcher.group(1);
+            String replacement;
+            if (attributes == null) {
+                replacement = resolveKey(parameter, locale);
+            } else {
+                Object value = attributes.get(parameter);
+                replacement = value == null ? null : String.valueOf(value);
+            }
+            matcher.appendReplacement(sb, Matcher.quoteReplacement(replacement == null ? matcher.group() : replacement));
+        }
+        matcher.appendTail(sb);
+        return sb.toString();
+    }
+
+    private String resolveKey(String key, Locale locale) {
+        ResourceBundle bundle = getUserBundle(locale);
+        if (bundle != NO_BUNDLE && bundle.containsKey(key)) {
+            return bundle.getString(key);
+        }
+        return DEFAULT_TEMPLATES.get(key);
+    }
+
+    private ResourceBundle getUserBundle(Locale locale) {
+        ResourceBundle bundle = userBundles.get(locale);
+        if (bundle == null) {
+            try {
+                bundle = ResourceBundle.getBundle(USER_BUNDLE, locale);
+            } catch (MissingResourceException e) {
+                bundle = NO_BUNDLE;
+            }
+            userBundles.putIfAbsent(locale, bundle);
+        }
+        return bundle;
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform;
+
+import com.dooapp.fxform.annotation.NonVisual;
+import com.dooapp.fxform.filter.ExcludeFilter;
+import com.dooapp.fxform.model.Element;
+import com.dooapp.fxform.validation.ValidationResult;
+import com.dooapp.fxform.validation.lightweight.LightweightFXFormValidator;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Created at 18/10/26 23:59.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class HeadlessFormTest {
+
+    public static class ImportedBean {
+
+        private final StringProperty name = new SimpleStringProperty();
+
+        private final IntegerProperty count = new SimpleIntegerProperty();
+
+        @NonVisual
+        private final StringProperty hidden = new SimpleStringProperty();
+
+        @NotNull
+        @Size(max = 5)
+        public String getName() {
+            return name.get();
+        }
+
+        @Max(10)
+        public int getCount() {
+            return count.get();
+        }
+
+    }
+
+    private HeadlessForm<ImportedBean> createForm(ImportedBean bean) {
+        return new HeadlessForm<ImportedBean>(bean, new LightweightFXFormValidator());
+    }
+
+    @Test
+    public void testElements() {
+        HeadlessForm<ImportedBean> form = createForm(new ImportedBean());
+        Assert.assertEquals(2, form.getElements().size());
+        Assert.assertNotNull(form.getElement("name"));
+        Assert.assertNull(form.getElement("hidden"));
+        form.getFilters().add(new ExcludeFilter("count"));
+        Assert.assertEquals(1, form.getElements().size());
+        form.setSource(null);
+        Assert.assertTrue(form.getElements().isEmpty());
+    }
+
+    @Test
+    public void testSetText() {
+        ImportedBean bean = new ImportedBean();
+        HeadlessForm<ImportedBean> form = createForm(bean);
+        Assert.assertTrue(form.setText("count", "7").isEmpty());
+        Assert.assertEquals(7, bean.count.get());
+        // invalid values are reported and not written to the model
+        Assert.assertEquals(1, form.setText("count", "11").getErrors().size());
+        Assert.assertEquals(7, bean.count.get());
+        // input values that can not be converted are reported
+        Assert.assertEquals(1, form.setText("count", "seven").getErrors().size());
+        Assert.assertEquals(7, bean.count.get());
+        Assert.assertTrue(form.setText("name", "john").isEmpty());
+        Assert.assertEquals("john", bean.name.get());
+    }
+
+    @Test
+    public void testValidate() {
+        ImportedBean bean = new ImportedBean();
+        HeadlessForm<ImportedBean> form = createForm(bean);
+        ValidationResult result = form.validate();
+        // name is null
+        Assert.assertEquals(1, result.getErrors().size());
+        bean.name.set("john");
+        Assert.assertTrue(form.validate().isEmpty());
+        // the same form can be reused for another bean of the same class
+        ImportedBean other = new ImportedBean();
+        other.name.set("too long");
+        form.setSource(other);
+        Assert.assertEquals(1, form.validate().getErrors().size());
+    }
+
+    public static class OtherBean {
+
+        private final StringProperty name = new SimpleStringProperty("other");
+
+    }
+
+    @Test
+    public void testSourceClassChange() {
+        HeadlessForm<Object> form = new HeadlessForm<Object>(new ImportedBean(), new LightweightFXFormValidator());
+        final Element element = form.getElement("name");
+        // a listener, as registered by the controllers of a form, makes the element recompute its value
+        element.addListener(new ChangeListener() {
+            public void changed(ObservableValue observableValue, Object o, Object o1) {
+            }
+        });
+        final List<Throwable> errors = new ArrayList<Throwable>();
+        Thread.UncaughtExceptionHandler handler = Thread.currentThread().getUncaughtExceptionHandler();
+        Thread.currentThread().setUncaughtExceptionHandler(new Thread.UncaughtExceptionHandler() {
+            public void uncaughtException(Thread t, Throwable e) {
+                errors.add(e);
+            }
+        });
+        try {
+            // the elements of the previous class must not read the fields of the new source
+            form.setSource(new OtherBean());
+        } finally {
+            Thread.currentThread().setUncaughtExceptionHandler(handler);
+        }
+        Assert.assertEquals(Collections.emptyList(), errors);
+        Assert.assertNotSame(element, form.getElement("name"));
+        Assert.assertEquals("other", form.getElement("name").getValue());
+    }
+
+}
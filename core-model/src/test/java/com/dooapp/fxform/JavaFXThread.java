@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.dooapp.fxform;
+
+import com.sun.javafx.application.PlatformImpl;
+import javafx.application.Platform;
+import org.junit.Ignore;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs test code on the JavaFX application thread, starting the toolkit if needed.
+ * <br>
+ * Created at 19/10/26 00:52.<br>
+ *
+ * @author agent <agent@local>
+ */
+@Ignore
+public class JavaFXThread {
+
+    /**
+     * Start the JavaFX toolkit, unless it is already running.
+     */
+    public static void start() throws Exception {
+        try {
+            PlatformImpl.startup(new Runnable() {
+                public void run() {
+                }
+            });
+        } catch (IllegalStateException e) {
+            // the toolkit is already initialized
+        }
+        flush();
+    }
+
+    /**
+     * Run the given code on the JavaFX application thread and wait for its completion.
+     *
+     * @param runnable
+     * @throws Exception the exception thrown by the runnable, if any
+     */
+    public static void runAndWait(final Runnable runnable) throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Throwable[] error = new Throwable[1];
+        Platform.runLater(new Runnable() {
+            public void run() {
+                try {
+                    runnable.run();
+                } catch (Throwable e) {
+                    error[0] = e;
+                } finally {
+                    latch.countDown();
+                }
+            }
+        });
+        if (!latch.await(10, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("The JavaFX application thread did not run the task");
+        }
+        if (error[0] instanceof Exception) {
+            throw (Exception) error[0];
+        } else if (error[0] != null) {
+            throw (Error) error[0];
+        }
+    }
+
+    /**
+     * Wait until the tasks posted so far with {@link Platform#runLater(Runnable)} are done.
+     */
+    public static void flush() throws Exception {
+        runAndWait(new Runnable() {
+            public void run() {
+            }
+        });
+    }
+
+}
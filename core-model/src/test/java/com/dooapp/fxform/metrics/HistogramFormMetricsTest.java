@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.metrics;
+
+import com.dooapp.fxform.HeadlessForm;
+import com.dooapp.fxform.validation.lightweight.LightweightFXFormValidator;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.validation.constraints.NotNull;
+
+/**
+ * Created at 19/10/26 00:04.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class HistogramFormMetricsTest {
+
+    public static class ConstrainedBean {
+
+        private final StringProperty name = new SimpleStringProperty();
+
+        @NotNull
+        public String getName() {
+            return name.get();
+        }
+
+    }
+
+    @After
+    public void resetRegistry() {
+        FormMetricsRegistry.setMetrics(null);
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals(0, histogram.getPercentile(50));
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        Assert.assertEquals(1000, histogram.getCount());
+        Assert.assertEquals(1000000, histogram.getMax());
+        assertClose(500000, histogram.getPercentile(50));
+        assertClose(990000, histogram.getPercentile(99));
+        Assert.assertEquals(1000000, histogram.getPercentile(100));
+        histogram.reset();
+        Assert.assertEquals(0, histogram.getCount());
+    }
+
+    @Test
+    public void testBuckets() {
+        for (long value = 0; value < 100000; value += 7) {
+            long highest = LatencyHistogram.highestValueOf(LatencyHistogram.indexOf(value));
+            Assert.assertTrue(highest >= value);
+            Assert.assertTrue(highest - value <= value / 16);
+        }
+    }
+
+    @Test
+    public void testValidationMetrics() {
+        HistogramFormMetrics metrics = new HistogramFormMetrics();
+        FormMetricsRegistry.setMetrics(metrics);
+        HeadlessForm<ConstrainedBean> form = new HeadlessForm<ConstrainedBean>(new ConstrainedBean(), new LightweightFXFormValidator());
+        form.validate();
+        form.setText("name", "john");
+        Assert.assertEquals(2, metrics.getHistogram(HistogramFormMetrics.ELEMENT_VALIDATION).getCount());
+        Assert.assertEquals(1, metrics.getViolationCount());
+        FormMetricsRegistry.setMetrics(null);
+        form.validate();
+        Assert.assertEquals(2, metrics.getHistogram(HistogramFormMetrics.ELEMENT_VALIDATION).getCount());
+    }
+
+    private void assertClose(long expected, long actual) {
+        Assert.assertTrue("expected about " + expected + " but was " + actual, Math.abs(expected - actual) <= expected / 16);
+    }
+
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.dooapp.fxform.validation;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.validation.*;
+import javax.validation.constraints.NotNull;
+import javax.validation.metadata.ConstraintDescriptor;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.*;
+
+/**
+ * Check that class level constraints evaluated by {@link ClassConstraintEvaluator} report the same violations as a
+ * full validation of the bean.
+ * <br>
+ * Created at 19/10/26 00:46.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class ClassConstraintEvaluatorTest {
+
+    @Target(ElementType.TYPE)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Constraint(validatedBy = SameNamesValidator.class)
+    public @interface SameNames {
+
+        String message() default "{first} and {second} must match";
+
+        String first() default "name";
+
+        String second() default "confirmation";
+
+        boolean reportOnProperty() default false;
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+
+    }
+
+    public static class SameNamesValidator implements ConstraintValidator<SameNames, NamedBean> {
+
+        private boolean reportOnProperty;
+
+        @Override
+        public void initialize(SameNames constraintAnnotation) {
+            reportOnProperty = constraintAnnotation.reportOnProperty();
+        }
+
+        @Override
+        public boolean isValid(NamedBean value, ConstraintValidatorContext context) {
+            if (value.getName() == null ? value.getConfirmation() == null : value.getName().equals(value.getConfirmation())) {
+                return true;
+            }
+            if (reportOnProperty) {
+                context.disableDefaultConstraintViolation();
+                context.buildConstraintViolationWithTemplate("does not match").addNode("confirmation").addConstraintViolation();
+            }
+            return false;
+        }
+    }
+
+    public static abstract class NamedBean {
+
+        private final String name;
+
+        private final String confirmation;
+
+        protected NamedBean(String name, String confirmation) {
+            this.name = name;
+            this.confirmation = confirmation;
+        }
+
+        @NotNull
+        public String getName() {
+            return name;
+        }
+
+        public String getConfirmation() {
+            return confirmation;
+        }
+    }
+
+    @SameNames
+    public static class ClassLevelBean extends NamedBean {
+
+        public ClassLevelBean(String name, String confirmation) {
+            super(name, confirmation);
+        }
+    }
+
+    @SameNames(reportOnProperty = true)
+    public static class PropertyNodeBean extends NamedBean {
+
+        public PropertyNodeBean(String name, String confirmation) {
+            super(name, confirmation);
+        }
+    }
+
+    public interface First {
+    }
+
+    @SameNames
+    @GroupSequence({First.class, SequencedBean.class})
+    public static class SequencedBean extends NamedBean {
+
+        public SequencedBean(String name, String confirmation) {
+            super(name, confirmation);
+        }
+
+        @NotNull(groups = First.class)
+        public String getConfirmation() {
+            return super.getConfirmation();
+        }
+    }
+
+    private final DefaultFXFormValidator validator = new DefaultFXFormValidator();
+
+    private final Validator referenceValidator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Test
+    public void testValidBean() {
+        assertSameViolations(new ClassLevelBean("a", "a"));
+        Assert.assertTrue(validator.validateClassConstraint(new ClassLevelBean("a", "a")).isEmpty());
+    }
+
+    @Test
+    public void testClassLevelViolation() {
+        assertSameViolations(new ClassLevelBean("a", "b"));
+        // the property violation on name is not reported
+        assertSameViolations(new ClassLevelBean(null, "b"));
+        Assert.assertEquals(1, validator.validateClassConstraint(new ClassLevelBean(null, "b")).size());
+    }
+
+    @Test
+    public void testViolationOnPropertyNode() {
+        assertSameViolations(new PropertyNodeBean("a", "b"));
+        // once the evaluator has fallen back to the full validation, it keeps doing so
+        assertSameViolations(new PropertyNodeBean("a", "c"));
+        assertSameViolations(new PropertyNodeBean("a", "a"));
+    }
+
+    @Test
+    public void testGroupSequence() {
+        // the class level constraint is not validated while the first group of the sequence fails
+        assertSameViolations(new SequencedBean("a", null));
+        Assert.assertTrue(validator.validateClassConstraint(new SequencedBean("a", null)).isEmpty());
+        assertSameViolations(new SequencedBean("a", "b"));
+    }
+
+    private void assertSameViolations(Object bean) {
+        Set<ConstraintDescriptor<?>> classConstraints = referenceValidator.getConstraintsForClass(bean.getClass())
+                .findConstraints().declaredOn(ElementType.TYPE).getConstraintDescriptors();
+        List<String> expected = new ArrayList<String>();
+        for (ConstraintViolation violation : referenceValidator.validate(bean)) {
+            if (classConstraints.contains(violation.getConstraintDescriptor())) {
+                expected.add(describe(violation, bean));
+            }
+        }
+        List<String> actual = new ArrayList<String>();
+        for (ConstraintViolation violation : validator.validateClassConstraint(bean)) {
+            actual.add(describe(violation, bean));
+        }
+        Collections.sort(expected);
+        Collections.sort(actual);
+        Assert.assertEquals(expected, actual);
+    }
+
+    private String describe(ConstraintViolation violation, Object bean) {
+        StringBuilder builder = new StringBuilder();
+        builder.append(violation.getMessageTemplate()).append('|').append(violation.getMessage()).append('|');
+        builder.append(violation.getPropertyPath()).append('|');
+        for (Path.Node node : violation.getPropertyPath()) {
+            builder.append('[').append(node.getName()).append(',').append(node.isInIterable()).append(',')
+                    .append(node.getIndex()).append(',').append(node.getKey()).append(']');
+        }
+        builder.append('|').append(violation.getRootBean() == bean).append(violation.getLeafBean() == bean)
+                .append(violation.getInvalidValue() == bean).append('|').append(violation.getRootBeanClass().getName())
+                .append('|').append(violation.getConstraintDescriptor().getAnnotation());
+        return builder.toString();
+    }
+
+}
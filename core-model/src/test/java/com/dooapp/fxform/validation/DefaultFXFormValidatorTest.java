@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.dooapp.fxform.validation;
+
+import com.dooapp.fxform.HeadlessForm;
+import com.dooapp.fxform.model.Element;
+import com.dooapp.fxform.model.FormException;
+import com.dooapp.fxform.model.impl.PropertyFieldElement;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.MessageInterpolator;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import javax.validation.groups.Default;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Created at 19/10/26 00:42.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class DefaultFXFormValidatorTest {
+
+    public static class ConstrainedBean {
+
+        private final StringProperty name = new SimpleStringProperty();
+
+        private final IntegerProperty year = new SimpleIntegerProperty();
+
+        private final StringProperty code = new SimpleStringProperty();
+
+        private final StringProperty comment = new SimpleStringProperty();
+
+        @NotNull
+        @Size(min = 2)
+        public String getName() {
+            return name.get();
+        }
+
+        @Min(0)
+        @Max(value = 2100, groups = Warning.class)
+        public int getYear() {
+            return year.get();
+        }
+
+        @Size(max = 3, groups = {Default.class, Warning.class})
+        public String getCode() {
+            return code.get();
+        }
+
+        public String getComment() {
+            return comment.get();
+        }
+
+    }
+
+    private final DefaultFXFormValidator validator = new DefaultFXFormValidator();
+
+    private Element element(String name) throws NoSuchFieldException, FormException {
+        Field field = ConstrainedBean.class.getDeclaredField(name);
+        field.setAccessible(true);
+        Element element = new PropertyFieldElement(field);
+        element.sourceProperty().set(new ConstrainedBean());
+        return element;
+    }
+
+    @Test
+    public void testErrors() throws Exception {
+        Element name = element("name");
+        ValidationResult result = validator.validateGroups(name, null);
+        Assert.assertEquals(1, result.getErrors().size());
+        Assert.assertTrue(result.getWarnings().isEmpty());
+        Assert.assertEquals(1, validator.validateGroups(name, "a").getErrors().size());
+        Assert.assertSame(ValidationResult.EMPTY, validator.validateGroups(name, "abc"));
+    }
+
+    @Test
+    public void testWarnings() throws Exception {
+        Element year = element("year");
+        ValidationResult result = validator.validateGroups(year, -1);
+        Assert.assertEquals(1, result.getErrors().size());
+        Assert.assertTrue(result.getWarnings().isEmpty());
+        result = validator.validateGroups(year, 2200);
+        Assert.assertTrue(result.getErrors().isEmpty());
+        Assert.assertEquals(1, result.getWarnings().size());
+        Assert.assertTrue(validator.validateGroups(year, 2000).isEmpty());
+    }
+
+    @Test
+    public void testConstraintInBothGroupsIsAnError() throws Exception {
+        Element code = element("code");
+        // the constraint is violated for the Warning group as well
+        Assert.assertEquals(1, validator.validate(code, "abcd", Warning.class).size());
+        ValidationResult result = validator.validateGroups(code, "abcd");
+        Assert.assertEquals(1, result.getErrors().size());
+        Assert.assertEquals(Size.class, result.getErrors().get(0).getConstraintDescriptor().getAnnotation().annotationType());
+        // but it is only reported as an error, and no longer as a warning too
+        for (ConstraintViolation warning : result.getWarnings()) {
+            Assert.assertFalse(Size.class.equals(warning.getConstraintDescriptor().getAnnotation().annotationType()));
+        }
+        Assert.assertTrue(result.getWarnings().isEmpty());
+    }
+
+    @Test
+    public void testSamePartitionAsEachGroup() throws Exception {
+        Object[][] values = {{"name", null}, {"name", "a"}, {"name", "abc"}, {"year", -1}, {"year", 2200}, {"year", 2000}};
+        for (Object[] value : values) {
+            Element element = element((String) value[0]);
+            ValidationResult single = validator.validateGroups(element, value[1]);
+            ValidationResult each = FXFormValidators.validateEachGroup(validator, element, value[1]);
+            Assert.assertEquals(messages(each.getErrors()), messages(single.getErrors()));
+            Assert.assertEquals(messages(each.getWarnings()), messages(single.getWarnings()));
+        }
+    }
+
+    @Test
+    public void testPlainValidatorIsCalledForEachGroup() throws Exception {
+        final List<List<Class>> calls = new ArrayList<List<Class>>();
+        FXFormValidator plainValidator = new FXFormValidator() {
+            public List<ConstraintViolation> validate(Element element, Object newValue, Class... groups) {
+                List<Class> list = new ArrayList<Class>();
+                Collections.addAll(list, groups);
+                calls.add(list);
+                return validator.validate(element, newValue, groups);
+            }
+
+            public List<ConstraintViolation> validateClassConstraint(Object bean) {
+                return Collections.emptyList();
+            }
+
+            public MessageInterpolator getMessageInterpolator() {
+                return validator.getMessageInterpolator();
+            }
+        };
+        ValidationResult result = FXFormValidators.validateGroups(plainValidator, element("year"), 2200);
+        Assert.assertEquals(2, calls.size());
+        Assert.assertTrue(calls.get(0).isEmpty());
+        Assert.assertEquals(Collections.<Class>singletonList(Warning.class), calls.get(1));
+        Assert.assertTrue(result.getErrors().isEmpty());
+        Assert.assertEquals(1, result.getWarnings().size());
+    }
+
+    @Test
+    public void testUnconstrainedElementIsSkipped() throws Exception {
+        ValidationStatistics statistics = validator.getStatistics();
+        statistics.reset();
+        Assert.assertFalse(FXFormValidators.isConstrained(validator, element("comment")));
+        Assert.assertTrue(FXFormValidators.isConstrained(validator, element("name")));
+        Assert.assertEquals(1, statistics.getPropertySkips());
+        Assert.assertEquals(1, statistics.getPropertyHits());
+        Assert.assertFalse(FXFormValidators.hasClassConstraints(validator, new ConstrainedBean()));
+        Assert.assertEquals(1, statistics.getClassSkips());
+        Assert.assertEquals(0, statistics.getClassHits());
+    }
+
+    @Test
+    public void testFormSkipsUnconstrainedElements() throws Exception {
+        HeadlessForm<ConstrainedBean> form = new HeadlessForm<ConstrainedBean>(new ConstrainedBean(), validator);
+        Assert.assertEquals(4, form.getElements().size());
+        ValidationStatistics statistics = validator.getStatistics();
+        statistics.reset();
+        ValidationResult result = form.validate();
+        // the name is null, the other values are valid
+        Assert.assertEquals(1, result.getErrors().size());
+        Assert.assertEquals(1, statistics.getPropertySkips());
+        Assert.assertEquals(3, statistics.getPropertyHits());
+        Assert.assertEquals(1, statistics.getClassSkips());
+    }
+
+    @Test
+    public void testPlainValidatorIsNeverSkipped() throws Exception {
+        FXFormValidator plainValidator = new FXFormValidator() {
+            public List<ConstraintViolation> validate(Element element, Object newValue, Class... groups) {
+                return Collections.emptyList();
+            }
+
+            public List<ConstraintViolation> validateClassConstraint(Object bean) {
+                return Collections.emptyList();
+            }
+
+            public MessageInterpolator getMessageInterpolator() {
+                return null;
+            }
+        };
+        Assert.assertTrue(FXFormValidators.isConstrained(plainValidator, element("comment")));
+        Assert.assertTrue(FXFormValidators.hasClassConstraints(plainValidator, new ConstrainedBean()));
+    }
+
+    private List<String> messages(List<ConstraintViolation> violations) {
+        List<String> messages = new ArrayList<String>();
+        for (ConstraintViolation violation : violations) {
+            messages.add(violation.getMessageTemplate());
+        }
+        Collections.sort(messages);
+        return messages;
+    }
+
+    @Test
+    public void testMessagesAreInterpolatedWhenDisplayed() throws Exception {
+        final MessageInterpolator interpolator = validator.getMessageInterpolator();
+        final int[] count = new int[1];
+        validator.messageInterpolator = new MessageInterpolator() {
+            @Override
+            public String interpolate(String messageTemplate, Context context) {
+                return interpolate(messageTemplate, context, Locale.getDefault());
+            }
+
+            @Override
+            public String interpolate(String messageTemplate, Context context, Locale locale) {
+                count[0]++;
+                return interpolator.interpolate(messageTemplate, context, locale);
+            }
+        };
+        ValidationResult result = validator.validateGroups(element("name"), null);
+        Assert.assertEquals(1, result.getErrors().size());
+        ConstraintViolation violation = result.getErrors().get(0);
+        Assert.assertEquals("{javax.validation.constraints.NotNull.message}", violation.getMessageTemplate());
+        Assert.assertEquals(0, count[0]);
+        Assert.assertEquals("may not be null", violation.getMessage());
+        Assert.assertEquals("may not be null", violation.getMessage());
+        Assert.assertEquals(1, count[0]);
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.dooapp.fxform.validation;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.validation.MessageInterpolator;
+import javax.validation.metadata.ConstraintDescriptor;
+import java.util.Locale;
+
+/**
+ * Created at 19/10/26 00:50.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class InterpolationCacheTest {
+
+    private static class CountingInterpolator implements MessageInterpolator {
+
+        private int count;
+
+        @Override
+        public String interpolate(String messageTemplate, Context context) {
+            return interpolate(messageTemplate, context, Locale.getDefault());
+        }
+
+        @Override
+        public String interpolate(String messageTemplate, Context context, Locale locale) {
+            count++;
+            return messageTemplate + "@" + locale;
+        }
+    }
+
+    private final static MessageInterpolator.Context CONTEXT = new MessageInterpolator.Context() {
+        @Override
+        public ConstraintDescriptor<?> getConstraintDescriptor() {
+            return null;
+        }
+
+        @Override
+        public Object getValidatedValue() {
+            return null;
+        }
+    };
+
+    @Test
+    public void testMessagesAreCached() {
+        InterpolationCache cache = new InterpolationCache(10);
+        CountingInterpolator interpolator = new CountingInterpolator();
+        Assert.assertEquals("a@fr", cache.interpolate(interpolator, "a", CONTEXT, Locale.FRENCH));
+        Assert.assertEquals("a@fr", cache.interpolate(interpolator, "a", CONTEXT, Locale.FRENCH));
+        Assert.assertEquals(1, interpolator.count);
+        Assert.assertEquals("a@en", cache.interpolate(interpolator, "a", CONTEXT, Locale.ENGLISH));
+        Assert.assertEquals(2, interpolator.count);
+    }
+
+    @Test
+    public void testInterpolatorsHaveTheirOwnMessages() {
+        InterpolationCache cache = new InterpolationCache(10);
+        CountingInterpolator first = new CountingInterpolator();
+        CountingInterpolator second = new CountingInterpolator();
+        cache.interpolate(first, "a", CONTEXT, Locale.FRENCH);
+        cache.interpolate(second, "a", CONTEXT, Locale.FRENCH);
+        Assert.assertEquals(1, first.count);
+        Assert.assertEquals(1, second.count);
+        Assert.assertEquals(1, cache.size(first));
+        Assert.assertEquals(1, cache.size(second));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedMessageIsEvicted() {
+        InterpolationCache cache = new InterpolationCache(2);
+        CountingInterpolator interpolator = new CountingInterpolator();
+        cache.interpolate(interpolator, "a", CONTEXT, Locale.FRENCH);
+        cache.interpolate(interpolator, "b", CONTEXT, Locale.FRENCH);
+        cache.interpolate(interpolator, "a", CONTEXT, Locale.FRENCH);
+        cache.interpolate(interpolator, "c", CONTEXT, Locale.FRENCH);
+        Assert.assertEquals(3, interpolator.count);
+        Assert.assertEquals(2, cache.size(interpolator));
+        // a was used more recently than b, and is still cached
+        cache.interpolate(interpolator, "a", CONTEXT, Locale.FRENCH);
+        Assert.assertEquals(3, interpolator.count);
+        cache.interpolate(interpolator, "b", CONTEXT, Locale.FRENCH);
+        Assert.assertEquals(4, interpolator.count);
+    }
+
+}
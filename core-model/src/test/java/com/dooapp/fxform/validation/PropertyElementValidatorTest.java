@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.dooapp.fxform.validation;
+
+import com.dooapp.fxform.JavaFXThread;
+import com.dooapp.fxform.model.impl.PropertyFieldElement;
+import com.dooapp.fxform.validation.lightweight.LightweightFXFormValidator;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import javax.validation.constraints.Size;
+import java.lang.reflect.Field;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Created at 19/10/26 00:52.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class PropertyElementValidatorTest {
+
+    public static class CodeBean {
+
+        private final StringProperty code = new SimpleStringProperty();
+
+        @Size(max = 3)
+        public String getCode() {
+            return code.get();
+        }
+    }
+
+    /**
+     * Runs the submitted tasks in the calling thread.
+     */
+    private static class SynchronousExecutor extends GatedExecutor {
+
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    }
+
+    private static class Callback implements Runnable {
+
+        private int count;
+
+        public void run() {
+            count++;
+        }
+    }
+
+    private PropertyElementValidator validator;
+
+    @BeforeClass
+    public static void startToolkit() throws Exception {
+        JavaFXThread.start();
+    }
+
+    @Before
+    public void createValidator() throws Exception {
+        Field field = CodeBean.class.getDeclaredField("code");
+        field.setAccessible(true);
+        PropertyFieldElement element = new PropertyFieldElement(field);
+        element.sourceProperty().set(new CodeBean());
+        validator = new PropertyElementValidator(element);
+        validator.setValidator(new LightweightFXFormValidator());
+    }
+
+    private void validateAsync(final Object value, final Runnable onValid) throws Exception {
+        JavaFXThread.runAndWait(new Runnable() {
+            public void run() {
+                validator.validateAsync(value, onValid);
+            }
+        });
+    }
+
+    private void cancel() throws Exception {
+        JavaFXThread.runAndWait(new Runnable() {
+            public void run() {
+                validator.cancelPendingValidation();
+            }
+        });
+    }
+
+    @Test
+    public void testSynchronousExecutor() throws Exception {
+        validator.executorProperty().set(new SynchronousExecutor());
+        Callback onValid = new Callback();
+        validateAsync("abcd", onValid);
+        JavaFXThread.flush();
+        Assert.assertTrue(validator.isInvalid());
+        Assert.assertEquals(1, validator.constraintViolationsProperty().size());
+        Assert.assertFalse(validator.isValidating());
+        Assert.assertEquals(0, onValid.count);
+        validateAsync("abc", onValid);
+        JavaFXThread.flush();
+        Assert.assertFalse(validator.isInvalid());
+        Assert.assertTrue(validator.constraintViolationsProperty().isEmpty());
+        Assert.assertEquals(1, onValid.count);
+    }
+
+    @Test
+    public void testWithoutExecutor() throws Exception {
+        Callback onValid = new Callback();
+        validateAsync("abc", onValid);
+        // validated synchronously
+        Assert.assertEquals(1, onValid.count);
+        Assert.assertFalse(validator.isValidating());
+    }
+
+    @Test
+    public void testShutdownExecutor() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+        validator.executorProperty().set(executor);
+        Callback onValid = new Callback();
+        // the rejected validations are run synchronously
+        validateAsync("abcd", onValid);
+        Assert.assertFalse(validator.isValidating());
+        Assert.assertTrue(validator.isInvalid());
+        Assert.assertEquals(0, onValid.count);
+        validateAsync("abc", onValid);
+        Assert.assertFalse(validator.isValidating());
+        Assert.assertFalse(validator.isInvalid());
+        Assert.assertEquals(1, onValid.count);
+    }
+
+    @Test
+    public void testValidating() throws Exception {
+        GatedExecutor executor = new GatedExecutor();
+        validator.executorProperty().set(executor);
+        Callback onValid = new Callback();
+        validateAsync("abcd", onValid);
+        Assert.assertTrue(validator.isValidating());
+        Assert.assertFalse(validator.isInvalid());
+        executor.runPending();
+        JavaFXThread.flush();
+        Assert.assertFalse(validator.isValidating());
+        Assert.assertTrue(validator.isInvalid());
+        Assert.assertEquals(0, onValid.count);
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        GatedExecutor executor = new GatedExecutor();
+        validator.executorProperty().set(executor);
+        Callback onValid = new Callback();
+        validateAsync("abc", onValid);
+        cancel();
+        Assert.assertFalse(validator.isValidating());
+        // the cancelled task does not run
+        executor.runPending();
+        JavaFXThread.flush();
+        Assert.assertEquals(0, onValid.count);
+        Assert.assertFalse(validator.isValidating());
+    }
+
+    @Test
+    public void testStaleResultIsDropped() throws Exception {
+        final GatedExecutor executor = new GatedExecutor();
+        validator.executorProperty().set(executor);
+        final Callback first = new Callback();
+        final Callback second = new Callback();
+        JavaFXThread.runAndWait(new Runnable() {
+            public void run() {
+                validator.validateAsync("abcd", first);
+                // the first validation completes, its result is applied once this runnable returns
+                executor.runPending();
+                validator.validateAsync("abc", second);
+            }
+        });
+        JavaFXThread.flush();
+        // the result of the first validation is outdated
+        Assert.assertFalse(validator.isInvalid());
+        Assert.assertTrue(validator.isValidating());
+        Assert.assertEquals(0, first.count);
+        executor.runPending();
+        JavaFXThread.flush();
+        Assert.assertFalse(validator.isValidating());
+        Assert.assertFalse(validator.isInvalid());
+        Assert.assertEquals(0, first.count);
+        Assert.assertEquals(1, second.count);
+    }
+
+}
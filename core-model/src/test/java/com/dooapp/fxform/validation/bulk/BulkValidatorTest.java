@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.validation.bulk;
+
+import com.dooapp.fxform.validation.FXFormValidator;
+import com.dooapp.fxform.validation.Warning;
+import com.dooapp.fxform.validation.lightweight.LightweightFXFormValidator;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.util.Callback;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.NotNull;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Created at 19/10/26 00:01.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class BulkValidatorTest {
+
+    public static class ImportedBean {
+
+        private final StringProperty name = new SimpleStringProperty();
+
+        private final IntegerProperty count = new SimpleIntegerProperty();
+
+        public ImportedBean(String name, int count) {
+            this.name.set(name);
+            this.count.set(count);
+        }
+
+        @NotNull
+        public String getName() {
+            return name.get();
+        }
+
+        @Max(value = 10, groups = Warning.class)
+        public int getCount() {
+            return count.get();
+        }
+    }
+
+    private final BulkValidator bulkValidator = new BulkValidator(new Callback<Void, FXFormValidator>() {
+        @Override
+        public FXFormValidator call(Void aVoid) {
+            return new LightweightFXFormValidator();
+        }
+    });
+
+    @After
+    public void dispose() {
+        bulkValidator.dispose();
+    }
+
+    @Test
+    public void testValidate() throws Exception {
+        bulkValidator.setBatchSize(7);
+        List<ImportedBean> beans = new ArrayList<ImportedBean>();
+        for (int i = 0; i < 100; i++) {
+            beans.add(new ImportedBean(i % 10 == 0 ? null : "bean" + i, i % 25 == 0 ? 11 : 0));
+        }
+        BulkValidationResult result = bulkValidator.validate(beans);
+        Assert.assertEquals(100, result.getValidatedCount());
+        // beans 0, 10, 20,... have no name, beans 0, 25, 50 and 75 exceed the warning threshold
+        Assert.assertEquals(10, result.getInvalidCount());
+        Assert.assertEquals(12, result.getSummaries().size());
+        BeanValidationSummary first = result.getSummaries().get(0);
+        Assert.assertEquals(0, first.getIndex());
+        Assert.assertEquals(1, first.getErrorCount());
+        Assert.assertEquals(1, first.getWarningCount());
+        Assert.assertEquals("name", first.getProperties().get(0));
+        Assert.assertEquals("count", first.getProperties().get(1));
+        BeanValidationSummary second = result.getSummaries().get(1);
+        Assert.assertEquals(10, second.getIndex());
+        Assert.assertSame(beans.get(10), second.getBean());
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        BulkValidationResult result = bulkValidator.validate(new ArrayList<Object>());
+        Assert.assertEquals(0, result.getValidatedCount());
+        Assert.assertTrue(result.getSummaries().isEmpty());
+    }
+
+    @Test
+    public void testExecutorThreadsDoNotRetainBeans() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            BulkValidator validator = new BulkValidator(new Callback<Void, FXFormValidator>() {
+                @Override
+                public FXFormValidator call(Void aVoid) {
+                    return new LightweightFXFormValidator();
+                }
+            }, executor);
+            List<ImportedBean> beans = new ArrayList<ImportedBean>();
+            beans.add(new ImportedBean(null, 0));
+            Assert.assertEquals(1, validator.validate(beans).getInvalidCount());
+            WeakReference<ImportedBean> reference = new WeakReference<ImportedBean>(beans.get(0));
+            beans = null;
+            for (int i = 0; i < 10 && reference.get() != null; i++) {
+                System.gc();
+                Thread.sleep(10);
+            }
+            Assert.assertNull(reference.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.validation.lightweight;
+
+import com.dooapp.fxform.model.Element;
+import com.dooapp.fxform.model.FormException;
+import com.dooapp.fxform.model.impl.PropertyFieldElement;
+import com.dooapp.fxform.validation.DefaultFXFormValidator;
+import com.dooapp.fxform.validation.FXFormValidators;
+import com.dooapp.fxform.validation.ValidationResult;
+import com.dooapp.fxform.validation.Warning;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.constraints.*;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Created at 18/10/26 23:53.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class LightweightFXFormValidatorTest {
+
+    public interface StrictWarning extends Warning {
+    }
+
+    public static class ConstrainedBean {
+
+        private final StringProperty name = new SimpleStringProperty();
+
+        private final StringProperty email = new SimpleStringProperty();
+
+        private final IntegerProperty age = new SimpleIntegerProperty();
+
+        private final StringProperty comment = new SimpleStringProperty();
+
+        private final StringProperty code = new SimpleStringProperty();
+
+        @NotNull
+        private final StringProperty ignored = new SimpleStringProperty();
+
+        @NotNull
+        @Size(min = 2, max = 5)
+        public String getName() {
+            return name.get();
+        }
+
+        @Pattern(regexp = "[a-z]+@[a-z]+")
+        public String getEmail() {
+            return email.get();
+        }
+
+        @Min(0)
+        @Max(value = 100, groups = Warning.class)
+        public int getAge() {
+            return age.get();
+        }
+
+        public String getComment() {
+            return comment.get();
+        }
+
+        @Size(max = 3, groups = Warning.class)
+        public String getCode() {
+            return code.get();
+        }
+
+        public String getIgnored() {
+            return ignored.get();
+        }
+
+    }
+
+    public static class ExtendedBean extends ConstrainedBean {
+
+        @Size(max = 4)
+        @Override
+        public String getName() {
+            return super.getName();
+        }
+    }
+
+    private final LightweightFXFormValidator validator = new LightweightFXFormValidator();
+
+    private final DefaultFXFormValidator referenceValidator = new DefaultFXFormValidator();
+
+    private Element element(String name) throws NoSuchFieldException, FormException {
+        return element(name, new ConstrainedBean());
+    }
+
+    private Element element(String name, ConstrainedBean bean) throws NoSuchFieldException, FormException {
+        Field field = ConstrainedBean.class.getDeclaredField(name);
+        field.setAccessible(true);
+        Element element = new PropertyFieldElement(field);
+        element.sourceProperty().set(bean);
+        return element;
+    }
+
+    @Test
+    public void testNotNullAndSize() throws Exception {
+        Element name = element("name");
+        Assert.assertTrue(validator.isConstrained(name));
+        ValidationResult result = validator.validateGroups(name, null);
+        Assert.assertEquals(1, result.getErrors().size());
+        Assert.assertEquals("may not be null", result.getErrors().get(0).getMessage());
+        result = validator.validateGroups(name, "a");
+        Assert.assertEquals(1, result.getErrors().size());
+        Assert.assertEquals("size must be between 2 and 5", result.getErrors().get(0).getMessage());
+        Assert.assertTrue(validator.validateGroups(name, "abc").isEmpty());
+    }
+
+    @Test
+    public void testPattern() throws Exception {
+        Element email = element("email");
+        Assert.assertEquals(1, validator.validateGroups(email, "not an email").getErrors().size());
+        Assert.assertTrue(validator.validateGroups(email, "john@doe").isEmpty());
+        // null values are valid
+        Assert.assertTrue(validator.validateGroups(email, null).isEmpty());
+    }
+
+    @Test
+    public void testWarningGroup() throws Exception {
+        Element age = element("age");
+        ValidationResult result = validator.validateGroups(age, -1);
+        Assert.assertEquals(1, result.getErrors().size());
+        Assert.assertTrue(result.getWarnings().isEmpty());
+        result = validator.validateGroups(age, 101);
+        Assert.assertTrue(result.getErrors().isEmpty());
+        Assert.assertEquals(1, result.getWarnings().size());
+        Assert.assertEquals(1, validator.validate(age, 101, Warning.class).size());
+        Assert.assertTrue(validator.validate(age, 101).isEmpty());
+    }
+
+    @Test
+    public void testSubgroup() throws Exception {
+        Element code = element("code");
+        // the constraints of a group are validated for the groups extending it
+        Assert.assertEquals(1, validator.validate(code, "abcd", StrictWarning.class).size());
+        Assert.assertEquals(1, referenceValidator.validate(code, "abcd", StrictWarning.class).size());
+        Assert.assertTrue(validator.validate(code, "abcd").isEmpty());
+        assertSameViolations(code, "abc", "abcd");
+    }
+
+    @Test
+    public void testUnconstrained() throws Exception {
+        Element comment = element("comment");
+        Assert.assertFalse(validator.isConstrained(comment));
+        Assert.assertSame(ValidationResult.EMPTY, validator.validateGroups(comment, null));
+    }
+
+    @Test
+    public void testConstraintOnPropertyFieldIsIgnored() throws Exception {
+        Element ignored = element("ignored");
+        Assert.assertFalse(validator.isConstrained(ignored));
+        Assert.assertSame(ValidationResult.EMPTY, validator.validateGroups(ignored, null));
+    }
+
+    @Test
+    public void testOverriddenGetterConstraintsAreCumulated() throws Exception {
+        Element name = element("name", new ExtendedBean());
+        Assert.assertEquals(1, validator.validateGroups(name, "abcde").getErrors().size());
+        Assert.assertTrue(validator.validateGroups(name, "abcd").isEmpty());
+        Assert.assertEquals(1, validator.validateGroups(name, "a").getErrors().size());
+    }
+
+    @Test
+    public void testSameViolationsAsBeanValidation() throws Exception {
+        assertSameViolations(element("name"), null, "a", "abc", "abcdef");
+        assertSameViolations(element("name", new ExtendedBean()), null, "a", "abcd", "abcde");
+        assertSameViolations(element("email"), null, "not an email", "john@doe");
+        assertSameViolations(element("age"), -1, 0, 50, 101);
+        assertSameViolations(element("comment"), null, "anything");
+    }
+
+    private void assertSameViolations(Element element, Object... values) {
+        for (Object value : values) {
+            ValidationResult expected = FXFormValidators.validateGroups(referenceValidator, element, value);
+            ValidationResult actual = validator.validateGroups(element, value);
+            Assert.assertEquals(String.valueOf(value), templates(expected.getErrors()), templates(actual.getErrors()));
+            Assert.assertEquals(String.valueOf(value), templates(expected.getWarnings()), templates(actual.getWarnings()));
+        }
+    }
+
+    private List<String> templates(List<ConstraintViolation> violations) {
+        List<String> templates = new ArrayList<String>();
+        for (ConstraintViolation violation : violations) {
+            templates.add(violation.getMessageTemplate() + "|" + violation.getMessage());
+        }
+        Collections.sort(templates);
+        return templates;
+    }
+
+}
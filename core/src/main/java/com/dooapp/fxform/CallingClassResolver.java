@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.dooapp.fxform;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Finds the class in which a form is being created, looking at a few frames only. When running on Java 9 or later,
+ * the frames are walked lazily with java.lang.StackWalker. On Java 7 and 8, the frames of a Throwable are decoded one
+ * at a time through sun.misc.JavaLangAccess instead of building its whole stack trace. Both are accessed by
+ * reflection. When neither is available, or when the calling class is not found within these frames, the stack trace
+ * of a Throwable is used.
+ * <br>
+ * Created at 19/10/26 00:23.<br>
+ *
+ * @author agent <agent@local>
+ */
+final class CallingClassResolver {
+
+    private final static Logger logger = Logger.getLogger(CallingClassResolver.class.getName());
+
+    /**
+     * Maximum number of frames looked at before falling back to the stack trace
+     */
+    final static int MAX_FRAMES = 16;
+
+    private static Object stackWalker;
+
+    private static Method walkMethod;
+
+    /**
+     * The java.util.function.Function passed to StackWalker.walk, which collects the class names of the first frames
+     */
+    private static Object walkFunction;
+
+    private static Object javaLangAccess;
+
+    private static Method getStackTraceDepthMethod;
+
+    private static Method getStackTraceElementMethod;
+
+    static {
+        try {
+            Class<?> stackWalkerClass = Class.forName("java.lang.StackWalker");
+            Class<?> functionClass = Class.forName("java.util.function.Function");
+            final Method iteratorMethod = Class.forName("java.util.stream.BaseStream").getMethod("iterator");
+            final Method getClassNameMethod = Class.forName("java.lang.StackWalker$StackFrame").getMethod("getClassName");
+            walkMethod = stackWalkerClass.getMethod("walk", functionClass);
+            walkFunction = Proxy.newProxyInstance(CallingClassResolver.class.getClassLoader(), new Class[]{functionClass}, new InvocationHandler() {
+                public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                    if ("apply".equals(method.getName())) {
+                        Iterator<?> frames = (Iterator<?>) iteratorMethod.invoke(args[0]);
+                        List<String> classNames = new ArrayList<String>(MAX_FRAMES);
+                        while (frames.hasNext() && classNames.size() < MAX_FRAMES) {
+                            classNames.add((String) getClassNameMethod.invoke(frames.next()));
+                        }
+                        return classNames;
+                    } else if ("equals".equals(method.getName())) {
+                        return proxy == args[0];
+                    } else if ("hashCode".equals(method.getName())) {
+                        return System.identityHashCode(proxy);
+                    }
+                    return CallingClassResolver.class.getName();
+                }
+            });
+            stackWalker = stackWalkerClass.getMethod("getInstance").invoke(null);
+        } catch (Exception e) {
+            // StackWalker is not available before Java 9
+            stackWalker = null;
+        }
+        if (stackWalker == null) {
+            try {
+                Class<?> javaLangAccessClass = Class.forName("sun.misc.JavaLangAccess");
+                getStackTraceDepthMethod = javaLangAccessClass.getMethod("getStackTraceDepth", Throwable.class);
+                getStackTraceElementMethod = javaLangAccessClass.getMethod("getStackTraceElement", Throwable.class, int.class);
+                javaLangAccess = Class.forName("sun.misc.SharedSecrets").getMethod("getJavaLangAccess").invoke(null);
+            } catch (Exception e) {
+                // not a Java 7 or 8 runtime, or access denied
+                javaLangAccess = null;
+            }
+        }
+    }
+
+    private CallingClassResolver() {
+    }
+
+    /**
+     * Get the name of the class calling the method that calls this resolver, skipping the frames of the given class.
+     *
+     * @param skippedClassName the name of the class whose frames are skipped
+     * @return the name of the calling class
+     */
+    static String getCallingClassName(String skippedClassName) {
+        try {
+            String className = null;
+            if (stackWalker != null) {
+                className = getCallingClassName((List<?>) walkMethod.invoke(stackWalker, walkFunction), skippedClassName);
+            } else if (javaLangAccess != null) {
+                className = getCallingClassName(new Throwable(), skippedClassName);
+            }
+            if (className != null) {
+                return className;
+            }
+        } catch (Exception e) {
+            logger.log(Level.FINE, "Unable to walk the stack, using a stack trace instead", e);
+        }
+        for (StackTraceElement element : new Throwable().getStackTrace()) {
+            if (!isSkipped(element.getClassName(), skippedClassName)) {
+                return element.getClassName();
+            }
+        }
+        return skippedClassName;
+    }
+
+    private static String getCallingClassName(List<?> classNames, String skippedClassName) {
+        for (Object className : classNames) {
+            if (!isSkipped((String) className, skippedClassName)) {
+                return (String) className;
+            }
+        }
+        return null;
+    }
+
+    private static String getCallingClassName(Throwable throwable, String skippedClassName) throws Exception {
+        int depth = Math.min((Integer) getStackTraceDepthMethod.invoke(javaLangAccess, throwable), MAX_FRAMES);
+        for (int i = 0; i < depth; i++) {
+            String className = ((StackTraceElement) getStackTraceElementMethod.invoke(javaLangAccess, throwable, i)).getClassName();
+            if (!isSkipped(className, skippedClassName)) {
+                return className;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isSkipped(String className, String skippedClassName) {
+        return className.equals(skippedClassName)
+                || className.equals(CallingClassResolver.class.getName())
+                || className.startsWith("java.lang.reflect.")
+                || className.startsWith("jdk.internal.reflect.")
+                || className.startsWith("sun.reflect.");
+    }
+
+}
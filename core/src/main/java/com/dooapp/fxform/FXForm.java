@@ -13,19 +13,20 @@
 package com.dooapp.fxform;
 
 import com.dooapp.fxform.adapter.AdapterProvider;
-import com.dooapp.fxform.adapter.DefaultAdapterProvider;
 import com.dooapp.fxform.controller.ElementController;
 import com.dooapp.fxform.controller.PropertyElementController;
 import com.dooapp.fxform.filter.FieldFilter;
-import com.dooapp.fxform.filter.FilterException;
-import com.dooapp.fxform.filter.NonVisualFilter;
+import com.dooapp.fxform.metrics.FormMetrics;
+import com.dooapp.fxform.metrics.FormMetricsRegistry;
 import com.dooapp.fxform.model.*;
-import com.dooapp.fxform.reflection.MultipleBeanSource;
-import com.dooapp.fxform.reflection.impl.ReflectionFieldProvider;
 import com.dooapp.fxform.validation.ClassLevelValidator;
-import com.dooapp.fxform.validation.DefaultFXFormValidator;
 import com.dooapp.fxform.validation.FXFormValidator;
+import com.dooapp.fxform.validation.ValidationExecutors;
 import com.dooapp.fxform.view.FXFormNode;
+import com.dooapp.fxform.view.FXFormSkin;
+import com.dooapp.fxform.view.ResourceBundleCache;
+import com.dooapp.fxform.view.ResourceTextCache;
+import com.dooapp.fxform.view.StylesheetRegistry;
 import com.dooapp.fxform.view.factory.DefaultFactoryProvider;
 import com.dooapp.fxform.view.factory.DefaultLabelFactoryProvider;
 import com.dooapp.fxform.view.factory.DefaultTooltipFactoryProvider;
@@ -45,16 +46,18 @@ import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.scene.Scene;
 import javafx.scene.control.Control;
+import javafx.scene.control.Skin;
 import javafx.util.Callback;
 
 import javax.validation.ConstraintViolation;
-import java.lang.reflect.Field;
-import java.net.URL;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.MissingResourceException;
+import java.util.Map;
 import java.util.ResourceBundle;
-import java.util.logging.Level;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.logging.Logger;
 
 /**
@@ -87,16 +90,38 @@ public class FXForm<T> extends Control implements FormAPI<T> {
 
     public static final String WARNING_STYLE = "-warning";
 
-    private final ObjectProperty<T> source = new SimpleObjectProperty<T>();
+    public static final String VALIDATING_STYLE = "-validating";
 
-    private StringProperty title = new SimpleStringProperty();
+    private final HeadlessForm<T> model = new HeadlessForm<T>();
+
+    private final ObjectProperty<T> source = model.sourceProperty();
 
-    private final ObservableList<FieldFilter> filters = FXCollections.observableList(new LinkedList<FieldFilter>());
+    private StringProperty title = new SimpleStringProperty();
 
     private final ListProperty<ElementController> controllers = new SimpleListProperty<ElementController>(FXCollections.<ElementController>observableArrayList());
 
+    /**
+     * The class of the source the controllers were created for
+     */
+    private Class<?> controllersSourceClass;
+
     private final ObjectProperty<ResourceBundle> resourceBundle = new SimpleObjectProperty<ResourceBundle>();
 
+    /**
+     * The texts of the resource bundle, by key. They are resolved once per bundle, when first needed, and shared by
+     * the bindings of all the labels and tooltips.
+     */
+    private final ObjectBinding<Map<String, String>> resourceTexts = new ObjectBinding<Map<String, String>>() {
+        {
+            bind(resourceBundle);
+        }
+
+        @Override
+        protected Map<String, String> computeValue() {
+            return ResourceTextCache.getDefault().getTexts(getResourceBundle());
+        }
+    };
+
     private final ObjectProperty<FactoryProvider> editorFactoryProvider = new SimpleObjectProperty<FactoryProvider>();
 
     private final ObjectProperty<FactoryProvider> tooltipFactoryProvider = new SimpleObjectProperty<FactoryProvider>();
@@ -105,16 +130,38 @@ public class FXForm<T> extends Control implements FormAPI<T> {
 
     private final ObjectProperty<FactoryProvider> constraintFactoryProvider = new SimpleObjectProperty<FactoryProvider>();
 
-    private final ObjectProperty<AdapterProvider> adapterProvider = new SimpleObjectProperty<AdapterProvider>();
+    private final ObjectProperty<AdapterProvider> adapterProvider = model.adapterProviderProperty();
 
     private final ObjectProperty<PropertyProvider> propertyProvider = new SimpleObjectProperty<PropertyProvider>();
 
     private final ObservableList<ConstraintViolation> constraintViolationsList = FXCollections.<ConstraintViolation>observableArrayList();
 
-    private final ObjectProperty<FXFormValidator> fxFormValidator = new SimpleObjectProperty<FXFormValidator>(new DefaultFXFormValidator());
+    private final ObjectProperty<FXFormValidator> fxFormValidator = model.validatorProperty();
 
     private final ClassLevelValidator classLevelValidator = new ClassLevelValidator();
 
+    private final ObjectProperty<ExecutorService> asyncValidationExecutor = new SimpleObjectProperty<ExecutorService>(ValidationExecutors.getDefault());
+
+    private static volatile boolean defaultWeakBinding = false;
+
+    private final BooleanProperty weakBinding = new SimpleBooleanProperty(defaultWeakBinding);
+
+    /**
+     * The default stylesheet of the class creating the form, null if there is none
+     */
+    private String stylesheet;
+
+    private final ChangeListener<Scene> sceneListener = new ChangeListener<Scene>() {
+        public void changed(ObservableValue<? extends Scene> observableValue, Scene scene, Scene scene1) {
+            if (scene != null) {
+                StylesheetRegistry.getDefault().detach(scene, stylesheet);
+            }
+            if (scene1 != null) {
+                StylesheetRegistry.getDefault().attach(scene1, stylesheet);
+            }
+        }
+    };
+
     public void setTitle(String title) {
         this.title.set(title);
     }
@@ -154,9 +201,31 @@ public class FXForm<T> extends Control implements FormAPI<T> {
     }
 
     public FXForm(T source, FactoryProvider labelFactoryProvider, FactoryProvider tooltipFactoryProvider, FactoryProvider editorFactoryProvider) {
-        initBundle();
+        this(null, source, labelFactoryProvider, tooltipFactoryProvider, editorFactoryProvider);
+    }
+
+    /**
+     * Create a form for the given owner class, whose resource bundle and css file are loaded by default.
+     *
+     * @param ownerClass the class in which the form is created
+     * @param source
+     */
+    public FXForm(Class<?> ownerClass, T source) {
+        this(ownerClass, source, new DefaultLabelFactoryProvider(), new DefaultTooltipFactoryProvider(), new DefaultFactoryProvider());
+    }
+
+    /**
+     * Create a form for the given owner class, whose resource bundle and css file are loaded by default.
+     *
+     * @param ownerClass             the class in which the form is created, or null to look it up in the call stack
+     * @param source
+     * @param labelFactoryProvider
+     * @param tooltipFactoryProvider
+     * @param editorFactoryProvider
+     */
+    public FXForm(Class<?> ownerClass, T source, FactoryProvider labelFactoryProvider, FactoryProvider tooltipFactoryProvider, FactoryProvider editorFactoryProvider) {
+        initBundle(ownerClass);
         setPropertyProvider(new DefaultPropertyProvider());
-        setAdapterProvider(new DefaultAdapterProvider());
         setEditorFactoryProvider(editorFactoryProvider);
         setLabelFactoryProvider(labelFactoryProvider);
         setTooltipFactoryProvider(tooltipFactoryProvider);
@@ -165,31 +234,54 @@ public class FXForm<T> extends Control implements FormAPI<T> {
                 return new DefaultConstraintFactory();
             }
         });
-        this.source.addListener(new ChangeListener<T>() {
-            public void changed(ObservableValue<? extends T> observableValue, T t, T t1) {
-                if (t1 == null) {
-                    dispose();
-                } else if (controllers.isEmpty() || (t1.getClass() != t.getClass())) {
-                    try {
-                        createControllers();
-                    } catch (FormException e) {
-                        logger.log(Level.SEVERE, e.getMessage(), e);
+        model.getElements().addListener(new ListChangeListener<Element>() {
+            public void onChanged(Change<? extends Element> change) {
+                // the nodes of the previous and of the new elements are updated in a single batch
+                FXFormSkin skin = (FXFormSkin) getSkin();
+                skin.beginUpdate();
+                try {
+                    if (getSource() == null || (!controllers.isEmpty() && getSource().getClass() == controllersSourceClass)) {
+                        // the source was cleared or the filters changed
+                        dispose();
+                    } else {
+                        disposeControllers();
                     }
+                    createControllers();
+                } finally {
+                    skin.endUpdate();
                 }
             }
         });
-        filters.add(new NonVisualFilter());
-        filters.addListener(new ListChangeListener() {
-            public void onChanged(Change change) {
-                dispose();
+
+        skinProperty().addListener(new ChangeListener<Skin<?>>() {
+            public void changed(ObservableValue<? extends Skin<?>> observableValue, Skin<?> skin, Skin<?> skin1) {
+                if (!(skin1 instanceof FXFormSkin)) {
+                    return;
+                }
+                FXFormSkin newSkin = (FXFormSkin) skin1;
+                newSkin.beginUpdate();
                 try {
-                    createControllers();
-                } catch (FormException e) {
-                    logger.log(Level.SEVERE, e.getMessage(), e);
+                    // move the nodes of the controllers to the new skin in a single pass, the controllers keep their
+                    // bindings on the nodes the new skin adopts
+                    for (ElementController controller : controllers) {
+                        if (skin instanceof FXFormSkin) {
+                            FXFormSkin.migrateElementNodes((FXFormSkin) skin, newSkin, controller.getElement());
+                        }
+                        controller.refreshNodes();
+                    }
+                    // the elements deferred by the previous skin might be displayed by the new one
+                    List<Element> displayed = new ArrayList<Element>();
+                    for (Element element : model.getElements()) {
+                        if (!newSkin.isDeferred(element)) {
+                            displayed.add(element);
+                        }
+                    }
+                    createDeferredControllers(displayed);
+                } finally {
+                    newSkin.endUpdate();
                 }
             }
         });
-
         this.setSkin(new DefaultSkin(this));
         classLevelValidator.beanProperty().bind(sourceProperty());
         classLevelValidator.validatorProperty().bind(fxFormValidatorProperty());
@@ -208,9 +300,24 @@ public class FXForm<T> extends Control implements FormAPI<T> {
     protected void dispose() {
         for (ElementController controller : controllers) {
             clearBindings(controller);
+        }
+        disposeControllers();
+    }
+
+    private void disposeControllers() {
+        if (controllers.isEmpty()) {
+            return;
+        }
+        FormMetrics metrics = FormMetricsRegistry.getMetrics();
+        long start = metrics.isEnabled() ? System.nanoTime() : 0L;
+        int count = controllers.size();
+        for (ElementController controller : controllers) {
             controller.dispose();
         }
         controllers.clear();
+        if (metrics.isEnabled()) {
+            metrics.formDisposed(controllersSourceClass, count, System.nanoTime() - start);
+        }
     }
 
 
@@ -218,53 +325,82 @@ public class FXForm<T> extends Control implements FormAPI<T> {
         source.unbind();
     }
 
-    private void createControllers() throws FormException {
+    private void createControllers() {
         if (source.get() == null)
             return;
-        controllers.clear();
-        List<Field> fields = new ReflectionFieldProvider().getProperties(source.get());
-        List<Element> elements = new LinkedList<Element>();
-        ElementFactory elementFactory = new DefaultElementFactory();
-        for (Field field : fields) {
-            final Element element = elementFactory.create(field);
-            if (element != null) {
-                element.sourceProperty().bind(new ObjectBinding() {
-                    {
-                        bind(source);
-                    }
-
-                    @Override
-                    protected Object computeValue() {
-                        if (source.get() != null && source.get() instanceof MultipleBeanSource) {
-                            MultipleBeanSource multipleBeanSource = (MultipleBeanSource) source.get();
-                            return multipleBeanSource.getSource(element);
-                        }
-                        return source.get();
-                    }
-                });
-                // if something went wrong and we are not able to get element type, ignore it
-                if (element.getType() != null) {
-                    elements.add(element);
-                }
+        FormMetrics metrics = FormMetricsRegistry.getMetrics();
+        long start = metrics.isEnabled() ? System.nanoTime() : 0L;
+        controllersSourceClass = source.get().getClass();
+        FXFormSkin skin = (FXFormSkin) getSkin();
+        List<ElementController> created = new ArrayList<ElementController>(model.getElements().size());
+        for (Element element : model.getElements()) {
+            if (skin.isDeferred(element)) {
+                // the skin will request the controller later
+                continue;
             }
-        }
-        for (FieldFilter filter : filters) {
-            try {
-                elements = filter.filter(elements);
-            } catch (FilterException e) {
-                throw new FormException("Something went wrong happened while applying " + filter + ":\n" + e.getMessage(), e);
+            ElementController controller = createController(element, metrics);
+            if (controller != null) {
+                created.add(controller);
             }
         }
-        for (Element element : elements) {
-            ElementController controller = null;
-            if (PropertyElement.class.isAssignableFrom(element.getClass())) {
-                controller = createPropertyElementController((PropertyElement) element);
-            } else {
-                controller = new ElementController(this, element);
+        controllers.addAll(created);
+        if (metrics.isEnabled()) {
+            metrics.formBuilt(controllersSourceClass, controllers.size(), System.nanoTime() - start);
+        }
+    }
+
+    private ElementController createController(Element element, FormMetrics metrics) {
+        long elementStart = metrics.isEnabled() ? System.nanoTime() : 0L;
+        ElementController controller;
+        if (PropertyElement.class.isAssignableFrom(element.getClass())) {
+            controller = createPropertyElementController((PropertyElement) element);
+        } else {
+            controller = new ElementController(this, element);
+        }
+        if (metrics.isEnabled()) {
+            metrics.elementBound(element, System.nanoTime() - elementStart);
+        }
+        return controller;
+    }
+
+    /**
+     * Create the controllers of the given elements that do not have one yet, typically the elements deferred by the
+     * skin (see {@link FXFormSkin#isDeferred(Element)}). The controllers are kept in the order of the elements of the
+     * form. Elements that are not part of the form are ignored.
+     *
+     * @param elements the elements to create the controllers for
+     */
+    public void createDeferredControllers(List<? extends Element> elements) {
+        if (source.get() == null || elements.isEmpty()) {
+            return;
+        }
+        Map<Element, ElementController> existing = new IdentityHashMap<Element, ElementController>();
+        for (ElementController controller : controllers) {
+            existing.put(controller.getElement(), controller);
+        }
+        Set<Element> requested = Collections.newSetFromMap(new IdentityHashMap<Element, Boolean>());
+        requested.addAll(elements);
+        FormMetrics metrics = FormMetricsRegistry.getMetrics();
+        List<ElementController> ordered = new ArrayList<ElementController>(model.getElements().size());
+        boolean created = false;
+        FXFormSkin skin = (FXFormSkin) getSkin();
+        skin.beginUpdate();
+        try {
+            for (Element element : model.getElements()) {
+                ElementController controller = existing.get(element);
+                if (controller == null && requested.contains(element)) {
+                    controller = createController(element, metrics);
+                    created |= controller != null;
+                }
+                if (controller != null) {
+                    ordered.add(controller);
+                }
             }
-            if (controller != null) {
-                controllers.add(controller);
+            if (created) {
+                controllers.setAll(ordered);
             }
+        } finally {
+            skin.endUpdate();
         }
     }
 
@@ -274,40 +410,46 @@ public class FXForm<T> extends Control implements FormAPI<T> {
 
     /**
      * Auto loading of default resource bundle and css file.
+     *
+     * @param ownerClass the class in which the form is created, or null to look it up in the call stack
      */
-    private void initBundle() {
-        final StackTraceElement element = getCallingClass();
-        String bundle = element.getClassName();
-        if (resourceBundle.get() == null) {
-            try {
-                resourceBundle.set(ResourceBundle.getBundle(bundle));
-            } catch (MissingResourceException e) {
-                // no default resource bundle found
+    private void initBundle(Class<?> ownerClass) {
+        String className;
+        ClassLoader classLoader = FXForm.class.getClassLoader();
+        if (ownerClass != null) {
+            className = ownerClass.getName();
+            if (ownerClass.getClassLoader() != null) {
+                classLoader = ownerClass.getClassLoader();
             }
+        } else {
+            className = CallingClassResolver.getCallingClassName(getClass().getName());
+        }
+        if (resourceBundle.get() == null) {
+            resourceBundle.set(ResourceBundleCache.getDefault().getBundle(className, classLoader));
+        }
+        stylesheet = StylesheetRegistry.getDefault().getStylesheet(className, classLoader);
+        if (stylesheet != null) {
+            sceneProperty().addListener(sceneListener);
         }
-        sceneProperty().addListener(new ChangeListener<Scene>() {
-            public void changed(ObservableValue<? extends Scene> observableValue, Scene scene, Scene scene1) {
-                String path = element.getClassName().replaceAll("\\.", "/") + ".css";
-                URL css = FXForm.class.getClassLoader().getResource(path);
-                if (css != null && observableValue.getValue() != null) {
-                    getScene().getStylesheets().add(css.toExternalForm());
-                }
-            }
-        });
     }
 
     /**
-     * Retrieve the calling class in which the form is being created.
-     *
-     * @return the StackTraceElement representing the calling class
+     * Release this form once it is no longer used: the default stylesheet is detached from the scene, the scene
+     * listener is removed and the source is cleared, which disposes the controllers and the elements.<br>
+     * This is the teardown of the form. It is not part of {@link #dispose()}, which only disposes the controllers
+     * when the source or the filters change and leaves the form usable. A form that is simply removed from its
+     * scene already detaches its stylesheet, but a form discarded while still displayed must be released, otherwise
+     * its stylesheet stays attached to the scene for as long as the scene lives.<br>
+     * The form must not be used after this call; calling it again has no effect.
      */
-    private StackTraceElement getCallingClass() {
-        StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
-        int i = 1;
-        while (stackTrace[i].getClassName().equals(getClass().getName())) {
-            i++;
+    public void release() {
+        sceneProperty().removeListener(sceneListener);
+        if (stylesheet != null && getScene() != null) {
+            StylesheetRegistry.getDefault().detach(getScene(), stylesheet);
         }
-        return stackTrace[i];
+        stylesheet = null;
+        source.unbind();
+        setSource(null);
     }
 
     public StringProperty titleProperty() {
@@ -331,11 +473,20 @@ public class FXForm<T> extends Control implements FormAPI<T> {
     }
 
     public ObservableList<FieldFilter> getFilters() {
-        return filters;
+        return model.getFilters();
     }
 
     public void addFilters(FieldFilter... filters) {
-        this.filters.addAll(filters);
+        model.getFilters().addAll(filters);
+    }
+
+    /**
+     * Get the model displayed by this form.
+     *
+     * @return
+     */
+    public HeadlessForm<T> getModel() {
+        return model;
     }
 
     /**
@@ -355,6 +506,22 @@ public class FXForm<T> extends Control implements FormAPI<T> {
         return resourceBundle.get();
     }
 
+    /**
+     * Get the texts of the resource bundle used by this form, shared with the other forms using the same bundle.
+     *
+     * @return the texts of the resource bundle by key, an empty map if there is no resource bundle
+     */
+    public Map<String, String> getResourceTexts() {
+        return resourceTexts.get();
+    }
+
+    /**
+     * @return the texts of the resource bundle used by this form, updated when the resource bundle changes
+     */
+    public ObservableValue<Map<String, String>> resourceTextsProperty() {
+        return resourceTexts;
+    }
+
     public FactoryProvider getEditorFactoryProvider() {
         return editorFactoryProvider.get();
     }
@@ -439,6 +606,57 @@ public class FXForm<T> extends Control implements FormAPI<T> {
         return fxFormValidator;
     }
 
+    public ExecutorService getAsyncValidationExecutor() {
+        return asyncValidationExecutor.get();
+    }
+
+    public void setAsyncValidationExecutor(ExecutorService asyncValidationExecutor) {
+        this.asyncValidationExecutor.set(asyncValidationExecutor);
+    }
+
+    /**
+     * The executor running the validation of elements annotated with {@link com.dooapp.fxform.annotation.AsyncValidation}.
+     * When set to null, these elements are validated on the JavaFX application thread.
+     *
+     * @return
+     */
+    public ObjectProperty<ExecutorService> asyncValidationExecutorProperty() {
+        return asyncValidationExecutor;
+    }
+
+    public boolean isWeakBinding() {
+        return weakBinding.get();
+    }
+
+    public void setWeakBinding(boolean weakBinding) {
+        this.weakBinding.set(weakBinding);
+    }
+
+    /**
+     * When true, the listeners registered by this form on the properties of its source are weak listeners, so that a
+     * form which was not disposed does not stay reachable from a bean living longer than the form.
+     * Only the elements bound after the change are affected. Defaults to {@link #isDefaultWeakBinding()}.
+     *
+     * @return
+     */
+    public BooleanProperty weakBindingProperty() {
+        return weakBinding;
+    }
+
+    public static boolean isDefaultWeakBinding() {
+        return defaultWeakBinding;
+    }
+
+    /**
+     * Set the weak binding mode of the forms created afterwards.
+     *
+     * @param defaultWeakBinding
+     * @see #weakBindingProperty()
+     */
+    public static void setDefaultWeakBinding(boolean defaultWeakBinding) {
+        FXForm.defaultWeakBinding = defaultWeakBinding;
+    }
+
     /**
      * Get an ObservableList mirroring all constraint violations in the form.
      * This method can be used to implement some kind of validation of the form or
@@ -15,9 +15,6 @@ package com.dooapp.fxform.controller;
 import com.dooapp.fxform.FXForm;
 import com.dooapp.fxform.model.Element;
 import com.dooapp.fxform.view.FXFormSkin;
-import javafx.beans.value.ChangeListener;
-import javafx.beans.value.ObservableValue;
-import javafx.scene.control.Skin;
 
 /**
  * User: Antoine Mischler <antoine@dooapp.com>
@@ -36,23 +33,16 @@ public class ElementController<WrappedType> {
 
     protected final NodeController tooltipController;
 
-    private final ChangeListener<Skin<?>> changeListener;
-
     private final FXForm fxForm;
 
+    private boolean disposed;
+
     public ElementController(FXForm fxForm, Element element) {
         this.element = element;
         this.fxForm = fxForm;
         labelController = new LabelController(fxForm, element);
         tooltipController = new TooltipController(fxForm, element);
         editorController = createEditorController(fxForm, element);
-        changeListener = new ChangeListener<Skin<?>>() {
-            public void changed(ObservableValue<? extends Skin<?>> observableValue, Skin<?> skin, Skin<?> skin1) {
-                ((FXFormSkin) skin).removeElement(getElement());
-                updateSkin((FXFormSkin) skin1);
-            }
-        };
-        fxForm.skinProperty().addListener(changeListener);
         updateSkin((FXFormSkin) fxForm.getSkin());
     }
 
@@ -66,15 +56,26 @@ public class ElementController<WrappedType> {
         tooltipController.setNode(skin.getTooltip(element));
     }
 
+    /**
+     * Request the nodes of the element to the skin again. Used when the skin of the form changes and by skins that
+     * create the nodes of an element lazily or release them while the element is not displayed.
+     */
+    public void refreshNodes() {
+        if (!disposed) {
+            updateSkin((FXFormSkin) fxForm.getSkin());
+        }
+    }
+
     /**
      * Dispose this controller. The controller should clear all existing bindings.
      */
     public void dispose() {
-        element.dispose();
+        disposed = true;
+        // unbind the nodes first so that the listeners registered on the element are removed while its value is still reachable
         labelController.dispose();
         tooltipController.dispose();
         editorController.dispose();
-        fxForm.skinProperty().removeListener(changeListener);
+        element.dispose();
         ((FXFormSkin) fxForm.getSkin()).removeElement(element);
     }
 
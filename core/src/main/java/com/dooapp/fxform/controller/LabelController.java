@@ -13,13 +13,9 @@
 package com.dooapp.fxform.controller;
 
 import com.dooapp.fxform.FXForm;
-import com.dooapp.fxform.adapter.AdapterException;
 import com.dooapp.fxform.model.Element;
-import com.dooapp.fxform.view.FXFormNode;
-import javafx.beans.binding.ObjectBinding;
-import javafx.beans.property.StringProperty;
 
-import java.util.logging.Level;
+import java.util.Map;
 import java.util.logging.Logger;
 
 /**
@@ -27,7 +23,7 @@ import java.util.logging.Logger;
  *
  * @author Antoine Mischler <antoine@dooapp.com>
  */
-public class LabelController extends NodeController {
+public class LabelController extends TextController {
 
     public final static Logger logger = Logger.getLogger(LabelController.class.getName());
 
@@ -38,28 +34,12 @@ public class LabelController extends NodeController {
     }
 
     @Override
-    protected void bind(FXFormNode fxFormNode) {
-        fxFormNode.getProperty().bind(new ObjectBinding() {
-            {
-                bind(getFxForm().resourceBundleProperty());
-            }
-
-            @Override
-            protected Object computeValue() {
-                String label;
-                try {
-                    label = getFxForm().getResourceBundle().getString(getElement().getName() + LABEL_SUFFIX);
-                } catch (Exception e) {
-                    // label is undefined
-                    label = (getElement().getName());
-                }
-                try {
-                    return getFxForm().getAdapterProvider().getAdapter(StringProperty.class, getNode().getProperty().getClass(), getElement(), getNode()).adaptTo(label);
-                } catch (AdapterException e) {
-                    logger.log(Level.FINE, e.getMessage(), e);
-                }
-                return null;
-            }
-        });
+    protected String getText(Map<String, String> texts) {
+        String text = texts.get(getElement().getName() + LABEL_SUFFIX);
+        if (text == null) {
+            // label is undefined
+            text = getElement().getName();
+        }
+        return text;
     }
-}
\ No newline at end of file
+}
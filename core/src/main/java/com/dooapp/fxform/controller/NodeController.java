@@ -20,6 +20,7 @@ import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
+import javafx.beans.value.WeakChangeListener;
 
 /**
  * Created at 27/09/12 15:33.<br>
@@ -74,6 +75,21 @@ public abstract class NodeController implements Disposable {
         return node;
     }
 
+    /**
+     * Get the listener to register on the element for the given listener: a weak wrapper when the form uses weak
+     * bindings, the listener itself otherwise. The caller must keep a reference on the given listener while it is
+     * registered and use the returned one to remove it.
+     *
+     * @param changeListener
+     * @return
+     */
+    protected ChangeListener createElementListener(ChangeListener changeListener) {
+        if (fxForm.isWeakBinding()) {
+            return new WeakChangeListener(changeListener);
+        }
+        return changeListener;
+    }
+
     protected Element getElement() {
         return element;
     }
@@ -15,7 +15,11 @@ package com.dooapp.fxform.controller;
 import com.dooapp.fxform.FXForm;
 import com.dooapp.fxform.adapter.Adapter;
 import com.dooapp.fxform.adapter.AdapterException;
+import com.dooapp.fxform.adapter.AdapterProvider;
 import com.dooapp.fxform.adapter.AnnotationAdapterProvider;
+import com.dooapp.fxform.annotation.AsyncValidation;
+import com.dooapp.fxform.metrics.FormMetrics;
+import com.dooapp.fxform.metrics.FormMetricsRegistry;
 import com.dooapp.fxform.model.Element;
 import com.dooapp.fxform.model.PropertyElement;
 import com.dooapp.fxform.validation.PropertyElementValidator;
@@ -42,25 +46,44 @@ public class PropertyEditorController extends NodeController {
     private ChangeListener viewChangeListener;
     private ChangeListener modelChangeListener;
 
+    /**
+     * The listener actually registered on the element, might be a weak wrapper of the model change listener
+     */
+    private ChangeListener elementListener;
+
     private final AnnotationAdapterProvider annotationAdapterProvider = new AnnotationAdapterProvider();
 
+    /**
+     * The adapter resolved for the current node, reused until the node or the adapter provider of the form changes
+     */
+    private Adapter adapter;
+
+    private AdapterProvider adapterProvider;
+
     public PropertyEditorController(FXForm fxForm, Element element) {
         super(fxForm, element);
         propertyElementValidator = new PropertyElementValidator((PropertyElement) element);
         propertyElementValidator.validatorProperty().bind(fxForm.fxFormValidatorProperty());
+        propertyElementValidator.executorProperty().bind(fxForm.asyncValidationExecutorProperty());
 
     }
 
     @Override
     protected void bind(final FXFormNode fxFormNode) {
+        adapter = null;
         viewChangeListener = new ChangeListener() {
             public void changed(ObservableValue observableValue, Object o, Object o1) {
                 try {
-                    Adapter adapter = annotationAdapterProvider.getAdapter(getElement().getType(), getNode().getProperty().getClass(), getElement(), getNode());
-                    if (adapter == null) {
-                        adapter = getFxForm().getAdapterProvider().getAdapter(getElement().getType(), getNode().getProperty().getClass(), getElement(), getNode());
+                    final Object newValue = propertyElementValidator.adapt(o1, resolveAdapter());
+                    if (getElement().getAnnotation(AsyncValidation.class) != null) {
+                        // expensive constraints, the model is updated once the validation completes
+                        propertyElementValidator.validateAsync(newValue, new Runnable() {
+                            public void run() {
+                                ((PropertyElement) getElement()).setValue(newValue);
+                            }
+                        });
+                        return;
                     }
-                    Object newValue = propertyElementValidator.adapt(o1, adapter);
                     propertyElementValidator.validate(newValue);
                     if (!propertyElementValidator.isInvalid()) {
                         ((PropertyElement) getElement()).setValue(newValue);
@@ -79,17 +102,14 @@ public class PropertyEditorController extends NodeController {
                 getFxForm().getClassLevelValidator().validate();
             }
         };
-        getElement().addListener(modelChangeListener);
+        elementListener = createElementListener(modelChangeListener);
+        getElement().addListener(elementListener);
         updateView(getElement().getValue(), getNode());
     }
 
     private void updateView(Object o1, FXFormNode fxFormNode) {
         try {
-            Adapter adapter = annotationAdapterProvider.getAdapter(getElement().getType(), getNode().getProperty().getClass(), getElement(), getNode());
-            if (adapter == null) {
-                adapter = getFxForm().getAdapterProvider().getAdapter(getElement().getType(), getNode().getProperty().getClass(), getElement(), getNode());
-            }
-            Object newValue = adapter.adaptTo(o1);
+            Object newValue = resolveAdapter().adaptTo(o1);
             fxFormNode.getProperty().setValue(newValue);
             fxFormNode.getNode().setDisable((((PropertyElement) getElement()).isBound()));
         } catch (AdapterException e) {
@@ -98,14 +118,39 @@ public class PropertyEditorController extends NodeController {
         }
     }
 
+    private Adapter resolveAdapter() {
+        FormMetrics metrics = FormMetricsRegistry.getMetrics();
+        long start = metrics.isEnabled() ? System.nanoTime() : 0L;
+        boolean cacheHit = adapter != null && adapterProvider == getFxForm().getAdapterProvider();
+        if (!cacheHit) {
+            adapterProvider = getFxForm().getAdapterProvider();
+            adapter = annotationAdapterProvider.getAdapter(getElement().getType(), getNode().getProperty().getClass(), getElement(), getNode());
+            if (adapter == null) {
+                adapter = adapterProvider.getAdapter(getElement().getType(), getNode().getProperty().getClass(), getElement(), getNode());
+            }
+        }
+        if (metrics.isEnabled()) {
+            metrics.adapterResolved(getElement(), cacheHit, System.nanoTime() - start);
+        }
+        return adapter;
+    }
+
     public PropertyElementValidator getPropertyElementValidator() {
         return propertyElementValidator;
     }
 
     @Override
     protected void unbind(FXFormNode fxFormNode) {
+        propertyElementValidator.cancelPendingValidation();
         fxFormNode.getProperty().removeListener(viewChangeListener);
-        getElement().removeListener(modelChangeListener);
+        getElement().removeListener(elementListener);
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        propertyElementValidator.validatorProperty().unbind();
+        propertyElementValidator.executorProperty().unbind();
     }
 
 }
\ No newline at end of file
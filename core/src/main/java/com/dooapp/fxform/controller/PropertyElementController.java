@@ -32,10 +32,15 @@ public class PropertyElementController<WrappedType> extends ElementController<Wr
 
     private final NodeController constraintController;
 
+    private final FXForm fxForm;
+
+    private final ListChangeListener<ConstraintViolation> constraintViolationsListener;
+
     public PropertyElementController(final FXForm fxForm, PropertyElement element) {
         super(fxForm, element);
-        PropertyElementValidator validator = ((PropertyEditorController) editorController).getPropertyElementValidator();
-        validator.constraintViolationsProperty().addListener(new ListChangeListener<ConstraintViolation>() {
+        this.fxForm = fxForm;
+        PropertyElementValidator validator = getPropertyElementValidator();
+        constraintViolationsListener = new ListChangeListener<ConstraintViolation>() {
             @Override
             public void onChanged(Change<? extends ConstraintViolation> change) {
                 while (change.next()) {
@@ -43,7 +48,10 @@ public class PropertyElementController<WrappedType> extends ElementController<Wr
                     fxForm.getConstraintViolations().removeAll(change.getRemoved());
                 }
             }
-        });
+        };
+        validator.constraintViolationsProperty().addListener(constraintViolationsListener);
+        // the current value was validated when the validator was bound, report its violations too
+        fxForm.getConstraintViolations().addAll(validator.constraintViolationsProperty());
         constraintController = new ConstraintController(fxForm, element, validator.constraintViolationsProperty());
         updateSkin((FXFormSkin) fxForm.getSkin());
         validator.invalidProperty().addListener(new ChangeListener<Boolean>() {
@@ -66,15 +74,27 @@ public class PropertyElementController<WrappedType> extends ElementController<Wr
                 }
             }
         });
+        validator.validatingProperty().addListener(new ChangeListener<Boolean>() {
+            @Override
+            public void changed(ObservableValue<? extends Boolean> observableValue, Boolean aBoolean, Boolean aBoolean2) {
+                if (aBoolean2) {
+                    addStyle(FXForm.VALIDATING_STYLE);
+                } else {
+                    removeStyle(FXForm.VALIDATING_STYLE);
+                }
+            }
+        });
     }
 
     protected void addStyle(String styleSuffix) {
-        if (labelController.getNode() != null)
-            labelController.getNode().getNode().getStyleClass().add(FXForm.LABEL_STYLE + styleSuffix);
-        if (editorController.getNode() != null)
-            editorController.getNode().getNode().getStyleClass().add(FXForm.EDITOR_STYLE + styleSuffix);
-        if (tooltipController.getNode() != null)
-            tooltipController.getNode().getNode().getStyleClass().add(FXForm.TOOLTIP_STYLE + styleSuffix);
+        addStyle(labelController, FXForm.LABEL_STYLE + styleSuffix);
+        addStyle(editorController, FXForm.EDITOR_STYLE + styleSuffix);
+        addStyle(tooltipController, FXForm.TOOLTIP_STYLE + styleSuffix);
+    }
+
+    private void addStyle(NodeController nodeController, String style) {
+        if (nodeController.getNode() != null && !nodeController.getNode().getNode().getStyleClass().contains(style))
+            nodeController.getNode().getNode().getStyleClass().add(style);
     }
 
     protected void removeStyle(String styleSuffix) {
@@ -86,6 +106,23 @@ public class PropertyElementController<WrappedType> extends ElementController<Wr
             tooltipController.getNode().getNode().getStyleClass().remove(FXForm.TOOLTIP_STYLE + styleSuffix);
     }
 
+    private PropertyElementValidator getPropertyElementValidator() {
+        return ((PropertyEditorController) editorController).getPropertyElementValidator();
+    }
+
+    /**
+     * Dispose this controller and withdraw the violations it reported to the form, so that the form does not retain the
+     * previous bean through them.
+     */
+    @Override
+    public void dispose() {
+        PropertyElementValidator validator = getPropertyElementValidator();
+        validator.constraintViolationsProperty().removeListener(constraintViolationsListener);
+        fxForm.getConstraintViolations().removeAll(validator.constraintViolationsProperty());
+        constraintController.dispose();
+        super.dispose();
+    }
+
     @Override
     protected NodeController createEditorController(FXForm fxForm, Element element) {
         return new PropertyEditorController(fxForm, element);
@@ -94,7 +131,16 @@ public class PropertyElementController<WrappedType> extends ElementController<Wr
     @Override
     protected void updateSkin(FXFormSkin skin) {
         super.updateSkin(skin);
-        if (constraintController != null)
+        if (constraintController != null) {
             constraintController.setNode(skin.getConstraint(element));
+            // the nodes might be new, restore the styles reflecting the state of the validator
+            PropertyElementValidator validator = getPropertyElementValidator();
+            if (validator.isInvalid())
+                addStyle(FXForm.INVALID_STYLE);
+            if (validator.isWarning())
+                addStyle(FXForm.WARNING_STYLE);
+            if (validator.isValidating())
+                addStyle(FXForm.VALIDATING_STYLE);
+        }
     }
 }
\ No newline at end of file
@@ -35,6 +35,11 @@ public class ReadOnlyPropertyEditorController extends NodeController {
 
     private ChangeListener changeListener;
 
+    /**
+     * The listener actually registered on the element, might be a weak wrapper of the change listener
+     */
+    private ChangeListener elementListener;
+
     private final AnnotationAdapterProvider annotationAdapterProvider = new AnnotationAdapterProvider();
 
     public ReadOnlyPropertyEditorController(FXForm fxForm, Element element) {
@@ -52,7 +57,8 @@ public class ReadOnlyPropertyEditorController extends NodeController {
                 updateView(fxFormNode);
             }
         };
-        getElement().addListener(changeListener);
+        elementListener = createElementListener(changeListener);
+        getElement().addListener(elementListener);
         updateView(fxFormNode);
 
     }
@@ -71,6 +77,6 @@ public class ReadOnlyPropertyEditorController extends NodeController {
 
     @Override
     protected void unbind(FXFormNode fxFormNode) {
-        getElement().removeListener(changeListener);
+        getElement().removeListener(elementListener);
     }
 }
\ No newline at end of file
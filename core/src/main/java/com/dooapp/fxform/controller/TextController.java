@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.dooapp.fxform.controller;
+
+import com.dooapp.fxform.FXForm;
+import com.dooapp.fxform.adapter.Adapter;
+import com.dooapp.fxform.adapter.AdapterException;
+import com.dooapp.fxform.adapter.AdapterProvider;
+import com.dooapp.fxform.model.Element;
+import com.dooapp.fxform.view.FXFormNode;
+import javafx.beans.binding.ObjectBinding;
+import javafx.beans.property.StringProperty;
+
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Base controller of the nodes displaying a text of the resource bundle of the form. The property of the node is
+ * bound to the texts of the form, which are resolved once per resource bundle. The adapter to the node is cached and
+ * only resolved again when the adapter provider of the form changes.
+ * <br>
+ * Created at 19/10/26 00:24.<br>
+ *
+ * @author agent <agent@local>
+ */
+public abstract class TextController extends NodeController {
+
+    private final static Logger logger = Logger.getLogger(TextController.class.getName());
+
+    /**
+     * The binding between the texts of the form and the node, disposed when the node is unbound.
+     */
+    private ObjectBinding binding;
+
+    public TextController(FXForm fxForm, Element element) {
+        super(fxForm, element);
+    }
+
+    /**
+     * Resolve the text of the element.
+     *
+     * @param texts the texts of the resource bundle of the form, by key
+     * @return the text to display
+     */
+    protected abstract String getText(Map<String, String> texts);
+
+    @Override
+    protected void bind(final FXFormNode fxFormNode) {
+        binding = new ObjectBinding() {
+
+            private AdapterProvider adapterProvider;
+
+            private Adapter adapter;
+
+            {
+                bind(getFxForm().resourceTextsProperty(), getFxForm().adapterProviderProperty());
+            }
+
+            @Override
+            protected Object computeValue() {
+                if (adapterProvider != getFxForm().getAdapterProvider()) {
+                    adapterProvider = getFxForm().getAdapterProvider();
+                    adapter = adapterProvider.getAdapter(StringProperty.class, fxFormNode.getProperty().getClass(), getElement(), fxFormNode);
+                }
+                if (adapter != null) {
+                    try {
+                        return adapter.adaptTo(getText(getFxForm().getResourceTexts()));
+                    } catch (AdapterException e) {
+                        logger.log(Level.FINE, e.getMessage(), e);
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public void dispose() {
+                unbind(getFxForm().resourceTextsProperty(), getFxForm().adapterProviderProperty());
+            }
+        };
+        fxFormNode.getProperty().bind(binding);
+    }
+
+    @Override
+    protected void unbind(FXFormNode fxFormNode) {
+        super.unbind(fxFormNode);
+        if (binding != null) {
+            binding.dispose();
+            binding = null;
+        }
+    }
+
+}
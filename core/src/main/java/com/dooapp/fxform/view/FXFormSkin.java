@@ -13,6 +13,8 @@
 package com.dooapp.fxform.view;
 
 import com.dooapp.fxform.FXForm;
+import com.dooapp.fxform.metrics.FormMetrics;
+import com.dooapp.fxform.metrics.FormMetricsRegistry;
 import com.dooapp.fxform.model.Element;
 import com.dooapp.fxform.view.factory.AnnotationFactoryProvider;
 import com.dooapp.fxform.view.factory.FactoryProvider;
@@ -21,6 +23,12 @@ import javafx.scene.control.Label;
 import javafx.scene.control.Skin;
 import javafx.util.Callback;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -41,6 +49,20 @@ public abstract class FXFormSkin implements Skin<FXForm> {
 
     private AnnotationFactoryProvider annotationFactoryProvider = new AnnotationFactoryProvider();
 
+    private int updateDepth;
+
+    /**
+     * The nodes of each element. Owned by the skin rather than stored in the properties of the root node, which is an
+     * observable map shared with user code.
+     */
+    private final Map<Element, ElementNodes> elementNodesMap = new IdentityHashMap<Element, ElementNodes>();
+
+    /**
+     * The position of each element of the form. A cached position is checked against the elements of the form before
+     * being used, and the positions are computed again once they are found outdated.
+     */
+    private final Map<Element, Integer> elementPositions = new IdentityHashMap<Element, Integer>();
+
     protected static class ElementNodes {
 
         private final FXFormNode label;
@@ -101,41 +123,41 @@ public abstract class FXFormSkin implements Skin<FXForm> {
         return rootNode;
     }
 
-    public FXFormNode getLabel(Element element) {
-        if (!getNode().getProperties().containsKey(element)) {
-            ElementNodes elementNodes = createElementNodes(element);
-            getNode().getProperties().put(element, elementNodes);
+    private ElementNodes getElementNodes(Element element) {
+        ElementNodes elementNodes = elementNodesMap.get(element);
+        if (elementNodes == null) {
+            // make sure the root node exists before creating the nodes of the element
+            getNode();
+            FormMetrics metrics = FormMetricsRegistry.getMetrics();
+            long start = metrics.isEnabled() ? System.nanoTime() : 0L;
+            elementNodes = createElementNodes(element);
+            elementNodesMap.put(element, elementNodes);
+            if (metrics.isEnabled()) {
+                metrics.nodesCreated(element, System.nanoTime() - start);
+            }
         }
-        return ((ElementNodes) getNode().getProperties().get(element)).getLabel();
+        return elementNodes;
+    }
+
+    public FXFormNode getLabel(Element element) {
+        return getElementNodes(element).getLabel();
     }
 
 
     public FXFormNode getTooltip(Element element) {
-        if (!getNode().getProperties().containsKey(element)) {
-            ElementNodes elementNodes = createElementNodes(element);
-            getNode().getProperties().put(element, elementNodes);
-        }
-        return ((ElementNodes) getNode().getProperties().get(element)).getTooltip();
+        return getElementNodes(element).getTooltip();
     }
 
     public FXFormNode getEditor(Element element) {
-        if (!getNode().getProperties().containsKey(element)) {
-            ElementNodes elementNodes = createElementNodes(element);
-            getNode().getProperties().put(element, elementNodes);
-        }
-        return ((ElementNodes) getNode().getProperties().get(element)).getEditor();
+        return getElementNodes(element).getEditor();
     }
 
     public FXFormNode getConstraint(Element element) {
-        if (!getNode().getProperties().containsKey(element)) {
-            ElementNodes elementNodes = createElementNodes(element);
-            getNode().getProperties().put(element, elementNodes);
-        }
-        return ((ElementNodes) getNode().getProperties().get(element)).getConstraint();
+        return getElementNodes(element).getConstraint();
     }
 
     protected FXFormNode createFXFormNode(Element element, FactoryProvider factoryProvider, String suffixId) {
-        Callback<Void, FXFormNode> factory = factoryProvider.getFactory(element);
+        Callback<Void, FXFormNode> factory = resolveFactory(element, factoryProvider);
         if (factory == null) {
             logger.log(Level.WARNING, "No factory found for " + element + ", using " + factoryProvider + "\nCheck your factory provider.");
             Label label = new Label();
@@ -146,12 +168,23 @@ public abstract class FXFormSkin implements Skin<FXForm> {
         return fxFormNode;
     }
 
+    private Callback<Void, FXFormNode> resolveFactory(Element element, FactoryProvider factoryProvider) {
+        FormMetrics metrics = FormMetricsRegistry.getMetrics();
+        if (!metrics.isEnabled()) {
+            return factoryProvider.getFactory(element);
+        }
+        long start = System.nanoTime();
+        Callback<Void, FXFormNode> factory = factoryProvider.getFactory(element);
+        metrics.factoryResolved(element, System.nanoTime() - start);
+        return factory;
+    }
+
     protected FXFormNode createLabel(Element element) {
         return createFXFormNode(element, fxForm.getLabelFactoryProvider(), FXForm.LABEL_ID_SUFFIX);
     }
 
     protected FXFormNode createEditor(Element element) {
-        Callback<Void, FXFormNode> factory = annotationFactoryProvider.getFactory(element);
+        Callback<Void, FXFormNode> factory = resolveFactory(element, annotationFactoryProvider);
         if (factory != null) {
             FXFormNode fxFormNode = factory.call(null);
             if (fxFormNode.getNode().getId() == null) {
@@ -171,8 +204,49 @@ public abstract class FXFormSkin implements Skin<FXForm> {
         return createFXFormNode(element, fxForm.getConstraintFactoryProvider(), FXForm.CONSTRAINT_ID_SUFFIX);
     }
 
+    /**
+     * Whether the controller of the given element should not be created with the form. A skin deferring elements
+     * requests their controllers with {@link FXForm#createDeferredControllers(java.util.List)} when they are about to
+     * be displayed. Nothing is deferred by default.
+     *
+     * @param element
+     * @return
+     */
+    public boolean isDeferred(Element element) {
+        return false;
+    }
+
+    /**
+     * Signal the start of a batch of element nodes creations and deletions. The skin may defer the changes of the scene
+     * graph until the matching {@link #endUpdate()}. Calls can be nested.
+     */
+    public void beginUpdate() {
+        updateDepth++;
+    }
+
+    /**
+     * Signal the end of a batch started with {@link #beginUpdate()}. The deferred changes are applied when the
+     * outermost batch ends.
+     */
+    public void endUpdate() {
+        if (updateDepth > 0 && --updateDepth == 0) {
+            flushUpdate();
+        }
+    }
+
+    protected boolean isUpdating() {
+        return updateDepth > 0;
+    }
+
+    /**
+     * Apply the changes of the scene graph deferred during a batch. Does nothing by default.
+     */
+    protected void flushUpdate() {
+    }
+
     public void dispose() {
         fxForm = null;
+        elementPositions.clear();
     }
 
     public FXForm getSkinnable() {
@@ -180,11 +254,141 @@ public abstract class FXFormSkin implements Skin<FXForm> {
     }
 
     public void removeElement(Element element) {
-        ElementNodes elementNodes = (ElementNodes) getNode().getProperties().get(element);
+        ElementNodes elementNodes = elementNodesMap.remove(element);
         if (elementNodes != null) {
             deleteElementNodes(elementNodes);
         }
-        getNode().getProperties().remove(element);
+    }
+
+    /**
+     * Move the nodes of the given element from a skin to another one. The nodes are not disposed, so the controller of
+     * the element keeps its bindings when it gets them from the new skin. When one of the skins does not support the
+     * migration, the nodes are only removed from the previous skin and the new skin creates its own nodes.
+     *
+     * @param from    the previous skin
+     * @param to      the new skin
+     * @param element the element whose nodes are moved
+     */
+    public static void migrateElementNodes(FXFormSkin from, FXFormSkin to, Element element) {
+        ElementNodes elementNodes = from.elementNodesMap.remove(element);
+        if (elementNodes == null) {
+            return;
+        }
+        from.deleteElementNodes(elementNodes);
+        if (from.isNodeMigrationSupported() && to.isNodeMigrationSupported() && elementNodes.getEditor() != null) {
+            // make sure the root node exists
+            to.getNode();
+            to.attachElementNodes(element, elementNodes);
+            to.elementNodesMap.put(element, elementNodes);
+        }
+    }
+
+    /**
+     * Whether this skin lays out nodes created by the factories of the form, so that the nodes can be moved from or
+     * to another skin supporting the migration. When true, {@link #attachElementNodes(Element, ElementNodes)} must be
+     * overridden.
+     *
+     * @return false by default
+     */
+    protected boolean isNodeMigrationSupported() {
+        return false;
+    }
+
+    /**
+     * Add existing nodes of an element to the layout of this skin. Does nothing by default, skins supporting the
+     * migration of nodes override it.
+     *
+     * @param element      the element
+     * @param elementNodes the nodes of the element, created by another skin
+     */
+    protected void attachElementNodes(Element element, ElementNodes elementNodes) {
+    }
+
+    /**
+     * Get the index at which an element must be inserted among the displayed elements so that they stay in the order
+     * of the elements of the form. Elements that are not part of the form are displayed last.
+     *
+     * @param element   the element to insert
+     * @param displayed the displayed elements, in the order of the form
+     * @return the insertion index
+     */
+    protected int getInsertionIndex(Element element, List<Element> displayed) {
+        Integer position = getCachedPosition(element);
+        boolean updated = false;
+        if (position == null) {
+            updatePositions();
+            updated = true;
+            position = elementPositions.get(element);
+            if (position == null) {
+                return displayed.size();
+            }
+        }
+        // elements are usually created in order, so look for the insertion point from the end
+        for (int i = displayed.size() - 1; i >= 0; i--) {
+            Integer displayedPosition = getCachedPosition(displayed.get(i));
+            if (displayedPosition == null && !updated) {
+                updatePositions();
+                updated = true;
+                displayedPosition = elementPositions.get(displayed.get(i));
+            }
+            if (displayedPosition != null && displayedPosition < position) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Sort the displayed elements, and the matching items of a list of the same size, in the order of the elements of
+     * the form. The sort is stable and elements that are not part of the form are moved last.
+     *
+     * @param displayed the displayed elements
+     * @param items     the items displaying each element, e.g. their nodes
+     */
+    protected <I> void sortInFormOrder(List<Element> displayed, List<I> items) {
+        updatePositions();
+        final Map<Element, Integer> positions = elementPositions;
+        final List<Element> elements = new ArrayList<Element>(displayed);
+        List<I> itemsCopy = new ArrayList<I>(items);
+        Integer[] order = new Integer[elements.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+            public int compare(Integer index1, Integer index2) {
+                Integer position1 = positions.get(elements.get(index1));
+                Integer position2 = positions.get(elements.get(index2));
+                int p1 = position1 == null ? Integer.MAX_VALUE : position1;
+                int p2 = position2 == null ? Integer.MAX_VALUE : position2;
+                return p1 < p2 ? -1 : (p1 == p2 ? 0 : 1);
+            }
+        });
+        for (int i = 0; i < order.length; i++) {
+            displayed.set(i, elements.get(order[i]));
+            items.set(i, itemsCopy.get(order[i]));
+        }
+    }
+
+    /**
+     * Get the cached position of an element, if it is still up to date.
+     *
+     * @return the position of the element in the form, or null if it is unknown or outdated
+     */
+    private Integer getCachedPosition(Element element) {
+        Integer position = elementPositions.get(element);
+        List<Element> elements = fxForm.getModel().getElements();
+        if (position != null && position < elements.size() && elements.get(position) == element) {
+            return position;
+        }
+        return null;
+    }
+
+    private void updatePositions() {
+        List<Element> elements = fxForm.getModel().getElements();
+        elementPositions.clear();
+        for (int i = 0; i < elements.size(); i++) {
+            elementPositions.put(elements.get(i), i);
+        }
     }
 
     protected abstract ElementNodes createElementNodes(Element element);
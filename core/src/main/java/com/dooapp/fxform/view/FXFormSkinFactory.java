@@ -15,6 +15,8 @@ package com.dooapp.fxform.view;
 import com.dooapp.fxform.FXForm;
 import com.dooapp.fxform.view.skin.DefaultSkin;
 import com.dooapp.fxform.view.skin.InlineSkin;
+import com.dooapp.fxform.view.skin.SectionSkin;
+import com.dooapp.fxform.view.skin.VirtualizedSkin;
 
 /**
  * User: Antoine Mischler <antoine@dooapp.com>
@@ -45,6 +47,26 @@ public interface FXFormSkinFactory {
         }
     };
 
+    public final static FXFormSkinFactory VIRTUALIZED_FACTORY = new FXFormSkinFactory() {
+        public FXFormSkin createSkin(FXForm form) {
+            return new VirtualizedSkin(form);
+        }
+
+        public String toString() {
+            return "Virtualized skin";
+        }
+    };
+
+    public final static FXFormSkinFactory SECTION_FACTORY = new FXFormSkinFactory() {
+        public FXFormSkin createSkin(FXForm form) {
+            return new SectionSkin(form);
+        }
+
+        public String toString() {
+            return "Section skin";
+        }
+    };
+
 
 
 }
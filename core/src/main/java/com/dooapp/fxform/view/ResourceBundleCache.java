@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.dooapp.fxform.view;
+
+import java.lang.ref.SoftReference;
+import java.util.ListResourceBundle;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache of the default resource bundles of the forms, by class loader, locale and base name. Missing bundles are
+ * cached as well, so that creating many forms from a class without bundle does not look the bundle up again each
+ * time.<br>
+ * The class loaders are weakly referenced and the bundles softly referenced, so that the cache neither prevents a
+ * class loader from being unloaded nor holds bundles when memory runs low.
+ * <br>
+ * Created at 19/10/26 00:23.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class ResourceBundleCache {
+
+    private final static ResourceBundleCache DEFAULT = new ResourceBundleCache();
+
+    /**
+     * Marks the missing bundles
+     */
+    private final static ResourceBundle NO_BUNDLE = new ListResourceBundle() {
+        @Override
+        protected Object[][] getContents() {
+            return new Object[0][];
+        }
+    };
+
+    private final Map<ClassLoader, ConcurrentMap<String, SoftReference<ResourceBundle>>> bundles = new WeakHashMap<ClassLoader, ConcurrentMap<String, SoftReference<ResourceBundle>>>();
+
+    public static ResourceBundleCache getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Get the bundle with the given base name for the default locale.
+     *
+     * @param baseName    the base name of the bundle, usually a class name
+     * @param classLoader the class loader used to load the bundle
+     * @return the bundle, or null if there is none
+     */
+    public ResourceBundle getBundle(String baseName, ClassLoader classLoader) {
+        return getBundle(baseName, Locale.getDefault(), classLoader);
+    }
+
+    /**
+     * Get the bundle with the given base name for the given locale.
+     *
+     * @param baseName    the base name of the bundle, usually a class name
+     * @param locale      the locale of the bundle
+     * @param classLoader the class loader used to load the bundle
+     * @return the bundle, or null if there is none
+     */
+    public ResourceBundle getBundle(String baseName, Locale locale, ClassLoader classLoader) {
+        ConcurrentMap<String, SoftReference<ResourceBundle>> loaderBundles;
+        synchronized (bundles) {
+            loaderBundles = bundles.get(classLoader);
+            if (loaderBundles == null) {
+                loaderBundles = new ConcurrentHashMap<String, SoftReference<ResourceBundle>>();
+                bundles.put(classLoader, loaderBundles);
+            }
+        }
+        String key = locale + "/" + baseName;
+        SoftReference<ResourceBundle> reference = loaderBundles.get(key);
+        ResourceBundle bundle = reference == null ? null : reference.get();
+        if (bundle == null) {
+            try {
+                bundle = ResourceBundle.getBundle(baseName, locale, classLoader);
+            } catch (MissingResourceException e) {
+                // no bundle found
+                bundle = NO_BUNDLE;
+            }
+            loaderBundles.put(key, new SoftReference<ResourceBundle>(bundle));
+        }
+        return bundle == NO_BUNDLE ? null : bundle;
+    }
+
+    /**
+     * Forget the cached bundles and misses, for instance after bundles were added to the classpath.
+     */
+    public void clear() {
+        synchronized (bundles) {
+            bundles.clear();
+        }
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.dooapp.fxform.view;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.WeakHashMap;
+
+/**
+ * Shared cache of the texts of the resource bundles used by the forms. The texts of a bundle are read in a single pass
+ * over its keys the first time the bundle is used, so that resolving a label or a tooltip is a map lookup, and a
+ * missing key is simply absent from the map instead of raising a MissingResourceException.<br>
+ * Bundles are held weakly and only their String values are cached.
+ * <br>
+ * Created at 19/10/26 00:24.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class ResourceTextCache {
+
+    private final static ResourceTextCache DEFAULT = new ResourceTextCache();
+
+    private final Map<ResourceBundle, Map<String, String>> texts = new WeakHashMap<ResourceBundle, Map<String, String>>();
+
+    public static ResourceTextCache getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Get all the texts of the given bundle, by key.
+     *
+     * @param resourceBundle the bundle, can be null
+     * @return the texts of the bundle, an empty map for a null bundle
+     */
+    public synchronized Map<String, String> getTexts(ResourceBundle resourceBundle) {
+        if (resourceBundle == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> bundleTexts = texts.get(resourceBundle);
+        if (bundleTexts == null) {
+            bundleTexts = new HashMap<String, String>();
+            Enumeration<String> keys = resourceBundle.getKeys();
+            while (keys.hasMoreElements()) {
+                String key = keys.nextElement();
+                Object value = resourceBundle.getObject(key);
+                if (value instanceof String) {
+                    bundleTexts.put(key, (String) value);
+                }
+            }
+            bundleTexts = Collections.unmodifiableMap(bundleTexts);
+            texts.put(resourceBundle, bundleTexts);
+        }
+        return bundleTexts;
+    }
+
+    /**
+     * Get a text of the given bundle.
+     *
+     * @param resourceBundle the bundle, can be null
+     * @param key            the key of the text
+     * @return the text, or null if the bundle does not define it
+     */
+    public String getText(ResourceBundle resourceBundle, String key) {
+        return getTexts(resourceBundle).get(key);
+    }
+
+    /**
+     * Forget the cached texts, for instance after the content of a bundle changed.
+     */
+    public synchronized void clear() {
+        texts.clear();
+    }
+
+}
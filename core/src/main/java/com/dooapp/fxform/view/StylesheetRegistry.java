@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.dooapp.fxform.view;
+
+import javafx.scene.Scene;
+
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of the default stylesheets of the forms. The stylesheet of a class is resolved once, and its attachment to
+ * a scene is reference counted: it is added to the scene by the first form displayed in this scene and removed when
+ * the last one leaves the scene. Stylesheets already added to the scene by the application are left untouched.<br>
+ * The attachments must be updated from the JavaFX application thread.
+ * <br>
+ * Created at 19/10/26 00:18.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class StylesheetRegistry {
+
+    private final static StylesheetRegistry DEFAULT = new StylesheetRegistry();
+
+    /**
+     * Marks the classes without stylesheet
+     */
+    private final static String NO_STYLESHEET = "";
+
+    /**
+     * The stylesheet of each class, by class loader and class name. The class loaders are weakly referenced.
+     */
+    private final Map<ClassLoader, ConcurrentMap<String, String>> stylesheets = new WeakHashMap<ClassLoader, ConcurrentMap<String, String>>();
+
+    private final Map<Scene, Map<String, Attachment>> attachments = new WeakHashMap<Scene, Map<String, Attachment>>();
+
+    private static class Attachment {
+
+        private int count;
+
+        /**
+         * Whether the stylesheet was added to the scene by this registry
+         */
+        private boolean added;
+
+    }
+
+    public static StylesheetRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Get the default stylesheet of the given class, that is the css file named after the class.
+     *
+     * @param className   the name of the class
+     * @param classLoader the class loader of the class, used to find the css file
+     * @return the external form of the URL of the stylesheet, or null if there is none
+     */
+    public String getStylesheet(String className, ClassLoader classLoader) {
+        ConcurrentMap<String, String> loaderStylesheets;
+        synchronized (stylesheets) {
+            loaderStylesheets = stylesheets.get(classLoader);
+            if (loaderStylesheets == null) {
+                loaderStylesheets = new ConcurrentHashMap<String, String>();
+                stylesheets.put(classLoader, loaderStylesheets);
+            }
+        }
+        String stylesheet = loaderStylesheets.get(className);
+        if (stylesheet == null) {
+            URL css = classLoader.getResource(className.replace('.', '/') + ".css");
+            stylesheet = css == null ? NO_STYLESHEET : css.toExternalForm();
+            loaderStylesheets.putIfAbsent(className, stylesheet);
+        }
+        return stylesheet == NO_STYLESHEET ? null : stylesheet;
+    }
+
+    /**
+     * Attach a stylesheet to a scene, the stylesheet is added to the scene on the first attachment.
+     *
+     * @param scene
+     * @param stylesheet
+     */
+    public void attach(Scene scene, String stylesheet) {
+        Map<String, Attachment> sceneAttachments = attachments.get(scene);
+        if (sceneAttachments == null) {
+            sceneAttachments = new HashMap<String, Attachment>();
+            attachments.put(scene, sceneAttachments);
+        }
+        Attachment attachment = sceneAttachments.get(stylesheet);
+        if (attachment == null) {
+            attachment = new Attachment();
+            sceneAttachments.put(stylesheet, attachment);
+        }
+        if (attachment.count++ == 0 && !scene.getStylesheets().contains(stylesheet)) {
+            scene.getStylesheets().add(stylesheet);
+            attachment.added = true;
+        }
+    }
+
+    /**
+     * Detach a stylesheet from a scene, the stylesheet is removed from the scene when it is no longer attached.
+     *
+     * @param scene
+     * @param stylesheet
+     */
+    public void detach(Scene scene, String stylesheet) {
+        Map<String, Attachment> sceneAttachments = attachments.get(scene);
+        if (sceneAttachments == null) {
+            return;
+        }
+        Attachment attachment = sceneAttachments.get(stylesheet);
+        if (attachment == null) {
+            return;
+        }
+        if (--attachment.count == 0) {
+            sceneAttachments.remove(stylesheet);
+            if (attachment.added) {
+                scene.getStylesheets().remove(stylesheet);
+            }
+            if (sceneAttachments.isEmpty()) {
+                attachments.remove(scene);
+            }
+        }
+    }
+
+    /**
+     * @return the number of attachments of the given stylesheet to the given scene
+     */
+    public int getAttachmentCount(Scene scene, String stylesheet) {
+        Map<String, Attachment> sceneAttachments = attachments.get(scene);
+        if (sceneAttachments == null || !sceneAttachments.containsKey(stylesheet)) {
+            return 0;
+        }
+        return sceneAttachments.get(stylesheet).count;
+    }
+
+}
@@ -16,15 +16,23 @@ import javafx.beans.property.ListProperty;
 import javafx.beans.property.SimpleListProperty;
 import javafx.collections.ListChangeListener;
 import javafx.geometry.Pos;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.VBox;
 
 import javax.validation.ConstraintViolation;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
 
 /**
  * Created at 28/09/12 17:52.<br>
+ * <br>
+ * The displayed labels are updated incrementally: existing labels are reused when the violation list changes, the
+ * message of a violation is only read when the violation is not already rendered, and the scene graph is only touched
+ * when labels are added or removed.
  *
  * @author Antoine Mischler <antoine@dooapp.com>
  */
@@ -32,26 +40,36 @@ public class ConstraintLabel extends VBox {
 
     private final static Image WARNING = new Image(ConstraintLabel.class.getResource("warning.png").toExternalForm());
 
+    /**
+     * Maximum number of detached labels kept for later reuse.
+     */
+    private final static int MAX_RECYCLED_LABELS = 4;
+
     private final ListChangeListener<ConstraintViolation> listChangeListener = new ListChangeListener<ConstraintViolation>() {
 
         @Override
         public void onChanged(Change<? extends ConstraintViolation> change) {
-            getChildren().clear();
-            for (Object o : constraint.get()) {
-                ConstraintViolation constraintViolation = (ConstraintViolation) o;
-                Label errorLabel = new Label(constraintViolation.getMessage());
-                ImageView warningView = new ImageView(WARNING);
-                warningView.setFitHeight(15);
-                warningView.setPreserveRatio(true);
-                warningView.setSmooth(true);
-                errorLabel.setGraphic(warningView);
-                getChildren().add(errorLabel);
-            }
+            update();
         }
     };
 
     private ListProperty<ConstraintViolation> constraint = new SimpleListProperty<ConstraintViolation>();
 
+    /**
+     * Violations currently rendered, in display order.
+     */
+    private final List<ConstraintViolation> renderedViolations = new ArrayList<ConstraintViolation>();
+
+    /**
+     * Labels currently displayed, one for each rendered message.
+     */
+    private final List<Label> labels = new ArrayList<Label>();
+
+    /**
+     * Labels removed from the scene graph that can be reused.
+     */
+    private final LinkedList<Label> recycledLabels = new LinkedList<Label>();
+
     public ListProperty<ConstraintViolation> constraintProperty() {
         return constraint;
     }
@@ -61,4 +79,60 @@ public class ConstraintLabel extends VBox {
         constraint.addListener(listChangeListener);
     }
 
+    private void update() {
+        List<ConstraintViolation> violations = new ArrayList<ConstraintViolation>();
+        if (constraint.get() != null) {
+            violations.addAll(constraint.get());
+        }
+        int common = Math.min(violations.size(), labels.size());
+        // update the labels that are already displayed, the message of a violation is only read when the violation
+        // differs from the rendered one
+        for (int i = 0; i < common; i++) {
+            ConstraintViolation violation = violations.get(i);
+            if (violation != renderedViolations.get(i)) {
+                labels.get(i).setText(violation.getMessage());
+            }
+        }
+        if (labels.size() > violations.size()) {
+            // remove the labels that are no longer needed in one operation
+            List<Label> removed = labels.subList(violations.size(), labels.size());
+            getChildren().removeAll(new ArrayList<Node>(removed));
+            for (Label label : removed) {
+                if (recycledLabels.size() < MAX_RECYCLED_LABELS) {
+                    recycledLabels.add(label);
+                }
+            }
+            removed.clear();
+        } else if (violations.size() > labels.size()) {
+            // add the missing labels in one operation
+            List<Label> added = new ArrayList<Label>(violations.size() - labels.size());
+            for (int i = labels.size(); i < violations.size(); i++) {
+                Label label = recycledLabels.isEmpty() ? createLabel() : recycledLabels.removeFirst();
+                label.setText(violations.get(i).getMessage());
+                added.add(label);
+            }
+            labels.addAll(added);
+            getChildren().addAll(added);
+        }
+        renderedViolations.clear();
+        renderedViolations.addAll(violations);
+    }
+
+    /**
+     * @return the number of detached labels kept for later reuse
+     */
+    int getRecycledLabelCount() {
+        return recycledLabels.size();
+    }
+
+    private Label createLabel() {
+        Label errorLabel = new Label();
+        ImageView warningView = new ImageView(WARNING);
+        warningView.setFitHeight(15);
+        warningView.setPreserveRatio(true);
+        warningView.setSmooth(true);
+        errorLabel.setGraphic(warningView);
+        return errorLabel;
+    }
+
 }
\ No newline at end of file
@@ -42,8 +42,9 @@ public class DefaultFactoryProvider implements FactoryProvider {
 
     private final Map<ElementHandler, Callback<Void, FXFormNode>> USER_MAP = new LinkedHashMap<ElementHandler, Callback<Void, FXFormNode>>();
 
-    public DefaultFactoryProvider() {
-        // register default delegates
+    static {
+        // register default delegates once: handlers rely on identity equality, so registering them for each
+        // provider instance would make the shared map grow with every form created
         DEFAULT_MAP.put(new TypeFieldHandler(StringProperty.class), new TextFieldFactory());
         DEFAULT_MAP.put(new TypeFieldHandler(BooleanProperty.class), new CheckboxFactory());
         DEFAULT_MAP.put(new EnumHandler(), new EnumChoiceBoxFactory());
@@ -16,11 +16,16 @@ import javax.validation.ConstraintViolation;
 import javax.validation.Path;
 import javax.validation.metadata.ConstraintDescriptor;
 import java.text.MessageFormat;
+import java.util.Locale;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A virtual constraint violation that is used when the content of a field can not be parsed.<br>
  * <br>
+ * The resource bundle is loaded once per locale and the message is only formatted when it is displayed.<br>
+ * <br>
  * Created at 19/03/12 17:31.<br>
  *
  * @author Antoine Mischler <antoine@dooapp.com>
@@ -29,14 +34,31 @@ public class ParseErrorConstraintViolation implements ConstraintViolation<Number
 
     private final String unparsed;
 
-    private final ResourceBundle resourceBundle = ResourceBundle.getBundle("FXForm");
+    private final static ConcurrentMap<Locale, ResourceBundle> BUNDLES = new ConcurrentHashMap<Locale, ResourceBundle>();
+
+    private String message;
 
     public ParseErrorConstraintViolation(String unparsed) {
         this.unparsed = unparsed;
     }
 
     public String getMessage() {
-        return MessageFormat.format(resourceBundle.getString("parse-error"), unparsed);
+        if (message == null) {
+            message = MessageFormat.format(getBundle(Locale.getDefault()).getString("parse-error"), unparsed);
+        }
+        return message;
+    }
+
+    private static ResourceBundle getBundle(Locale locale) {
+        ResourceBundle bundle = BUNDLES.get(locale);
+        if (bundle == null) {
+            bundle = ResourceBundle.getBundle("FXForm", locale);
+            ResourceBundle previous = BUNDLES.putIfAbsent(locale, bundle);
+            if (previous != null) {
+                bundle = previous;
+            }
+        }
+        return bundle;
     }
 
     public String getMessageTemplate() {
@@ -33,23 +33,66 @@ public class DefaultPropertyProvider implements PropertyProvider {
 
     private final static Map<Class<? extends Node>, PropertyProvider> GLOBAL_MAP = new HashMap<Class<? extends Node>, PropertyProvider>();
 
+    /**
+     * Incremented each time a global provider is registered, to invalidate the caches of the instances
+     */
+    private static volatile int globalMapVersion;
+
+    /**
+     * Marks the node classes without provider in the cache
+     */
+    private final static PropertyProvider NO_PROVIDER = new PropertyProvider() {
+        @Override
+        public Property getProperty(Node node) {
+            return null;
+        }
+    };
+
     protected final Map<Class<? extends Node>, PropertyProvider> map = new HashMap<Class<? extends Node>, PropertyProvider>();
 
+    /**
+     * The provider resolved for each node class
+     */
+    private final Map<Class, PropertyProvider> cache = new HashMap<Class, PropertyProvider>();
+
+    private int cacheVersion = globalMapVersion;
+
     @Override
     public Property getProperty(Node node) {
         if (node == null)
             return null;
+        if (cacheVersion != globalMapVersion) {
+            clearCache();
+        }
+        PropertyProvider provider = cache.get(node.getClass());
+        if (provider == null) {
+            provider = resolveProvider(node.getClass());
+            cache.put(node.getClass(), provider);
+        }
+        return provider.getProperty(node);
+    }
+
+    private PropertyProvider resolveProvider(Class nodeClass) {
         for (Class clazz : GLOBAL_MAP.keySet()) {
-            if (clazz.isAssignableFrom(node.getClass())) {
-                return GLOBAL_MAP.get(clazz).getProperty(node);
+            if (clazz.isAssignableFrom(nodeClass)) {
+                return GLOBAL_MAP.get(clazz);
             }
         }
         for (Class clazz : map.keySet()) {
-            if (clazz.isAssignableFrom(node.getClass())) {
-                return map.get(clazz).getProperty(node);
+            if (clazz.isAssignableFrom(nodeClass)) {
+                return map.get(clazz);
             }
         }
-        return null;
+        return NO_PROVIDER;
+    }
+
+    /**
+     * Clear the providers resolved for each node class. Must be called by subclasses updating the map once the
+     * provider is in use.
+     */
+    protected void clearCache() {
+        cache.clear();
+        cacheVersion = globalMapVersion;
     }
 
     public DefaultPropertyProvider() {
@@ -117,6 +160,7 @@ public class DefaultPropertyProvider implements PropertyProvider {
      */
     public static void addGlobalProvider(Class<? extends Node> clazz, PropertyProvider globalProvider) {
         GLOBAL_MAP.put(clazz, globalProvider);
+        globalMapVersion++;
     }
 
 }
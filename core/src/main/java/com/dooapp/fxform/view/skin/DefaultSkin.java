@@ -24,6 +24,10 @@ import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.VBox;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * A "vertical" skin.
  * User: Antoine Mischler <antoine@dooapp.com>
@@ -38,6 +42,21 @@ public class DefaultSkin extends FXFormSkin {
 
     private VBox controllerBox;
 
+    /**
+     * The displayed elements, in the order of the form
+     */
+    private final List<Element> elementList = new ArrayList<Element>();
+
+    /**
+     * The nodes of the displayed elements, at the index of their element
+     */
+    private final List<ElementNodes> elementNodesList = new ArrayList<ElementNodes>();
+
+    /**
+     * Whether the children of the controller box must be set again at the end of the current batch
+     */
+    private boolean childrenChanged;
+
     @Override
     protected Node createRootNode() throws NodeCreationException {
         VBox titleBox = new VBox();
@@ -60,13 +79,45 @@ public class DefaultSkin extends FXFormSkin {
         FXFormNode label = createLabel(element);
         FXFormNode constraint = createConstraint(element);
         FXFormNode tooltip = createTooltip(element);
-        controllerBox.getChildren().addAll(label.getNode(), editor.getNode(), constraint.getNode());
-        controllerBox.getChildren().add(tooltip.getNode());
-        return new ElementNodes(label, editor, tooltip, constraint);
+        ElementNodes elementNodes = new ElementNodes(label, editor, tooltip, constraint);
+        attachElementNodes(element, elementNodes);
+        return elementNodes;
+    }
+
+    @Override
+    protected boolean isNodeMigrationSupported() {
+        return true;
+    }
+
+    @Override
+    protected void attachElementNodes(Element element, ElementNodes elementNodes) {
+        if (isUpdating()) {
+            // attached and sorted once at the end of the batch
+            elementList.add(element);
+            elementNodesList.add(elementNodes);
+            childrenChanged = true;
+        } else {
+            int index = getInsertionIndex(element, elementList);
+            elementList.add(index, element);
+            elementNodesList.add(index, elementNodes);
+            controllerBox.getChildren().addAll(index * 4, Arrays.asList(elementNodes.getLabel().getNode(),
+                    elementNodes.getEditor().getNode(),
+                    elementNodes.getConstraint().getNode(),
+                    elementNodes.getTooltip().getNode()));
+        }
     }
 
     @Override
     protected void deleteElementNodes(ElementNodes elementNodes) {
+        int index = elementNodesList.indexOf(elementNodes);
+        if (index >= 0) {
+            elementList.remove(index);
+            elementNodesList.remove(index);
+        }
+        if (isUpdating()) {
+            childrenChanged = true;
+            return;
+        }
         controllerBox.getChildren().removeAll(elementNodes.getConstraint().getNode(),
                 elementNodes.getEditor().getNode(),
                 elementNodes.getLabel().getNode(),
@@ -74,6 +125,24 @@ public class DefaultSkin extends FXFormSkin {
     }
 
 
+    @Override
+    protected void flushUpdate() {
+        if (!childrenChanged || controllerBox == null) {
+            return;
+        }
+        childrenChanged = false;
+        // the elements created during the batch, e.g. deferred elements, are moved to their place
+        sortInFormOrder(elementList, elementNodesList);
+        List<Node> children = new ArrayList<Node>(elementNodesList.size() * 4);
+        for (ElementNodes elementNodes : elementNodesList) {
+            children.add(elementNodes.getLabel().getNode());
+            children.add(elementNodes.getEditor().getNode());
+            children.add(elementNodes.getConstraint().getNode());
+            children.add(elementNodes.getTooltip().getNode());
+        }
+        controllerBox.getChildren().setAll(children);
+    }
+
     private Node createTitleNode() {
         Label label = new AutoHidableLabel();
         label.getStyleClass().add("form-title");
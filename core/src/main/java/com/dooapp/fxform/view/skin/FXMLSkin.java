@@ -38,6 +38,8 @@ public class FXMLSkin extends NodeSkin {
 
     private Initializable controller;
 
+    private FXMLTemplateCache templateCache;
+
     public FXMLSkin(FXForm fxForm, URL url) {
         this(fxForm, url, null);
     }
@@ -55,7 +57,24 @@ public class FXMLSkin extends NodeSkin {
     }
 
 
+    /**
+     * Set the cache the FXML template is loaded from, e.g. {@link FXMLTemplateCache#getDefault()}. By default there is
+     * no cache and the template is read from its URL for each skin.
+     *
+     * @param templateCache
+     */
+    public void setTemplateCache(FXMLTemplateCache templateCache) {
+        this.templateCache = templateCache;
+    }
+
+    public FXMLTemplateCache getTemplateCache() {
+        return templateCache;
+    }
+
     protected Node loadFxml() throws NodeCreationException {
+        if (templateCache != null) {
+            return templateCache.load(url, controller);
+        }
         fxmlLoader = new FXMLLoader();
         fxmlLoader.setLocation(url);
         fxmlLoader.setController(controller);
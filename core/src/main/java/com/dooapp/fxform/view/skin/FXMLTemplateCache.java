@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.dooapp.fxform.view.skin;
+
+import com.dooapp.fxform.view.NodeCreationException;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Node;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache of the FXML templates used by {@link FXMLSkin}, keyed by URL. The content of a template is read once, each
+ * form then builds its own nodes from the cached content with a new {@link FXMLLoader}, whose location is still set to
+ * the URL of the template so that relative references are resolved as before. Only the reading of the template is
+ * saved, e.g. the lookup and inflation of a resource packaged in a jar: the template is still parsed for each form.
+ * <br>
+ * The cache is not used unless set on the skin with {@link FXMLSkin#setTemplateCache(FXMLTemplateCache)}. It keeps the
+ * most recently used templates up to a maximum number and does not check whether a template changed since it was
+ * read, call {@link #invalidate(URL)} when a template is edited at runtime.
+ * <br>
+ * Created at 19/10/26 00:14.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class FXMLTemplateCache {
+
+    /**
+     * Default maximum number of cached templates
+     */
+    public final static int DEFAULT_MAXIMUM_SIZE = 32;
+
+    private final static FXMLTemplateCache DEFAULT = new FXMLTemplateCache();
+
+    /**
+     * The content of the templates in access order, by external form of their URL since URL#equals might resolve host
+     * names
+     */
+    private final Map<String, byte[]> templates;
+
+    public FXMLTemplateCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * @param maximumSize the maximum number of cached templates
+     */
+    public FXMLTemplateCache(final int maximumSize) {
+        templates = new LinkedHashMap<String, byte[]>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    /**
+     * @return a cache shared by the skins it is set on
+     */
+    public static FXMLTemplateCache getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Create the nodes described by the template at the given URL.
+     *
+     * @param url        the URL of the FXML template
+     * @param controller the controller of the created nodes, might be null
+     * @return the root node
+     * @throws NodeCreationException if the template can not be read or loaded
+     */
+    public Node load(URL url, Object controller) throws NodeCreationException {
+        FXMLLoader fxmlLoader = new FXMLLoader();
+        fxmlLoader.setLocation(url);
+        fxmlLoader.setController(controller);
+        try {
+            return (Node) fxmlLoader.load(new ByteArrayInputStream(getTemplate(url)));
+        } catch (IOException e) {
+            throw new NodeCreationException(e.getMessage(), e);
+        }
+    }
+
+    private byte[] getTemplate(URL url) throws IOException {
+        String key = url.toExternalForm();
+        byte[] template;
+        synchronized (templates) {
+            template = templates.get(key);
+        }
+        if (template == null) {
+            // read outside of the lock, a concurrent read of the same template is harmless
+            template = read(url);
+            synchronized (templates) {
+                templates.put(key, template);
+            }
+        }
+        return template;
+    }
+
+    private byte[] read(URL url) throws IOException {
+        InputStream inputStream = url.openStream();
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
+            }
+            return outputStream.toByteArray();
+        } finally {
+            inputStream.close();
+        }
+    }
+
+    /**
+     * Drop the cached content of the given template, for instance after the file was edited.
+     *
+     * @param url
+     */
+    public void invalidate(URL url) {
+        synchronized (templates) {
+            templates.remove(url.toExternalForm());
+        }
+    }
+
+    public void clear() {
+        synchronized (templates) {
+            templates.clear();
+        }
+    }
+
+    /**
+     * @return the number of cached templates
+     */
+    public int size() {
+        synchronized (templates) {
+            return templates.size();
+        }
+    }
+
+}
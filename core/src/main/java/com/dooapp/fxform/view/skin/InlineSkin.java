@@ -27,6 +27,7 @@ import javafx.scene.layout.GridPaneBuilder;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -51,6 +52,21 @@ public class InlineSkin extends FXFormSkin {
     protected GridPane gridPane;
     protected int row = 0;
 
+    /**
+     * The displayed elements, in the order of the form
+     */
+    private final List<Element> rowElements = new ArrayList<Element>();
+
+    /**
+     * The nodes of the displayed elements in display order, each element using two rows of the grid
+     */
+    private final List<ElementNodes> rows = new ArrayList<ElementNodes>();
+
+    /**
+     * Whether the grid must be rebuilt from the rows at the end of the current batch
+     */
+    private boolean rowsChanged;
+
     @Override
     protected Node createRootNode() throws NodeCreationException {
         VBox titleBox = new VBox();
@@ -73,17 +89,92 @@ public class InlineSkin extends FXFormSkin {
         FXFormNode label = createLabel(element);
         FXFormNode constraint = createConstraint(element);
         FXFormNode tooltip = createTooltip(element);
-        GridPane.setHgrow(editor.getNode(), Priority.SOMETIMES);
-        gridPane.addRow(row, label.getNode(), editor.getNode(), constraint.getNode());
-        gridPane.add(tooltip.getNode(), 1, ++row);
-        row++;
-        return new ElementNodes(label, editor, tooltip, constraint);
+        ElementNodes elementNodes = new ElementNodes(label, editor, tooltip, constraint);
+        attachElementNodes(element, elementNodes);
+        return elementNodes;
+    }
+
+    @Override
+    protected boolean isNodeMigrationSupported() {
+        return true;
+    }
+
+    @Override
+    protected void attachElementNodes(Element element, ElementNodes elementNodes) {
+        GridPane.setHgrow(elementNodes.getEditor().getNode(), Priority.SOMETIMES);
+        if (isUpdating()) {
+            // placed and sorted once at the end of the batch
+            rowElements.add(element);
+            rows.add(elementNodes);
+            rowsChanged = true;
+        } else {
+            int index = getInsertionIndex(element, rowElements);
+            rowElements.add(index, element);
+            rows.add(index, elementNodes);
+            // only the rows below the inserted element move down
+            for (int i = index; i < rows.size(); i++) {
+                setRowIndex(rows.get(i), i);
+            }
+            gridPane.getChildren().addAll(elementNodes.getLabel().getNode(),
+                    elementNodes.getEditor().getNode(),
+                    elementNodes.getConstraint().getNode(),
+                    elementNodes.getTooltip().getNode());
+        }
+        row = rows.size() * 2;
     }
 
     @Override
     protected void deleteElementNodes(ElementNodes elementNodes) {
-        removeRow(GridPane.getRowIndex(elementNodes.getEditor().getNode()));
-        removeRow(GridPane.getRowIndex(elementNodes.getTooltip().getNode()));
+        int index = rows.indexOf(elementNodes);
+        if (index < 0) {
+            return;
+        }
+        rowElements.remove(index);
+        rows.remove(index);
+        row = rows.size() * 2;
+        if (isUpdating()) {
+            rowsChanged = true;
+            return;
+        }
+        gridPane.getChildren().removeAll(elementNodes.getLabel().getNode(),
+                elementNodes.getEditor().getNode(),
+                elementNodes.getConstraint().getNode(),
+                elementNodes.getTooltip().getNode());
+        // only the rows below the removed element move up
+        for (int i = index; i < rows.size(); i++) {
+            setRowIndex(rows.get(i), i);
+        }
+    }
+
+    @Override
+    protected void flushUpdate() {
+        if (!rowsChanged || gridPane == null) {
+            return;
+        }
+        rowsChanged = false;
+        // the elements created during the batch, e.g. deferred elements, are moved to their place
+        sortInFormOrder(rowElements, rows);
+        List<Node> children = new ArrayList<Node>(rows.size() * 4);
+        for (int i = 0; i < rows.size(); i++) {
+            ElementNodes elementNodes = rows.get(i);
+            setRowIndex(elementNodes, i);
+            children.add(elementNodes.getLabel().getNode());
+            children.add(elementNodes.getEditor().getNode());
+            children.add(elementNodes.getConstraint().getNode());
+            children.add(elementNodes.getTooltip().getNode());
+        }
+        // a single change of the children list for the whole batch
+        gridPane.getChildren().setAll(children);
+    }
+
+    /**
+     * Place the nodes of an element in the grid according to its index in the rows.
+     */
+    private void setRowIndex(ElementNodes elementNodes, int index) {
+        GridPane.setConstraints(elementNodes.getLabel().getNode(), 0, index * 2);
+        GridPane.setConstraints(elementNodes.getEditor().getNode(), 1, index * 2);
+        GridPane.setConstraints(elementNodes.getConstraint().getNode(), 2, index * 2);
+        GridPane.setConstraints(elementNodes.getTooltip().getNode(), 1, index * 2 + 1);
     }
 
 
@@ -91,7 +182,10 @@ public class InlineSkin extends FXFormSkin {
      * Remove a row by moving all nodes under this row one row up.
      *
      * @param row
+     * @deprecated no longer called by this skin, which places the nodes of the elements according to their index in
+     *             the displayed rows, see {@link #deleteElementNodes(ElementNodes)}
      */
+    @Deprecated
     protected void removeRow(int row) {
         // copy children to another list since we are going to iterate on it and modify the children list
         List<Node> children = new LinkedList<Node>(gridPane.getChildren());
@@ -20,7 +20,10 @@ import com.dooapp.fxform.view.FXFormSkin;
 import com.dooapp.fxform.view.NodeCreationException;
 import javafx.beans.property.Property;
 import javafx.scene.Node;
+import javafx.scene.Parent;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -38,6 +41,11 @@ public class NodeSkin extends FXFormSkin {
 
     private Callable<Node> onCreateNode;
 
+    /**
+     * The nodes of the root node by id, built on the first lookup
+     */
+    private Map<String, Node> nodeIndex;
+
     protected NodeSkin(FXForm fxForm) {
         super(fxForm);
     }
@@ -78,7 +86,7 @@ public class NodeSkin extends FXFormSkin {
     }
 
     private FXFormNode lookupNode(Element element, String suffix) {
-        Node node = getNode().lookup("#" + element.getName() + suffix);
+        Node node = getNodeIndex().get(element.getName() + suffix);
         if (node != null) {
             Property property = fxForm.getPropertyProvider().getProperty(node);
             if (property != null) {
@@ -92,4 +100,38 @@ public class NodeSkin extends FXFormSkin {
             return null;
     }
 
+    private Map<String, Node> getNodeIndex() {
+        if (nodeIndex == null) {
+            nodeIndex = new HashMap<String, Node>();
+            index(getNode());
+        }
+        return nodeIndex;
+    }
+
+    /**
+     * Index the given node and its descendants, in the order used by {@link Node#lookup(String)} so that the first node
+     * found for an id wins.
+     */
+    private void index(Node node) {
+        if (node == null) {
+            return;
+        }
+        if (node.getId() != null && !nodeIndex.containsKey(node.getId())) {
+            nodeIndex.put(node.getId(), node);
+        }
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                index(child);
+            }
+        }
+    }
+
+    /**
+     * Drop the index of the nodes by id. Must be called when nodes are added to or removed from the root node after the
+     * elements were bound, the index being built again on the next lookup.
+     */
+    public void invalidateNodeIndex() {
+        nodeIndex = null;
+    }
+
 }
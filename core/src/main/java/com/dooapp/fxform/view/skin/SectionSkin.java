@@ -0,0 +1,362 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.dooapp.fxform.view.skin;
+
+import com.dooapp.fxform.FXForm;
+import com.dooapp.fxform.annotation.FormGroup;
+import com.dooapp.fxform.controller.ElementController;
+import com.dooapp.fxform.model.Element;
+import com.dooapp.fxform.model.PropertyElement;
+import com.dooapp.fxform.validation.FXFormValidator;
+import com.dooapp.fxform.view.FXFormNode;
+import com.dooapp.fxform.view.FXFormSkin;
+import com.dooapp.fxform.view.NodeCreationException;
+import com.dooapp.fxform.view.control.AutoHidableLabel;
+import com.dooapp.fxform.view.control.ConstraintLabel;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.geometry.Insets;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.control.TitledPane;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.VBox;
+
+import javax.validation.ConstraintViolation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A "vertical" skin displaying the members annotated with {@link FormGroup} in collapsible sections, one for each
+ * group. The members without group are displayed first.<br>
+ * The controllers and the nodes of the members of a section are only created when the section is expanded for the
+ * first time for the class of the source; until then the section only references the elements of the form, whose
+ * values are validated by the skin so that their violations are still reported by
+ * {@link FXForm#getConstraintViolations()}. Once created, the controllers are kept when the section is collapsed.
+ * <br>
+ * Created at 19/10/26 00:16.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class SectionSkin extends FXFormSkin {
+
+    public final static String SECTION_STYLE = "form-section";
+
+    private VBox ungroupedBox;
+
+    private VBox sectionsBox;
+
+    private final Map<String, Section> sections = new LinkedHashMap<String, Section>();
+
+    /**
+     * The validations of the elements whose controller was not created yet
+     */
+    private final Map<Element, DeferredValidation> deferredValidations = new IdentityHashMap<Element, DeferredValidation>();
+
+    private final ChangeListener<FXFormValidator> validatorListener = new ChangeListener<FXFormValidator>() {
+        public void changed(ObservableValue<? extends FXFormValidator> observableValue, FXFormValidator validator, FXFormValidator validator1) {
+            for (DeferredValidation deferredValidation : deferredValidations.values()) {
+                deferredValidation.validate();
+            }
+        }
+    };
+
+    public SectionSkin(FXForm fxForm) {
+        super(fxForm);
+        fxForm.fxFormValidatorProperty().addListener(validatorListener);
+    }
+
+    @Override
+    protected Node createRootNode() throws NodeCreationException {
+        VBox titleBox = new VBox();
+        titleBox.getChildren().add(createTitleNode());
+        VBox contentBox = new VBox();
+        contentBox.setPadding(new Insets(5.0, 5.0, 5.0, 5.0));
+        contentBox.getStyleClass().add("form-content-box");
+        titleBox.getChildren().add(contentBox);
+        contentBox.setSpacing(5.0);
+        ConstraintLabel constraintLabel = new ConstraintLabel();
+        constraintLabel.constraintProperty().bind(fxForm.getClassLevelValidator().constraintViolationsProperty());
+        ungroupedBox = new VBox(5.0);
+        sectionsBox = new VBox(5.0);
+        contentBox.getChildren().addAll(constraintLabel, ungroupedBox, sectionsBox);
+        return titleBox;
+    }
+
+    /**
+     * The members of a group are deferred until its section is expanded for the class of the current source.
+     */
+    @Override
+    public boolean isDeferred(Element element) {
+        String group = getGroup(element);
+        return group != null && !isBuilt(group);
+    }
+
+    private boolean isBuilt(String group) {
+        Section section = sections.get(group);
+        return section != null && section.builtClass != null && section.builtClass == getSourceClass();
+    }
+
+    private Class<?> getSourceClass() {
+        Object source = fxForm.getSource();
+        return source == null ? null : source.getClass();
+    }
+
+    @Override
+    protected ElementNodes createElementNodes(Element element) {
+        FXFormNode editor = createEditor(element);
+        FXFormNode label = createLabel(element);
+        FXFormNode constraint = createConstraint(element);
+        FXFormNode tooltip = createTooltip(element);
+        ElementNodes elementNodes = new ElementNodes(label, editor, tooltip, constraint);
+        attachElementNodes(element, elementNodes);
+        return elementNodes;
+    }
+
+    @Override
+    protected boolean isNodeMigrationSupported() {
+        return true;
+    }
+
+    @Override
+    protected void attachElementNodes(Element element, ElementNodes elementNodes) {
+        String group = getGroup(element);
+        Pane box = group == null ? ungroupedBox : getSection(group).box;
+        box.getChildren().addAll(elementNodes.getLabel().getNode(),
+                elementNodes.getEditor().getNode(),
+                elementNodes.getConstraint().getNode(),
+                elementNodes.getTooltip().getNode());
+        if (group != null) {
+            getSection(group).updateVisibility();
+        }
+    }
+
+    @Override
+    protected void deleteElementNodes(ElementNodes elementNodes) {
+        Node editor = elementNodes.getEditor().getNode();
+        if (editor.getParent() instanceof Pane) {
+            ((Pane) editor.getParent()).getChildren().removeAll(elementNodes.getLabel().getNode(),
+                    editor,
+                    elementNodes.getConstraint().getNode(),
+                    elementNodes.getTooltip().getNode());
+        }
+        for (Section section : sections.values()) {
+            section.updateVisibility();
+        }
+    }
+
+    /**
+     * Collect the elements of the form that have no controller because their section was not built, and validate
+     * them.
+     */
+    @Override
+    protected void flushUpdate() {
+        List<ElementController> controllers = fxForm.getControllers();
+        List<Element> elements = fxForm.getModel().getElements();
+        Set<Element> controlled = Collections.newSetFromMap(new IdentityHashMap<Element, Boolean>());
+        for (ElementController controller : controllers) {
+            controlled.add(controller.getElement());
+        }
+        for (Section section : sections.values()) {
+            section.deferredElements.clear();
+        }
+        Set<Element> deferred = Collections.newSetFromMap(new IdentityHashMap<Element, Boolean>());
+        for (Element element : elements) {
+            String group = getGroup(element);
+            if (group != null && !controlled.contains(element) && !isBuilt(group)) {
+                getSection(group).deferredElements.add(element);
+                deferred.add(element);
+            }
+        }
+        Iterator<Map.Entry<Element, DeferredValidation>> iterator = deferredValidations.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Element, DeferredValidation> entry = iterator.next();
+            if (!deferred.contains(entry.getKey())) {
+                // the element got a controller or is no longer part of the form
+                entry.getValue().dispose();
+                iterator.remove();
+            }
+        }
+        for (Element element : deferred) {
+            if (!deferredValidations.containsKey(element) && element instanceof PropertyElement) {
+                DeferredValidation deferredValidation = new DeferredValidation(element);
+                deferredValidations.put(element, deferredValidation);
+                deferredValidation.validate();
+            }
+        }
+        for (Section section : new ArrayList<Section>(sections.values())) {
+            section.updateVisibility();
+            if (section.titledPane.isExpanded() && !section.deferredElements.isEmpty()) {
+                // the class of the source changed while the section was expanded
+                section.build();
+            }
+        }
+    }
+
+    /**
+     * Remove the given violations from the violations of the form. The violations are removed by identity since the
+     * controllers may report equal violations.
+     */
+    private void withdrawViolations(List<ConstraintViolation> violations) {
+        List<ConstraintViolation> formViolations = fxForm.getConstraintViolations();
+        for (ConstraintViolation violation : violations) {
+            for (int i = formViolations.size() - 1; i >= 0; i--) {
+                if (formViolations.get(i) == violation) {
+                    formViolations.remove(i);
+                    break;
+                }
+            }
+        }
+    }
+
+    private void clearDeferredValidations(Iterable<Element> elements) {
+        for (Element element : elements) {
+            DeferredValidation deferredValidation = deferredValidations.remove(element);
+            if (deferredValidation != null) {
+                deferredValidation.dispose();
+            }
+        }
+    }
+
+    @Override
+    public void dispose() {
+        if (fxForm != null) {
+            // the next skin creates the controllers of the deferred elements, which report their own violations
+            clearDeferredValidations(new ArrayList<Element>(deferredValidations.keySet()));
+            fxForm.fxFormValidatorProperty().removeListener(validatorListener);
+        }
+        super.dispose();
+    }
+
+    private String getGroup(Element element) {
+        FormGroup formGroup = (FormGroup) element.getAnnotation(FormGroup.class);
+        return formGroup == null ? null : formGroup.value();
+    }
+
+    private Section getSection(String group) {
+        Section section = sections.get(group);
+        if (section == null) {
+            // make sure the root node exists
+            getNode();
+            section = new Section(group);
+            sections.put(group, section);
+            sectionsBox.getChildren().add(section.titledPane);
+        }
+        return section;
+    }
+
+    /**
+     * @return the titled pane displaying the given group, or null if no member of the form is in this group
+     */
+    public TitledPane getSectionPane(String group) {
+        Section section = sections.get(group);
+        return section == null ? null : section.titledPane;
+    }
+
+    private Node createTitleNode() {
+        Label label = new AutoHidableLabel();
+        label.getStyleClass().add("form-title");
+        label.textProperty().bind(fxForm.titleProperty());
+        return label;
+    }
+
+    @Override
+    public String toString() {
+        return "Section skin";
+    }
+
+    /**
+     * Validates the value of an element without controller each time it changes, and reports its violations to the
+     * form.
+     */
+    private class DeferredValidation implements ChangeListener<Object> {
+
+        private final Element element;
+
+        private List<ConstraintViolation> violations = Collections.emptyList();
+
+        private DeferredValidation(Element element) {
+            this.element = element;
+            element.addListener(this);
+        }
+
+        public void changed(ObservableValue<?> observableValue, Object o, Object o1) {
+            validate();
+        }
+
+        private void validate() {
+            withdrawViolations(violations);
+            violations = fxForm.getModel().validate(element, element.getValue()).getAll();
+            fxForm.getConstraintViolations().addAll(violations);
+        }
+
+        private void dispose() {
+            element.removeListener(this);
+            withdrawViolations(violations);
+            violations = Collections.emptyList();
+        }
+
+    }
+
+    private class Section {
+
+        private final TitledPane titledPane;
+
+        private final VBox box = new VBox(5.0);
+
+        /**
+         * The elements of this section whose controller was not created yet
+         */
+        private final Set<Element> deferredElements = Collections.newSetFromMap(new IdentityHashMap<Element, Boolean>());
+
+        /**
+         * The class of the source when the section was expanded, the section is built again for another class
+         */
+        private Class<?> builtClass;
+
+        private Section(String group) {
+            titledPane = new TitledPane(group, box);
+            titledPane.getStyleClass().add(SECTION_STYLE);
+            titledPane.setExpanded(false);
+            titledPane.expandedProperty().addListener(new ChangeListener<Boolean>() {
+                public void changed(ObservableValue<? extends Boolean> observableValue, Boolean aBoolean, Boolean aBoolean2) {
+                    if (aBoolean2 && !deferredElements.isEmpty()) {
+                        build();
+                    }
+                }
+            });
+        }
+
+        private void build() {
+            builtClass = getSourceClass();
+            List<Element> elements = new ArrayList<Element>(deferredElements);
+            deferredElements.clear();
+            // the controllers report the violations of their element from now on
+            clearDeferredValidations(elements);
+            fxForm.createDeferredControllers(elements);
+        }
+
+        private void updateVisibility() {
+            boolean visible = !deferredElements.isEmpty() || !box.getChildren().isEmpty();
+            titledPane.setVisible(visible);
+            titledPane.setManaged(visible);
+        }
+
+    }
+
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.dooapp.fxform.view.skin;
+
+import com.dooapp.fxform.FXForm;
+import com.dooapp.fxform.controller.ElementController;
+import com.dooapp.fxform.model.Element;
+import com.dooapp.fxform.view.FXFormNode;
+import com.dooapp.fxform.view.FXFormSkin;
+import com.dooapp.fxform.view.NodeCreationException;
+import com.dooapp.fxform.view.control.AutoHidableLabel;
+import com.dooapp.fxform.view.control.ConstraintLabel;
+import javafx.collections.ListChangeListener;
+import javafx.geometry.Insets;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import javafx.util.Callback;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * A "vertical" skin for very large beans. The elements are displayed in the cells of a {@link ListView}, so only the
+ * nodes of the visible elements are created and bound. When a cell is scrolled out, the nodes of its element are
+ * released while the element controller, and the state of its validator, is kept. No node is cached: the label, editor,
+ * tooltip and constraint nodes are created again by the factories each time a row scrolls back into view, so a pending
+ * input that could not be adapted is not restored, only the value of the model and the style reflecting the state of
+ * the validator are.
+ * <br>
+ * Created at 19/10/26 00:11.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class VirtualizedSkin extends FXFormSkin {
+
+    /**
+     * Nodes returned for the elements that are not displayed.
+     */
+    private final static ElementNodes NO_NODES = new ElementNodes(null, null, null, null);
+
+    /**
+     * The cells currently displaying an element
+     */
+    private final Map<Element, ElementCell> displayedElements = new IdentityHashMap<Element, ElementCell>();
+
+    /**
+     * Releases the cells of the disposed controllers, which the list view only updates on its next layout.
+     */
+    private final ListChangeListener<ElementController> controllersListener = new ListChangeListener<ElementController>() {
+        public void onChanged(Change<? extends ElementController> change) {
+            while (change.next()) {
+                for (ElementController controller : change.getRemoved()) {
+                    ElementCell cell = displayedElements.remove(controller.getElement());
+                    if (cell != null && cell.controller == controller) {
+                        cell.controller = null;
+                        cell.setElementNodes(null);
+                    }
+                }
+            }
+        }
+    };
+
+    private ListView<ElementController> listView;
+
+    public VirtualizedSkin(FXForm fxForm) {
+        super(fxForm);
+        fxForm.getControllers().addListener(controllersListener);
+    }
+
+    @Override
+    protected Node createRootNode() throws NodeCreationException {
+        VBox titleBox = new VBox();
+        titleBox.getChildren().add(createTitleNode());
+        VBox contentBox = new VBox();
+        contentBox.setPadding(new Insets(5.0, 5.0, 5.0, 5.0));
+        contentBox.getStyleClass().add("form-content-box");
+        titleBox.getChildren().add(contentBox);
+        contentBox.setSpacing(5.0);
+        ConstraintLabel constraintLabel = new ConstraintLabel();
+        constraintLabel.constraintProperty().bind(fxForm.getClassLevelValidator().constraintViolationsProperty());
+        listView = new ListView<ElementController>(fxForm.getControllers());
+        listView.getStyleClass().add("form-virtualized-list");
+        listView.setCellFactory(new Callback<ListView<ElementController>, ListCell<ElementController>>() {
+            public ListCell<ElementController> call(ListView<ElementController> elementControllerListView) {
+                return new ElementCell();
+            }
+        });
+        VBox.setVgrow(listView, Priority.ALWAYS);
+        VBox.setVgrow(contentBox, Priority.ALWAYS);
+        contentBox.getChildren().addAll(constraintLabel, listView);
+        return titleBox;
+    }
+
+    @Override
+    protected ElementNodes createElementNodes(Element element) {
+        ElementCell cell = displayedElements.get(element);
+        if (cell == null) {
+            // not visible, the controller keeps its state without nodes
+            return NO_NODES;
+        }
+        FXFormNode editor = createEditor(element);
+        FXFormNode label = createLabel(element);
+        FXFormNode constraint = createConstraint(element);
+        FXFormNode tooltip = createTooltip(element);
+        ElementNodes elementNodes = new ElementNodes(label, editor, tooltip, constraint);
+        cell.setElementNodes(elementNodes);
+        return elementNodes;
+    }
+
+    @Override
+    protected void deleteElementNodes(ElementNodes elementNodes) {
+        if (elementNodes == NO_NODES) {
+            return;
+        }
+        for (ElementCell cell : displayedElements.values()) {
+            if (cell.elementNodes == elementNodes) {
+                cell.setElementNodes(null);
+                return;
+            }
+        }
+    }
+
+    private void show(ElementController controller, ElementCell cell) {
+        displayedElements.put(controller.getElement(), cell);
+        // drop the empty nodes so that the controller gets live nodes
+        removeElement(controller.getElement());
+        controller.refreshNodes();
+    }
+
+    private void hide(ElementController controller) {
+        // release the nodes while the cell is still registered, so that it is cleared
+        removeElement(controller.getElement());
+        displayedElements.remove(controller.getElement());
+        // the controller unbinds and disposes the released nodes
+        controller.refreshNodes();
+    }
+
+    @Override
+    public void dispose() {
+        if (fxForm != null) {
+            fxForm.getControllers().removeListener(controllersListener);
+        }
+        displayedElements.clear();
+        super.dispose();
+    }
+
+    private Node createTitleNode() {
+        Label label = new AutoHidableLabel();
+        label.getStyleClass().add("form-title");
+        label.textProperty().bind(fxForm.titleProperty());
+        return label;
+    }
+
+    /**
+     * @return the number of elements that currently have live nodes
+     */
+    public int getDisplayedElementCount() {
+        return displayedElements.size();
+    }
+
+    @Override
+    public String toString() {
+        return "Virtualized skin";
+    }
+
+    /**
+     * A cell displaying the nodes of an element. Cells are recycled by the list view while scrolling.
+     */
+    private class ElementCell extends ListCell<ElementController> {
+
+        private final VBox box = new VBox();
+
+        private ElementController controller;
+
+        private ElementNodes elementNodes;
+
+        private ElementCell() {
+            box.setSpacing(2.0);
+            getStyleClass().add("form-row");
+        }
+
+        @Override
+        protected void updateItem(ElementController item, boolean empty) {
+            super.updateItem(item, empty);
+            ElementController newController = empty ? null : item;
+            if (newController == controller) {
+                return;
+            }
+            if (controller != null) {
+                if (displayedElements.get(controller.getElement()) == this) {
+                    hide(controller);
+                } else {
+                    // the element was taken over by another cell
+                    setElementNodes(null);
+                }
+            }
+            controller = newController;
+            if (controller != null) {
+                show(controller, this);
+            }
+        }
+
+        private void setElementNodes(ElementNodes elementNodes) {
+            this.elementNodes = elementNodes;
+            if (elementNodes == null) {
+                box.getChildren().clear();
+                setGraphic(null);
+            } else {
+                box.getChildren().setAll(elementNodes.getLabel().getNode(),
+                        elementNodes.getEditor().getNode(),
+                        elementNodes.getConstraint().getNode(),
+                        elementNodes.getTooltip().getNode());
+                setGraphic(box);
+            }
+        }
+    }
+
+}
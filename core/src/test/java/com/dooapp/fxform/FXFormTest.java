@@ -12,9 +12,19 @@
 
 package com.dooapp.fxform;
 
+import com.dooapp.fxform.adapter.Adapter;
+import com.dooapp.fxform.adapter.AdapterProvider;
+import com.dooapp.fxform.adapter.DefaultAdapter;
+import com.dooapp.fxform.controller.ElementController;
+import com.dooapp.fxform.model.Element;
+import com.dooapp.fxform.view.FXFormNode;
+import com.dooapp.fxform.view.FXFormSkin;
+import javafx.beans.property.StringProperty;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ListResourceBundle;
+
 /**
  * TODO write documentation<br>
  * <br>
@@ -43,4 +53,60 @@ public class FXFormTest {
         Assert.assertEquals(4, fxForm.getControllers().size());
     }
 
+    @Test
+    public void testResourceBundleTexts() {
+        FXForm fxForm = new FXForm(new TestBean());
+        FXFormSkin skin = (FXFormSkin) fxForm.getSkin();
+        Element element = getElement(fxForm, "stringProperty");
+        Assert.assertEquals("stringProperty", skin.getLabel(element).getProperty().getValue());
+        Assert.assertNull(skin.getTooltip(element).getProperty().getValue());
+        fxForm.setResourceBundle(new ListResourceBundle() {
+            @Override
+            protected Object[][] getContents() {
+                return new Object[][]{{"stringProperty-label", "Name"}, {"stringProperty-tooltip", "The name"}};
+            }
+        });
+        Assert.assertEquals("Name", skin.getLabel(element).getProperty().getValue());
+        Assert.assertEquals("The name", skin.getTooltip(element).getProperty().getValue());
+        fxForm.setResourceBundle(null);
+        Assert.assertEquals("stringProperty", skin.getLabel(element).getProperty().getValue());
+        Assert.assertNull(skin.getTooltip(element).getProperty().getValue());
+        // the texts are bound, the nodes can not be written to
+        Assert.assertTrue(skin.getLabel(element).getProperty().isBound());
+        Assert.assertTrue(skin.getTooltip(element).getProperty().isBound());
+    }
+
+    @Test
+    public void testAdapterProviderTexts() {
+        FXForm fxForm = new FXForm(new TestBean());
+        FXFormSkin skin = (FXFormSkin) fxForm.getSkin();
+        Element element = getElement(fxForm, "stringProperty");
+        final AdapterProvider defaultAdapterProvider = fxForm.getAdapterProvider();
+        fxForm.setAdapterProvider(new AdapterProvider() {
+            public Adapter getAdapter(Class fromClass, Class toClass, Element element, FXFormNode fxFormNode) {
+                if (fromClass != StringProperty.class) {
+                    return defaultAdapterProvider.getAdapter(fromClass, toClass, element, fxFormNode);
+                }
+                return new DefaultAdapter() {
+                    @Override
+                    public Object adaptTo(Object from) {
+                        return from == null ? null : from.toString().toUpperCase();
+                    }
+                };
+            }
+        });
+        Assert.assertEquals("STRINGPROPERTY", skin.getLabel(element).getProperty().getValue());
+        fxForm.setAdapterProvider(defaultAdapterProvider);
+        Assert.assertEquals("stringProperty", skin.getLabel(element).getProperty().getValue());
+    }
+
+    private Element getElement(FXForm fxForm, String name) {
+        for (Object controller : fxForm.getControllers()) {
+            if (name.equals(((ElementController) controller).getElement().getName())) {
+                return ((ElementController) controller).getElement();
+            }
+        }
+        return null;
+    }
+
 }
\ No newline at end of file
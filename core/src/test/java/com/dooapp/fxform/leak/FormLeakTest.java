@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.dooapp.fxform.leak;
+
+import com.dooapp.fxform.FXForm;
+import com.dooapp.fxform.JavaFXThread;
+import com.dooapp.fxform.TestBean;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Created at 19/10/26 00:08.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class FormLeakTest {
+
+    private final static int ITERATIONS = 50;
+
+    @Test
+    public void testDisposedFormsAreCollected() throws Exception {
+        // each bean outlives its form, only the dispose path can release the form
+        final List<TestBean> testBeans = new ArrayList<TestBean>();
+        final LeakHarness harness = new LeakHarness();
+        harness.repeat(ITERATIONS, new LeakHarness.FormCycle() {
+            @Override
+            protected FXForm create(int iteration) {
+                TestBean testBean = new TestBean();
+                testBeans.add(testBean);
+                return harness.track("#" + iteration + " form", new FXForm(testBean));
+            }
+        });
+        Assert.assertTrue(harness.getTrackedCount() > ITERATIONS);
+        List<String> retained = harness.getRetained();
+        Assert.assertEquals(ITERATIONS, testBeans.size());
+        Assert.assertEquals("retained: " + retained, ITERATIONS, retained.size());
+        for (String description : retained) {
+            Assert.assertTrue("retained: " + description, description.endsWith(" source"));
+        }
+    }
+
+    @Test
+    public void testLongLivedBeanDoesNotRetainForms() throws Exception {
+        // the bean outlives the forms, so its properties must not keep references on the listeners of the forms
+        final TestBean testBean = new TestBean();
+        final LeakHarness harness = new LeakHarness();
+        harness.repeat(ITERATIONS, new LeakHarness.FormCycle() {
+            @Override
+            protected FXForm create(int iteration) {
+                return harness.track("#" + iteration + " form", new FXForm(testBean));
+            }
+        });
+        // the bean is still in use, it is expected to be the only survivor
+        Assert.assertNotNull(testBean);
+        for (String retained : harness.getRetained()) {
+            Assert.assertTrue("retained: " + retained, retained.endsWith(" source"));
+        }
+    }
+
+    @Test
+    public void testUndisposedFormsAreCollectedWithWeakBinding() throws Exception {
+        final TestBean testBean = new TestBean();
+        final LeakHarness harness = new LeakHarness();
+        JavaFXThread.runAndWait(new Runnable() {
+            public void run() {
+                for (int i = 0; i < ITERATIONS; i++) {
+                    FXForm form = new FXForm();
+                    form.setWeakBinding(true);
+                    form.setSource(testBean);
+                    harness.track("#" + i + " form", form);
+                }
+            }
+        });
+        harness.assertCollected();
+        Assert.assertNotNull(testBean);
+    }
+
+    @Test
+    public void testDefaultWeakBinding() throws Exception {
+        final TestBean testBean = new TestBean();
+        final LeakHarness harness = new LeakHarness();
+        FXForm.setDefaultWeakBinding(true);
+        try {
+            JavaFXThread.runAndWait(new Runnable() {
+                public void run() {
+                    for (int i = 0; i < ITERATIONS; i++) {
+                        harness.track("#" + i + " form", new FXForm(testBean));
+                    }
+                }
+            });
+        } finally {
+            FXForm.setDefaultWeakBinding(false);
+        }
+        harness.assertCollected();
+        Assert.assertFalse(new FXForm().isWeakBinding());
+    }
+
+    @Test
+    public void testSourceSwapReleasesPreviousSources() throws Exception {
+        // a source of the same class reuses the elements and controllers, only the previous sources must be released
+        final FXForm form = new FXForm();
+        final LeakHarness harness = new LeakHarness();
+        JavaFXThread.runAndWait(new Runnable() {
+            public void run() {
+                for (int i = 0; i < ITERATIONS; i++) {
+                    form.setSource(harness.track("#" + i + " source", new TestBean()));
+                }
+                form.setSource(new TestBean());
+            }
+        });
+        harness.assertCollected();
+        Assert.assertEquals(4, form.getControllers().size());
+    }
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.dooapp.fxform.leak;
+
+import com.dooapp.fxform.FXForm;
+import com.dooapp.fxform.JavaFXThread;
+import com.dooapp.fxform.controller.ElementController;
+import com.dooapp.fxform.model.Element;
+import com.dooapp.fxform.view.FXFormNode;
+import com.dooapp.fxform.view.FXFormSkin;
+import org.junit.Assert;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Reusable harness checking that the objects reachable from a form are released once the form has been disposed.
+ * Forms are created and disposed repeatedly, the bean, elements, controllers and nodes of each cycle are tracked through
+ * weak references and {@link #assertCollected()} fails with the description of every object still retained after a
+ * few garbage collections.<br>
+ * The JavaFX toolkit is started by the harness, on the Monocle headless platform when the tests are built with the
+ * jdk8 profile, and the forms are created and disposed on the JavaFX application thread. Before looking for retained
+ * objects, the tasks posted by the forms with Platform.runLater are run, so that they do not hold references.
+ * <br>
+ * Created at 19/10/26 00:08.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class LeakHarness {
+
+    /**
+     * Number of garbage collections requested before giving up.
+     */
+    private final static int GC_ATTEMPTS = 20;
+
+    /**
+     * One create/dispose cycle of a form.
+     */
+    public abstract static class FormCycle {
+
+        /**
+         * Create the form, or bind an existing form to a new source, for the given iteration.
+         */
+        protected abstract FXForm create(int iteration);
+
+        /**
+         * Dispose the form created by {@link #create(int)}. By default the source of the form is set to null.
+         */
+        protected void dispose(FXForm<?> form) {
+            form.setSource(null);
+        }
+
+    }
+
+    private final List<WeakReference<Object>> references = new ArrayList<WeakReference<Object>>();
+
+    private final List<String> descriptions = new ArrayList<String>();
+
+    public LeakHarness() throws Exception {
+        JavaFXThread.start();
+    }
+
+    /**
+     * Track an object that is expected to be collected.
+     *
+     * @return the tracked object
+     */
+    public <T> T track(String description, T object) {
+        references.add(new WeakReference<Object>(object));
+        descriptions.add(description);
+        return object;
+    }
+
+    /**
+     * Track the source, the elements, the controllers and the nodes currently displayed by the given form. The form
+     * itself is not tracked since it might be reused.
+     */
+    public void trackContent(FXForm<?> form, String prefix) {
+        if (form.getSource() != null) {
+            track(prefix + " source", form.getSource());
+        }
+        FXFormSkin skin = (FXFormSkin) form.getSkin();
+        for (ElementController controller : form.getControllers()) {
+            Element element = controller.getElement();
+            String name = prefix + " " + element.getName();
+            track(name + " controller", controller);
+            track(name + " element", element);
+            trackNode(name + " label", skin.getLabel(element));
+            trackNode(name + " editor", skin.getEditor(element));
+            trackNode(name + " tooltip", skin.getTooltip(element));
+            trackNode(name + " constraint", skin.getConstraint(element));
+        }
+    }
+
+    private void trackNode(String description, FXFormNode fxFormNode) {
+        if (fxFormNode != null) {
+            track(description + " node", fxFormNode);
+            track(description + " scene graph node", fxFormNode.getNode());
+        }
+    }
+
+    /**
+     * Run the given cycle the given number of times, tracking the content of each form before disposing it.
+     */
+    public void repeat(int iterations, final FormCycle cycle) throws Exception {
+        for (int i = 0; i < iterations; i++) {
+            final int iteration = i;
+            JavaFXThread.runAndWait(new Runnable() {
+                public void run() {
+                    FXForm<?> form = cycle.create(iteration);
+                    trackContent(form, "#" + iteration);
+                    cycle.dispose(form);
+                }
+            });
+        }
+    }
+
+    public int getTrackedCount() {
+        return references.size();
+    }
+
+    /**
+     * @return the description of the tracked objects that are still reachable after a few garbage collections
+     */
+    public List<String> getRetained() throws Exception {
+        JavaFXThread.flush();
+        List<String> retained = collectRetained();
+        for (int i = 0; i < GC_ATTEMPTS && !retained.isEmpty(); i++) {
+            System.gc();
+            System.runFinalization();
+            // some allocations to help the collector clear the weak references
+            List<byte[]> garbage = new LinkedList<byte[]>();
+            for (int j = 0; j < 64; j++) {
+                garbage.add(new byte[16 * 1024]);
+            }
+            garbage.clear();
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            retained = collectRetained();
+        }
+        return retained;
+    }
+
+    private List<String> collectRetained() {
+        List<String> retained = new LinkedList<String>();
+        for (int i = 0; i < references.size(); i++) {
+            if (references.get(i).get() != null) {
+                retained.add(descriptions.get(i));
+            }
+        }
+        return retained;
+    }
+
+    /**
+     * Assert that every tracked object has been collected.
+     */
+    public void assertCollected() throws Exception {
+        List<String> retained = getRetained();
+        Assert.assertTrue(retained.size() + " of " + getTrackedCount() + " objects retained: " + retained, retained.isEmpty());
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.dooapp.fxform.validation;
+
+import com.dooapp.fxform.FXForm;
+import com.dooapp.fxform.JavaFXThread;
+import com.dooapp.fxform.annotation.AsyncValidation;
+import com.dooapp.fxform.controller.ElementController;
+import com.dooapp.fxform.model.Element;
+import com.dooapp.fxform.validation.lightweight.LightweightFXFormValidator;
+import com.dooapp.fxform.view.FXFormSkin;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.scene.Node;
+import javafx.scene.control.TextField;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import javax.validation.constraints.Size;
+
+/**
+ * Check the style of the form nodes while an asynchronous validation is in progress.
+ * <br>
+ * Created at 19/10/26 00:52.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class AsyncValidationTest {
+
+    public static class CodeBean {
+
+        @AsyncValidation
+        private final StringProperty code = new SimpleStringProperty("abc");
+
+        @Size(max = 3)
+        public String getCode() {
+            return code.get();
+        }
+    }
+
+    @BeforeClass
+    public static void startToolkit() throws Exception {
+        JavaFXThread.start();
+    }
+
+    @Test
+    public void testValidatingStyle() throws Exception {
+        final GatedExecutor executor = new GatedExecutor();
+        final CodeBean bean = new CodeBean();
+        final FXForm<Object> fxForm = new FXForm<Object>();
+        final Node[] editor = new Node[1];
+        JavaFXThread.runAndWait(new Runnable() {
+            public void run() {
+                fxForm.setFxFormValidator(new LightweightFXFormValidator());
+                fxForm.setAsyncValidationExecutor(executor);
+                fxForm.setSource(bean);
+                Element element = null;
+                for (ElementController controller : fxForm.getControllers()) {
+                    element = controller.getElement();
+                }
+                editor[0] = ((FXFormSkin) fxForm.getSkin()).getEditor(element).getNode();
+                ((TextField) editor[0]).setText("abcd");
+            }
+        });
+        final String validatingStyle = FXForm.EDITOR_STYLE + FXForm.VALIDATING_STYLE;
+        final String invalidStyle = FXForm.EDITOR_STYLE + FXForm.INVALID_STYLE;
+        Assert.assertTrue(editor[0].getStyleClass().contains(validatingStyle));
+        executor.runPending();
+        JavaFXThread.flush();
+        Assert.assertFalse(editor[0].getStyleClass().contains(validatingStyle));
+        Assert.assertTrue(editor[0].getStyleClass().contains(invalidStyle));
+        // the model is only updated with valid values
+        Assert.assertEquals("abc", bean.getCode());
+        JavaFXThread.runAndWait(new Runnable() {
+            public void run() {
+                ((TextField) editor[0]).setText("ab");
+            }
+        });
+        Assert.assertTrue(editor[0].getStyleClass().contains(validatingStyle));
+        executor.runPending();
+        JavaFXThread.flush();
+        Assert.assertFalse(editor[0].getStyleClass().contains(validatingStyle));
+        Assert.assertFalse(editor[0].getStyleClass().contains(invalidStyle));
+        Assert.assertEquals("ab", bean.getCode());
+    }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.view;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+/**
+ * Created at 19/10/26 01:17.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class ResourceBundleCacheTest {
+
+    private final static String BASE_NAME = ResourceBundleCacheTest.class.getName();
+
+    @Test
+    public void testBundleIsCached() {
+        ResourceBundleCache cache = new ResourceBundleCache();
+        ClassLoader classLoader = ResourceBundleCacheTest.class.getClassLoader();
+        ResourceBundle bundle = cache.getBundle(BASE_NAME, Locale.ROOT, classLoader);
+        Assert.assertEquals("Resource bundle cache", bundle.getString("title"));
+        Assert.assertSame(bundle, cache.getBundle(BASE_NAME, Locale.ROOT, classLoader));
+        Assert.assertNull(cache.getBundle(BASE_NAME + "Missing", Locale.ROOT, classLoader));
+    }
+
+    @Test
+    public void testBundlesAreCachedByClassLoader() {
+        ResourceBundleCache cache = new ResourceBundleCache();
+        Assert.assertNotNull(cache.getBundle(BASE_NAME, Locale.ROOT, ResourceBundleCacheTest.class.getClassLoader()));
+        // a class loader which does not see the bundle does not get the one cached for another class loader
+        ClassLoader isolated = new URLClassLoader(new URL[0], null);
+        Assert.assertNull(cache.getBundle(BASE_NAME, Locale.ROOT, isolated));
+    }
+
+}
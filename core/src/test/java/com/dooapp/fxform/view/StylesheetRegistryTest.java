@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.view;
+
+import com.dooapp.fxform.FXForm;
+import com.dooapp.fxform.JavaFXThread;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+/**
+ * Created at 19/10/26 01:16.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class StylesheetRegistryTest {
+
+    private final static String STYLESHEET = "registry.css";
+
+    @BeforeClass
+    public static void startToolkit() throws Exception {
+        JavaFXThread.start();
+    }
+
+    @Test
+    public void testReferenceCounting() throws Exception {
+        JavaFXThread.runAndWait(new Runnable() {
+            public void run() {
+                StylesheetRegistry registry = new StylesheetRegistry();
+                Scene scene = new Scene(new Group());
+                registry.attach(scene, STYLESHEET);
+                registry.attach(scene, STYLESHEET);
+                Assert.assertEquals(2, registry.getAttachmentCount(scene, STYLESHEET));
+                Assert.assertEquals(1, scene.getStylesheets().size());
+                registry.detach(scene, STYLESHEET);
+                Assert.assertEquals(1, registry.getAttachmentCount(scene, STYLESHEET));
+                Assert.assertTrue(scene.getStylesheets().contains(STYLESHEET));
+                registry.detach(scene, STYLESHEET);
+                Assert.assertEquals(0, registry.getAttachmentCount(scene, STYLESHEET));
+                Assert.assertTrue(scene.getStylesheets().isEmpty());
+                // an unbalanced detach is ignored
+                registry.detach(scene, STYLESHEET);
+                Assert.assertEquals(0, registry.getAttachmentCount(scene, STYLESHEET));
+            }
+        });
+    }
+
+    @Test
+    public void testApplicationStylesheetIsKept() throws Exception {
+        JavaFXThread.runAndWait(new Runnable() {
+            public void run() {
+                StylesheetRegistry registry = new StylesheetRegistry();
+                Scene scene = new Scene(new Group());
+                scene.getStylesheets().add(STYLESHEET);
+                registry.attach(scene, STYLESHEET);
+                Assert.assertEquals(1, scene.getStylesheets().size());
+                registry.detach(scene, STYLESHEET);
+                Assert.assertEquals(1, scene.getStylesheets().size());
+                Assert.assertEquals(0, registry.getAttachmentCount(scene, STYLESHEET));
+            }
+        });
+    }
+
+    @Test
+    public void testGetStylesheet() {
+        StylesheetRegistry registry = new StylesheetRegistry();
+        Assert.assertTrue(registry.getStylesheet(StylesheetRegistryTest.class.getName(), StylesheetRegistryTest.class.getClassLoader()).endsWith("StylesheetRegistryTest.css"));
+        Assert.assertNull(registry.getStylesheet(StylesheetRegistry.class.getName(), StylesheetRegistry.class.getClassLoader()));
+    }
+
+    @Test
+    public void testStylesheetsAreCachedByClassLoader() {
+        StylesheetRegistry registry = new StylesheetRegistry();
+        Assert.assertNotNull(registry.getStylesheet(StylesheetRegistryTest.class.getName(), StylesheetRegistryTest.class.getClassLoader()));
+        // a class loader which does not see the css file does not get the one found by another class loader
+        ClassLoader isolated = new URLClassLoader(new URL[0], null);
+        Assert.assertNull(registry.getStylesheet(StylesheetRegistryTest.class.getName(), isolated));
+    }
+
+    @Test
+    public void testFormsShareTheStylesheet() throws Exception {
+        JavaFXThread.runAndWait(new Runnable() {
+            public void run() {
+                StylesheetRegistry registry = StylesheetRegistry.getDefault();
+                String stylesheet = registry.getStylesheet(StylesheetRegistryTest.class.getName(), StylesheetRegistryTest.class.getClassLoader());
+                FXForm<Object> first = new FXForm<Object>(StylesheetRegistryTest.class, (Object) null);
+                FXForm<Object> second = new FXForm<Object>(StylesheetRegistryTest.class, (Object) null);
+                Group root = new Group(first, second);
+                Scene scene = new Scene(root);
+                Assert.assertEquals(2, registry.getAttachmentCount(scene, stylesheet));
+                Assert.assertEquals(1, scene.getStylesheets().size());
+                // a form leaving the scene detaches the stylesheet
+                root.getChildren().remove(first);
+                Assert.assertEquals(1, registry.getAttachmentCount(scene, stylesheet));
+                Assert.assertTrue(scene.getStylesheets().contains(stylesheet));
+                // a form released while displayed detaches it as well, once
+                second.release();
+                second.release();
+                Assert.assertEquals(0, registry.getAttachmentCount(scene, stylesheet));
+                Assert.assertTrue(scene.getStylesheets().isEmpty());
+                root.getChildren().add(first);
+                Assert.assertEquals(1, registry.getAttachmentCount(scene, stylesheet));
+                first.release();
+                Assert.assertTrue(scene.getStylesheets().isEmpty());
+            }
+        });
+    }
+
+}
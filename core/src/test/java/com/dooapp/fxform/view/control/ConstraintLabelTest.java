@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.dooapp.fxform.view.control;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Path;
+import javax.validation.metadata.ConstraintDescriptor;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Created at 19/10/26 00:37.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class ConstraintLabelTest {
+
+    private static class CountingViolation implements ConstraintViolation<Object> {
+
+        private final String message;
+
+        private int messageCount;
+
+        private CountingViolation(String message) {
+            this.message = message;
+        }
+
+        public String getMessage() {
+            messageCount++;
+            return message;
+        }
+
+        public String getMessageTemplate() {
+            return message;
+        }
+
+        public Object getRootBean() {
+            return null;
+        }
+
+        public Class<Object> getRootBeanClass() {
+            return Object.class;
+        }
+
+        public Object getLeafBean() {
+            return null;
+        }
+
+        public Path getPropertyPath() {
+            return null;
+        }
+
+        public Object getInvalidValue() {
+            return null;
+        }
+
+        public ConstraintDescriptor<?> getConstraintDescriptor() {
+            return null;
+        }
+    }
+
+    @Test
+    public void testLabelsAreReused() {
+        ConstraintLabel constraintLabel = new ConstraintLabel();
+        ObservableList<ConstraintViolation> violations = FXCollections.observableArrayList();
+        constraintLabel.constraintProperty().set(violations);
+        CountingViolation first = new CountingViolation("first");
+        CountingViolation second = new CountingViolation("second");
+        violations.addAll(first, second);
+        List<Node> labels = new ArrayList<Node>(constraintLabel.getChildren());
+        Assert.assertEquals(2, labels.size());
+        Assert.assertEquals("first", ((Label) labels.get(0)).getText());
+        Assert.assertEquals("second", ((Label) labels.get(1)).getText());
+        violations.add(new CountingViolation("third"));
+        Assert.assertEquals(3, constraintLabel.getChildren().size());
+        Assert.assertSame(labels.get(0), constraintLabel.getChildren().get(0));
+        Assert.assertSame(labels.get(1), constraintLabel.getChildren().get(1));
+        // the messages of the violations already rendered are not read again
+        Assert.assertEquals(1, first.messageCount);
+        Assert.assertEquals(1, second.messageCount);
+        violations.set(1, new CountingViolation("other"));
+        Assert.assertSame(labels.get(1), constraintLabel.getChildren().get(1));
+        Assert.assertEquals("other", ((Label) constraintLabel.getChildren().get(1)).getText());
+        Assert.assertEquals(1, first.messageCount);
+    }
+
+    @Test
+    public void testRemovedLabelsAreRecycled() {
+        ConstraintLabel constraintLabel = new ConstraintLabel();
+        ObservableList<ConstraintViolation> violations = FXCollections.observableArrayList();
+        constraintLabel.constraintProperty().set(violations);
+        for (int i = 0; i < 6; i++) {
+            violations.add(new CountingViolation("message " + i));
+        }
+        List<Node> labels = new ArrayList<Node>(constraintLabel.getChildren());
+        violations.remove(1, 6);
+        Assert.assertEquals(1, constraintLabel.getChildren().size());
+        // the recycle pool is bounded
+        Assert.assertEquals(4, constraintLabel.getRecycledLabelCount());
+        violations.add(new CountingViolation("new"));
+        Assert.assertEquals(3, constraintLabel.getRecycledLabelCount());
+        Assert.assertSame(labels.get(1), constraintLabel.getChildren().get(1));
+        Assert.assertEquals("new", ((Label) constraintLabel.getChildren().get(1)).getText());
+        violations.clear();
+        Assert.assertTrue(constraintLabel.getChildren().isEmpty());
+    }
+
+}
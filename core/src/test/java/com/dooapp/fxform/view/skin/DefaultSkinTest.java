@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.dooapp.fxform.view.skin;
+
+import com.dooapp.fxform.FXForm;
+import com.dooapp.fxform.TestBean;
+import com.dooapp.fxform.filter.ExcludeFilter;
+import javafx.collections.ListChangeListener;
+import javafx.scene.Node;
+import javafx.scene.layout.VBox;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Created at 19/10/26 00:13.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class DefaultSkinTest {
+
+    @Test
+    public void testSingleChildrenChangePerBuild() {
+        FXForm fxForm = new FXForm();
+        DefaultSkin skin = (DefaultSkin) fxForm.getSkin();
+        VBox contentBox = (VBox) ((VBox) skin.getNode()).getChildren().get(1);
+        VBox controllerBox = (VBox) contentBox.getChildren().get(1);
+        final int[] changes = new int[1];
+        controllerBox.getChildren().addListener(new ListChangeListener<Node>() {
+            @Override
+            public void onChanged(Change<? extends Node> change) {
+                changes[0]++;
+            }
+        });
+        fxForm.setSource(new TestBean());
+        Assert.assertEquals(1, changes[0]);
+        Assert.assertEquals(16, controllerBox.getChildren().size());
+        // a source of the same class reuses the elements and their nodes
+        fxForm.setSource(new TestBean());
+        Assert.assertEquals(1, changes[0]);
+        Assert.assertEquals(16, controllerBox.getChildren().size());
+        // a filter change disposes and creates the nodes in the same batch
+        fxForm.getFilters().add(new ExcludeFilter("booleanProperty"));
+        Assert.assertEquals(2, changes[0]);
+        Assert.assertEquals(12, controllerBox.getChildren().size());
+        fxForm.setSource(null);
+        Assert.assertEquals(3, changes[0]);
+        Assert.assertEquals(0, controllerBox.getChildren().size());
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.view.skin;
+
+import com.dooapp.fxform.FXForm;
+import com.dooapp.fxform.JavaFXThread;
+import javafx.fxml.FXML;
+import javafx.fxml.Initializable;
+import javafx.scene.Parent;
+import javafx.scene.control.TextField;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.net.URL;
+import java.util.ResourceBundle;
+
+/**
+ * Created at 19/10/26 01:06.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class FXMLTemplateCacheTest {
+
+    public static class FormController implements Initializable {
+
+        @FXML
+        private TextField editor;
+
+        private int initializeCount;
+
+        @Override
+        public void initialize(URL url, ResourceBundle resourceBundle) {
+            initializeCount++;
+        }
+    }
+
+    private final URL template = FXMLTemplateCacheTest.class.getResource("FXMLTemplateCacheTest_form.fxml");
+
+    @BeforeClass
+    public static void startToolkit() throws Exception {
+        JavaFXThread.start();
+    }
+
+    @Test
+    public void testRelativeReferencesAndController() throws Exception {
+        FXMLTemplateCache cache = new FXMLTemplateCache();
+        for (int i = 0; i < 2; i++) {
+            FormController controller = new FormController();
+            Parent root = (Parent) cache.load(template, controller);
+            // the included template and the stylesheet are resolved against the location of the template
+            Assert.assertNotNull(root.lookup("#title"));
+            Assert.assertEquals(1, root.getStylesheets().size());
+            Assert.assertTrue(root.getStylesheets().get(0).endsWith("FXMLTemplateCacheTest.css"));
+            Assert.assertSame(root.lookup("#name-form-editor"), controller.editor);
+            Assert.assertEquals(1, controller.initializeCount);
+        }
+        Assert.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testMaximumSize() throws Exception {
+        FXMLTemplateCache cache = new FXMLTemplateCache(1);
+        URL title = FXMLTemplateCacheTest.class.getResource("FXMLTemplateCacheTest_title.fxml");
+        cache.load(template, new FormController());
+        cache.load(title, null);
+        Assert.assertEquals(1, cache.size());
+        cache.invalidate(title);
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testNoCacheByDefault() {
+        FXMLSkin skin = new FXMLSkin(new FXForm<Object>(), template);
+        Assert.assertNull(skin.getTemplateCache());
+    }
+
+}
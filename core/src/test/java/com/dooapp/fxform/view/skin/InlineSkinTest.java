@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.dooapp.fxform.view.skin;
+
+import com.dooapp.fxform.FXForm;
+import com.dooapp.fxform.TestBean;
+import com.dooapp.fxform.controller.ElementController;
+import com.dooapp.fxform.filter.ExcludeFilter;
+import com.dooapp.fxform.model.Element;
+import com.dooapp.fxform.view.FXFormNode;
+import com.dooapp.fxform.view.FXFormSkin;
+import javafx.scene.Node;
+import javafx.scene.layout.GridPane;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Created at 19/10/26 00:12.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class InlineSkinTest {
+
+    @Test
+    public void testRows() {
+        FXForm<Object> fxForm = new FXForm<Object>();
+        InlineSkin skin = new InlineSkin(fxForm);
+        fxForm.setSkin(skin);
+        fxForm.setSource(new TestBean());
+        Assert.assertEquals(16, skin.gridPane.getChildren().size());
+        assertRows(fxForm, skin);
+        // the nodes of the elements are not stored in the properties of the root node
+        Assert.assertTrue(skin.getNode().getProperties().isEmpty());
+        fxForm.getFilters().add(new ExcludeFilter("booleanProperty"));
+        Assert.assertEquals(12, skin.gridPane.getChildren().size());
+        assertRows(fxForm, skin);
+        // removal outside of a batch
+        skin.removeElement(fxForm.getControllers().get(0).getElement());
+        Assert.assertEquals(8, skin.gridPane.getChildren().size());
+        Assert.assertEquals(4, skin.row);
+        fxForm.setSource(null);
+        Assert.assertEquals(0, skin.gridPane.getChildren().size());
+    }
+
+    @Test
+    public void testMigrationFromDefaultSkin() {
+        TestBean testBean = new TestBean();
+        FXForm<Object> fxForm = new FXForm<Object>(testBean);
+        Element element = null;
+        for (ElementController controller : fxForm.getControllers()) {
+            if ("stringProperty".equals(controller.getElement().getName())) {
+                element = controller.getElement();
+            }
+        }
+        FXFormNode editor = ((FXFormSkin) fxForm.getSkin()).getEditor(element);
+        InlineSkin skin = new InlineSkin(fxForm);
+        fxForm.setSkin(skin);
+        // the nodes are moved, not created again
+        Assert.assertSame(editor, skin.getEditor(element));
+        Assert.assertEquals(16, skin.gridPane.getChildren().size());
+        assertRows(fxForm, skin);
+        // and they are still bound to the model
+        editor.getProperty().setValue("moved");
+        Assert.assertEquals("moved", element.getValue());
+    }
+
+    private void assertRows(FXForm<?> fxForm, InlineSkin skin) {
+        int index = 0;
+        for (ElementController controller : fxForm.getControllers()) {
+            Node editor = skin.getEditor(controller.getElement()).getNode();
+            Node tooltip = skin.getTooltip(controller.getElement()).getNode();
+            Assert.assertEquals(index * 2, (int) GridPane.getRowIndex(editor));
+            Assert.assertEquals(index * 2 + 1, (int) GridPane.getRowIndex(tooltip));
+            index++;
+        }
+        Assert.assertEquals(index * 2, skin.row);
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.dooapp.fxform.view.skin;
+
+import com.dooapp.fxform.FXForm;
+import com.dooapp.fxform.TestBean;
+import com.dooapp.fxform.controller.ElementController;
+import com.dooapp.fxform.model.Element;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Created at 19/10/26 00:14.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class NodeSkinTest {
+
+    @Test
+    public void testLookup() {
+        final TextField editor = new TextField();
+        editor.setId("stringProperty" + FXForm.EDITOR_ID_SUFFIX);
+        final Label label = new Label();
+        label.setId("stringProperty" + FXForm.LABEL_ID_SUFFIX);
+        final Label duplicate = new Label();
+        duplicate.setId("stringProperty" + FXForm.LABEL_ID_SUFFIX);
+        FXForm<Object> fxForm = new FXForm<Object>();
+        NodeSkin skin = new NodeSkin(fxForm, new Callable<Node>() {
+            public Node call() throws Exception {
+                // nested so that the index walks the whole tree, the first node for an id wins as with Node#lookup
+                HBox box = new HBox();
+                box.getChildren().addAll(label, editor);
+                VBox root = new VBox();
+                root.getChildren().addAll(box, duplicate);
+                return root;
+            }
+        });
+        fxForm.setSkin(skin);
+        fxForm.setSource(new TestBean());
+        Element element = null;
+        for (ElementController controller : fxForm.getControllers()) {
+            if ("stringProperty".equals(controller.getElement().getName())) {
+                element = controller.getElement();
+            }
+        }
+        Assert.assertNotNull(element);
+        Assert.assertSame(editor, skin.getEditor(element).getNode());
+        Assert.assertSame(label, skin.getLabel(element).getNode());
+        Assert.assertNull(skin.getTooltip(element));
+    }
+
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.dooapp.fxform.view.skin;
+
+import com.dooapp.fxform.FXForm;
+import com.dooapp.fxform.annotation.FormGroup;
+import com.dooapp.fxform.controller.ElementController;
+import com.dooapp.fxform.model.Element;
+import com.dooapp.fxform.validation.lightweight.LightweightFXFormValidator;
+import com.dooapp.fxform.view.FXFormSkin;
+import com.dooapp.fxform.view.FXFormSkinFactory;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.scene.Node;
+import javafx.scene.control.TitledPane;
+import javafx.scene.layout.GridPane;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * Created at 19/10/26 00:16.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class SectionSkinTest {
+
+    private static class GroupedBean {
+
+        private final StringProperty name = new SimpleStringProperty();
+
+        @FormGroup("address")
+        private final StringProperty street = new SimpleStringProperty();
+
+        @FormGroup("address")
+        private final StringProperty city = new SimpleStringProperty();
+
+    }
+
+    public static class ConstrainedBean {
+
+        private final StringProperty name = new SimpleStringProperty();
+
+        @FormGroup("address")
+        private final StringProperty street = new SimpleStringProperty("ab");
+
+        @Size(min = 3)
+        public String getStreet() {
+            return street.get();
+        }
+
+    }
+
+    private static class MixedBean {
+
+        @FormGroup("address")
+        private final StringProperty street = new SimpleStringProperty();
+
+        private final StringProperty name = new SimpleStringProperty();
+
+        @FormGroup("address")
+        private final StringProperty city = new SimpleStringProperty();
+
+    }
+
+    public static class OtherBean {
+
+        private final StringProperty name = new SimpleStringProperty();
+
+        @FormGroup("address")
+        private final StringProperty zip = new SimpleStringProperty();
+
+    }
+
+    @Test
+    public void testControllersCreatedOnExpand() {
+        FXForm<Object> fxForm = new FXForm<Object>();
+        SectionSkin skin = new SectionSkin(fxForm);
+        fxForm.setSkin(skin);
+        fxForm.setSource(new GroupedBean());
+        // only the member without group is bound
+        Assert.assertEquals(1, fxForm.getControllers().size());
+        TitledPane sectionPane = skin.getSectionPane("address");
+        Assert.assertNotNull(sectionPane);
+        Assert.assertTrue(sectionPane.isVisible());
+        sectionPane.setExpanded(true);
+        Assert.assertEquals(3, fxForm.getControllers().size());
+        Assert.assertEquals("name", fxForm.getControllers().get(0).getElement().getName());
+        Assert.assertEquals("street", fxForm.getControllers().get(1).getElement().getName());
+        Assert.assertEquals("city", fxForm.getControllers().get(2).getElement().getName());
+        // collapsing keeps the controllers
+        sectionPane.setExpanded(false);
+        Assert.assertEquals(3, fxForm.getControllers().size());
+        fxForm.setSource(null);
+        Assert.assertEquals(0, fxForm.getControllers().size());
+    }
+
+    @Test
+    public void testSkinSwapCreatesDeferredControllers() {
+        FXForm<Object> fxForm = new FXForm<Object>();
+        fxForm.setSkin(new SectionSkin(fxForm));
+        fxForm.setSource(new MixedBean());
+        Assert.assertEquals(1, fxForm.getControllers().size());
+        fxForm.setSkin(FXFormSkinFactory.DEFAULT_FACTORY.createSkin(fxForm));
+        Assert.assertEquals(3, fxForm.getControllers().size());
+        // the migrated nodes and the nodes of the deferred elements are displayed in the order of the form
+        FXFormSkin skin = (FXFormSkin) fxForm.getSkin();
+        List<Node> children = skin.getEditor(getElement(fxForm, "name")).getNode().getParent().getChildrenUnmodifiable();
+        int street = children.indexOf(skin.getEditor(getElement(fxForm, "street")).getNode());
+        int name = children.indexOf(skin.getEditor(getElement(fxForm, "name")).getNode());
+        int city = children.indexOf(skin.getEditor(getElement(fxForm, "city")).getNode());
+        Assert.assertTrue(street >= 0 && street < name && name < city);
+    }
+
+    @Test
+    public void testSkinSwapToInlineSkinKeepsFormOrder() {
+        FXForm<Object> fxForm = new FXForm<Object>();
+        fxForm.setSkin(new SectionSkin(fxForm));
+        fxForm.setSource(new MixedBean());
+        InlineSkin skin = new InlineSkin(fxForm);
+        fxForm.setSkin(skin);
+        Assert.assertEquals(3, fxForm.getControllers().size());
+        Assert.assertEquals(Integer.valueOf(0), GridPane.getRowIndex(skin.getEditor(getElement(fxForm, "street")).getNode()));
+        Assert.assertEquals(Integer.valueOf(2), GridPane.getRowIndex(skin.getEditor(getElement(fxForm, "name")).getNode()));
+        Assert.assertEquals(Integer.valueOf(4), GridPane.getRowIndex(skin.getEditor(getElement(fxForm, "city")).getNode()));
+    }
+
+    private static Element getElement(FXForm<?> fxForm, String name) {
+        for (ElementController controller : fxForm.getControllers()) {
+            if (controller.getElement().getName().equals(name)) {
+                return controller.getElement();
+            }
+        }
+        return null;
+    }
+
+    @Test
+    public void testDeferredElementsAreValidated() {
+        FXForm<Object> fxForm = new FXForm<Object>();
+        fxForm.setFxFormValidator(new LightweightFXFormValidator());
+        SectionSkin skin = new SectionSkin(fxForm);
+        fxForm.setSkin(skin);
+        ConstrainedBean bean = new ConstrainedBean();
+        fxForm.setSource(bean);
+        Assert.assertEquals(1, fxForm.getControllers().size());
+        // the street has no controller yet, its violation is still reported
+        Assert.assertEquals(1, fxForm.getConstraintViolations().size());
+        bean.street.set("abc");
+        Assert.assertEquals(0, fxForm.getConstraintViolations().size());
+        bean.street.set("ab");
+        Assert.assertEquals(1, fxForm.getConstraintViolations().size());
+        // once the section is built, the controller reports the violation instead of the skin
+        skin.getSectionPane("address").setExpanded(true);
+        Assert.assertEquals(2, fxForm.getControllers().size());
+        Assert.assertEquals(1, fxForm.getConstraintViolations().size());
+        bean.street.set("abc");
+        Assert.assertEquals(0, fxForm.getConstraintViolations().size());
+        bean.street.set("ab");
+        fxForm.setSource(null);
+        Assert.assertEquals(0, fxForm.getConstraintViolations().size());
+    }
+
+    @Test
+    public void testSkinSwapWithdrawsDeferredViolations() {
+        FXForm<Object> fxForm = new FXForm<Object>();
+        fxForm.setFxFormValidator(new LightweightFXFormValidator());
+        fxForm.setSkin(new SectionSkin(fxForm));
+        fxForm.setSource(new ConstrainedBean());
+        Assert.assertEquals(1, fxForm.getConstraintViolations().size());
+        fxForm.setSkin(FXFormSkinFactory.DEFAULT_FACTORY.createSkin(fxForm));
+        Assert.assertEquals(2, fxForm.getControllers().size());
+        Assert.assertEquals(1, fxForm.getConstraintViolations().size());
+    }
+
+    @Test
+    public void testSourceClassChangeDefersSectionsAgain() {
+        FXForm<Object> fxForm = new FXForm<Object>();
+        SectionSkin skin = new SectionSkin(fxForm);
+        fxForm.setSkin(skin);
+        fxForm.setSource(new GroupedBean());
+        TitledPane sectionPane = skin.getSectionPane("address");
+        sectionPane.setExpanded(true);
+        Assert.assertEquals(3, fxForm.getControllers().size());
+        sectionPane.setExpanded(false);
+        fxForm.setSource(new OtherBean());
+        // the section was built for the previous class only
+        Assert.assertEquals(1, fxForm.getControllers().size());
+        Assert.assertFalse(sectionPane.isExpanded());
+        sectionPane.setExpanded(true);
+        Assert.assertEquals(2, fxForm.getControllers().size());
+        Assert.assertEquals("zip", fxForm.getControllers().get(1).getElement().getName());
+        // a section expanded when the class changes is built right away
+        fxForm.setSource(new GroupedBean());
+        Assert.assertEquals(3, fxForm.getControllers().size());
+    }
+
+}
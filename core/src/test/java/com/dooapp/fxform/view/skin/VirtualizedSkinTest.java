@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.dooapp.fxform.view.skin;
+
+import com.dooapp.fxform.FXForm;
+import com.dooapp.fxform.JavaFXThread;
+import com.dooapp.fxform.TestBean;
+import com.dooapp.fxform.controller.ElementController;
+import com.dooapp.fxform.model.Element;
+import com.dooapp.fxform.validation.Warning;
+import com.dooapp.fxform.validation.lightweight.LightweightFXFormValidator;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.scene.Node;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.TextField;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import javax.validation.constraints.Size;
+
+/**
+ * Created at 19/10/26 00:11.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class VirtualizedSkinTest {
+
+    public static class AddressBean {
+
+        private final StringProperty code = new SimpleStringProperty("abc");
+
+        private final StringProperty street = new SimpleStringProperty();
+
+        private final StringProperty city = new SimpleStringProperty();
+
+        @Size(max = 3, groups = Warning.class)
+        public String getCode() {
+            return code.get();
+        }
+    }
+
+    @BeforeClass
+    public static void startToolkit() throws Exception {
+        JavaFXThread.start();
+    }
+
+    @Test
+    public void testNoNodesForHiddenElements() {
+        FXForm<Object> fxForm = new FXForm<Object>();
+        VirtualizedSkin skin = new VirtualizedSkin(fxForm);
+        fxForm.setSkin(skin);
+        fxForm.setSource(new TestBean());
+        Assert.assertEquals(4, fxForm.getControllers().size());
+        // the form is not displayed, so no cell requested any element
+        Assert.assertEquals(0, skin.getDisplayedElementCount());
+        for (ElementController controller : fxForm.getControllers()) {
+            Assert.assertNull(skin.getEditor(controller.getElement()));
+            Assert.assertNull(skin.getLabel(controller.getElement()));
+        }
+        fxForm.setSource(null);
+        Assert.assertEquals(0, fxForm.getControllers().size());
+    }
+
+    @Test
+    public void testCellsShowHideAndRecycleElements() throws Exception {
+        JavaFXThread.runAndWait(new Runnable() {
+            public void run() {
+                AddressBean bean = new AddressBean();
+                FXForm<Object> fxForm = new FXForm<Object>();
+                fxForm.setFxFormValidator(new LightweightFXFormValidator());
+                VirtualizedSkin skin = new VirtualizedSkin(fxForm);
+                fxForm.setSkin(skin);
+                fxForm.setSource(bean);
+                Element code = fxForm.getControllers().get(0).getElement();
+                Assert.assertEquals("code", code.getName());
+                ListView<ElementController> listView = getListView(skin);
+
+                ListCell<ElementController> cell = createCell(listView, 0);
+                Assert.assertEquals(1, skin.getDisplayedElementCount());
+                Assert.assertNotNull(cell.getGraphic());
+                TextField editor = (TextField) skin.getEditor(code).getNode();
+                Node label = skin.getLabel(code).getNode();
+                editor.setText("abcd");
+                // warnings do not prevent the update of the model
+                Assert.assertEquals("abcd", bean.getCode());
+                Assert.assertTrue(label.getStyleClass().contains(FXForm.LABEL_STYLE + FXForm.WARNING_STYLE));
+
+                // the cell is recycled for another element, the nodes of the first one are released
+                cell.updateIndex(1);
+                Assert.assertEquals(1, skin.getDisplayedElementCount());
+                Assert.assertNull(skin.getEditor(code));
+                Assert.assertNotNull(skin.getEditor(fxForm.getControllers().get(1).getElement()));
+                Assert.assertNull(editor.getParent());
+
+                // scrolled back into view, new nodes are created and restored from the model and the validator
+                ListCell<ElementController> otherCell = createCell(listView, 0);
+                Assert.assertEquals(2, skin.getDisplayedElementCount());
+                TextField newEditor = (TextField) skin.getEditor(code).getNode();
+                Node newLabel = skin.getLabel(code).getNode();
+                Assert.assertNotSame(editor, newEditor);
+                Assert.assertEquals("abcd", newEditor.getText());
+                Assert.assertTrue(newLabel.getStyleClass().contains(FXForm.LABEL_STYLE + FXForm.WARNING_STYLE));
+
+                // the cell leaves the list
+                otherCell.updateIndex(-1);
+                Assert.assertEquals(1, skin.getDisplayedElementCount());
+                Assert.assertNull(otherCell.getGraphic());
+            }
+        });
+    }
+
+    @Test
+    public void testDisposeWithDisplayedCells() throws Exception {
+        JavaFXThread.runAndWait(new Runnable() {
+            public void run() {
+                FXForm<Object> fxForm = new FXForm<Object>();
+                VirtualizedSkin skin = new VirtualizedSkin(fxForm);
+                fxForm.setSkin(skin);
+                fxForm.setSource(new AddressBean());
+                ListView<ElementController> listView = getListView(skin);
+                ListCell<ElementController> first = createCell(listView, 0);
+                ListCell<ElementController> second = createCell(listView, 1);
+                Assert.assertEquals(2, skin.getDisplayedElementCount());
+                // the controllers are disposed before the list view updates its cells
+                fxForm.setSource(null);
+                Assert.assertEquals(0, skin.getDisplayedElementCount());
+                Assert.assertNull(first.getGraphic());
+                Assert.assertNull(second.getGraphic());
+                // the cells are then updated by the list view
+                first.updateIndex(-1);
+                second.updateIndex(-1);
+                Assert.assertEquals(0, skin.getDisplayedElementCount());
+                // a new source is displayed by the same cells
+                fxForm.setSource(new AddressBean());
+                first.updateIndex(2);
+                Assert.assertEquals(1, skin.getDisplayedElementCount());
+                Assert.assertNotNull(first.getGraphic());
+            }
+        });
+    }
+
+    private static ListView<ElementController> getListView(VirtualizedSkin skin) {
+        return (ListView<ElementController>) skin.getNode().lookup(".form-virtualized-list");
+    }
+
+    /**
+     * Create a cell with the cell factory of the list view and display the element at the given index, as the list
+     * view does when the row is scrolled into view.
+     */
+    private static ListCell<ElementController> createCell(ListView<ElementController> listView, int index) {
+        ListCell<ElementController> cell = listView.getCellFactory().call(listView);
+        cell.updateListView(listView);
+        cell.updateIndex(index);
+        return cell;
+    }
+
+}
@@ -123,7 +123,7 @@ public class Demo extends Application {
      */
     private Node createSkinSelector() {
         ChoiceBox<FXFormSkinFactory> choiceBox = new ChoiceBox<FXFormSkinFactory>();
-        choiceBox.getItems().addAll(FXFormSkinFactory.DEFAULT_FACTORY, FXFormSkinFactory.INLINE_FACTORY, new FXFormSkinFactory() {
+        choiceBox.getItems().addAll(FXFormSkinFactory.DEFAULT_FACTORY, FXFormSkinFactory.INLINE_FACTORY, FXFormSkinFactory.VIRTUALIZED_FACTORY, FXFormSkinFactory.SECTION_FACTORY, new FXFormSkinFactory() {
             @Override
             public FXFormSkin createSkin(FXForm form) {
                 return new FXMLSkin(form, Demo.class.getResource("Demo_form.fxml"));
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.jfr;
+
+import com.dooapp.fxform.metrics.FormMetrics;
+import com.dooapp.fxform.model.Element;
+import jdk.jfr.EventType;
+
+/**
+ * Emits a Java Flight Recorder event for each measure of the form lifecycle:
+ * <pre>
+ * FormMetricsRegistry.setMetrics(new JfrFormMetrics());
+ * </pre>
+ * Events are in the "FXForm" category. As long as none of them is enabled in a running recording,
+ * {@link #isEnabled()} returns false and forms do not measure anything.
+ * <p/>
+ * {@link FormMetrics} is notified once an operation is done, with the duration measured by the form, and the JFR API
+ * does not allow to set the start time of an event. The events are therefore committed without calling
+ * {@link jdk.jfr.Event#begin()}: their start time is the end of the operation, their JFR duration is zero and the
+ * measured duration is recorded in their "Elapsed Time" field.
+ * <br>
+ * Created at 19/10/26 00:05.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class JfrFormMetrics implements FormMetrics {
+
+    private final EventType[] eventTypes = {
+            EventType.getEventType(FormBuildEvent.class),
+            EventType.getEventType(FormDisposeEvent.class),
+            EventType.getEventType(ElementBindEvent.class),
+            EventType.getEventType(NodesCreationEvent.class),
+            EventType.getEventType(FactoryResolutionEvent.class),
+            EventType.getEventType(AdapterResolutionEvent.class),
+            EventType.getEventType(ElementValidationEvent.class),
+            EventType.getEventType(ClassValidationEvent.class)
+    };
+
+    @Override
+    public boolean isEnabled() {
+        for (EventType eventType : eventTypes) {
+            if (eventType.isEnabled()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void formBuilt(Class<?> beanClass, int elementCount, long duration) {
+        FormBuildEvent event = new FormBuildEvent();
+        if (event.isEnabled()) {
+            event.beanClass = beanClass;
+            event.elementCount = elementCount;
+            event.elapsed = duration;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void formDisposed(Class<?> beanClass, int elementCount, long duration) {
+        FormDisposeEvent event = new FormDisposeEvent();
+        if (event.isEnabled()) {
+            event.beanClass = beanClass;
+            event.elementCount = elementCount;
+            event.elapsed = duration;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void elementBound(Element element, long duration) {
+        ElementBindEvent event = new ElementBindEvent();
+        if (event.isEnabled()) {
+            event.elementName = element.getName();
+            event.beanClass = beanClassOf(element);
+            event.elapsed = duration;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void nodesCreated(Element element, long duration) {
+        NodesCreationEvent event = new NodesCreationEvent();
+        if (event.isEnabled()) {
+            event.elementName = element.getName();
+            event.beanClass = beanClassOf(element);
+            event.elapsed = duration;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void factoryResolved(Element element, long duration) {
+        FactoryResolutionEvent event = new FactoryResolutionEvent();
+        if (event.isEnabled()) {
+            event.elementName = element.getName();
+            event.beanClass = beanClassOf(element);
+            event.elapsed = duration;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void adapterResolved(Element element, boolean cacheHit, long duration) {
+        AdapterResolutionEvent event = new AdapterResolutionEvent();
+        if (event.isEnabled()) {
+            event.elementName = element.getName();
+            event.beanClass = beanClassOf(element);
+            event.cacheHit = cacheHit;
+            event.elapsed = duration;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void elementValidated(Element element, int violationCount, long duration) {
+        ElementValidationEvent event = new ElementValidationEvent();
+        if (event.isEnabled()) {
+            event.elementName = element.getName();
+            event.beanClass = beanClassOf(element);
+            event.violationCount = violationCount;
+            event.elapsed = duration;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void classValidated(Class<?> beanClass, int violationCount, long duration) {
+        ClassValidationEvent event = new ClassValidationEvent();
+        if (event.isEnabled()) {
+            event.beanClass = beanClass;
+            event.violationCount = violationCount;
+            event.elapsed = duration;
+            event.commit();
+        }
+    }
+
+    private static Class<?> beanClassOf(Element element) {
+        Object bean = element.getBean();
+        return bean == null ? null : bean.getClass();
+    }
+
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2013, dooApp <contact@dooapp.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ * Neither the name of dooApp nor the names of its contributors may be used to endorse or promote products derived from this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.dooapp.fxform.jfr;
+
+import com.dooapp.fxform.HeadlessForm;
+import com.dooapp.fxform.metrics.FormMetricsRegistry;
+import com.dooapp.fxform.model.Element;
+import com.dooapp.fxform.model.impl.PropertyFieldElement;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Created at 19/10/26 00:05.<br>
+ *
+ * @author agent <agent@local>
+ */
+public class JfrFormMetricsTest {
+
+    public static class TestBean {
+
+        private final StringProperty name = new SimpleStringProperty();
+
+        @NotNull
+        @Size(min = 3)
+        public String getName() {
+            return name.get();
+        }
+
+    }
+
+    private final JfrFormMetrics metrics = new JfrFormMetrics();
+
+    @After
+    public void resetRegistry() {
+        FormMetricsRegistry.setMetrics(null);
+    }
+
+    @Test
+    public void testRecordedEvents() throws Exception {
+        Element element = new PropertyFieldElement(TestBean.class.getDeclaredField("name"));
+        element.sourceProperty().set(new TestBean());
+        Assert.assertFalse(metrics.isEnabled());
+        Path file = Files.createTempFile("fxform", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                recording.enable(FormBuildEvent.class);
+                recording.enable(FormDisposeEvent.class);
+                recording.enable(ElementBindEvent.class);
+                recording.enable(NodesCreationEvent.class);
+                recording.enable(FactoryResolutionEvent.class);
+                recording.enable(AdapterResolutionEvent.class);
+                recording.enable(ElementValidationEvent.class);
+                recording.enable(ClassValidationEvent.class);
+                recording.start();
+                Assert.assertTrue(metrics.isEnabled());
+                metrics.formBuilt(TestBean.class, 1, 1000);
+                metrics.elementBound(element, 200);
+                metrics.nodesCreated(element, 150);
+                metrics.factoryResolved(element, 20);
+                metrics.adapterResolved(element, true, 30);
+                metrics.elementValidated(element, 2, 400);
+                metrics.classValidated(TestBean.class, 1, 500);
+                metrics.formDisposed(TestBean.class, 1, 600);
+                recording.stop();
+                recording.dump(file);
+            }
+            Assert.assertFalse(metrics.isEnabled());
+            Map<String, RecordedEvent> events = new HashMap<String, RecordedEvent>();
+            List<RecordedEvent> recordedEvents = RecordingFile.readAllEvents(file);
+            for (RecordedEvent event : recordedEvents) {
+                events.put(event.getEventType().getName(), event);
+            }
+            Assert.assertEquals(8, recordedEvents.size());
+
+            RecordedEvent build = events.get("com.dooapp.fxform.FormBuild");
+            Assert.assertEquals(TestBean.class.getName(), build.getClass("beanClass").getName());
+            Assert.assertEquals(1, build.getInt("elementCount"));
+            Assert.assertEquals(1000, build.getDuration("elapsed").toNanos());
+
+            RecordedEvent bind = events.get("com.dooapp.fxform.ElementBind");
+            Assert.assertEquals("name", bind.getString("elementName"));
+            Assert.assertEquals(TestBean.class.getName(), bind.getClass("beanClass").getName());
+
+            RecordedEvent nodes = events.get("com.dooapp.fxform.NodesCreation");
+            Assert.assertEquals("name", nodes.getString("elementName"));
+            Assert.assertEquals(150, nodes.getDuration("elapsed").toNanos());
+
+            RecordedEvent factory = events.get("com.dooapp.fxform.FactoryResolution");
+            Assert.assertEquals(20, factory.getDuration("elapsed").toNanos());
+
+            RecordedEvent adapter = events.get("com.dooapp.fxform.AdapterResolution");
+            Assert.assertTrue(adapter.getBoolean("cacheHit"));
+            Assert.assertEquals(30, adapter.getDuration("elapsed").toNanos());
+
+            RecordedEvent validation = events.get("com.dooapp.fxform.ElementValidation");
+            Assert.assertEquals("name", validation.getString("elementName"));
+            Assert.assertEquals(2, validation.getInt("violationCount"));
+
+            RecordedEvent classValidation = events.get("com.dooapp.fxform.ClassValidation");
+            Assert.assertEquals(1, classValidation.getInt("violationCount"));
+
+            RecordedEvent dispose = events.get("com.dooapp.fxform.FormDispose");
+            Assert.assertEquals(600, dispose.getDuration("elapsed").toNanos());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testFormValidationEvents() throws Exception {
+        FormMetricsRegistry.setMetrics(metrics);
+        HeadlessForm<TestBean> form = new HeadlessForm<TestBean>(new TestBean());
+        Path file = Files.createTempFile("fxform", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                recording.enable(ElementValidationEvent.class);
+                recording.start();
+                form.validate();
+                form.setText("name", "ab");
+                form.setText("name", "abc");
+                recording.stop();
+                recording.dump(file);
+            }
+            List<Integer> violationCounts = new ArrayList<Integer>();
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                Assert.assertEquals("com.dooapp.fxform.ElementValidation", event.getEventType().getName());
+                Assert.assertEquals("name", event.getString("elementName"));
+                Assert.assertEquals(TestBean.class.getName(), event.getClass("beanClass").getName());
+                Assert.assertTrue(event.getDuration("elapsed").toNanos() > 0);
+                violationCounts.add(event.getInt("violationCount"));
+            }
+            // null value, too short, valid
+            Assert.assertEquals(Arrays.asList(1, 1, 0), violationCounts);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+}